@@ -6,6 +6,8 @@ import com.google.inject.Inject;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
 import io.dropwizard.hibernate.UnitOfWork;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author CWDS TPT-2
@@ -22,4 +24,18 @@ public class AuditEventService implements ChangedEntityService<AuditEventChanged
     return new AuditEventChangedDto(dao.find(identifier.getId()));
   }
 
+  /**
+   * Reads the chunk in one read-only session and transaction instead of one per event.
+   */
+  @Override
+  @UnitOfWork(value = NS, readOnly = true)
+  public List<AuditEventChangedDto> loadEntities(List<ChangedEntityIdentifier> identifiers) {
+    List<AuditEventChangedDto> auditEvents = new ArrayList<>(identifiers.size());
+    for (ChangedEntityIdentifier identifier : identifiers) {
+      auditEvents.add(new AuditEventChangedDto(dao.find(identifier.getId())));
+      dao.clearSession();
+    }
+    return auditEvents;
+  }
+
 }
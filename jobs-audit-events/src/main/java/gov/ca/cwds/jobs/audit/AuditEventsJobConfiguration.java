@@ -2,9 +2,10 @@ package gov.ca.cwds.jobs.audit;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
 import gov.ca.cwds.jobs.common.configuration.MultiThreadConfiguration;
+import gov.ca.cwds.jobs.common.configuration.SavePointStorageConfiguration;
 import gov.ca.cwds.jobs.common.elastic.ElasticsearchConfiguration;
-import io.dropwizard.db.DataSourceFactory;
 import javax.validation.Valid;
 
 public class AuditEventsJobConfiguration implements JobConfiguration {
@@ -12,11 +13,14 @@ public class AuditEventsJobConfiguration implements JobConfiguration {
   @Valid
   private ElasticsearchConfiguration elasticsearch;
 
-  private DataSourceFactory nsDataSourceFactory;
+  private JobDataSourceFactory nsDataSourceFactory;
 
   @Valid
   private MultiThreadConfiguration multiThread;
 
+  @Valid
+  private SavePointStorageConfiguration savePointStorage;
+
   @JsonProperty
   public ElasticsearchConfiguration getElasticsearch() {
     return elasticsearch;
@@ -27,11 +31,11 @@ public class AuditEventsJobConfiguration implements JobConfiguration {
   }
 
   @JsonProperty
-  public DataSourceFactory getNsDataSourceFactory() {
+  public JobDataSourceFactory getNsDataSourceFactory() {
     return nsDataSourceFactory;
   }
 
-  public void setNsDataSourceFactory(DataSourceFactory nsDataSourceFactory) {
+  public void setNsDataSourceFactory(JobDataSourceFactory nsDataSourceFactory) {
     this.nsDataSourceFactory = nsDataSourceFactory;
   }
 
@@ -44,5 +48,13 @@ public class AuditEventsJobConfiguration implements JobConfiguration {
     this.multiThread = multiThread;
   }
 
+  @JsonProperty
+  public SavePointStorageConfiguration getSavePointStorage() {
+    return savePointStorage;
+  }
+
+  public void setSavePointStorage(SavePointStorageConfiguration savePointStorage) {
+    this.savePointStorage = savePointStorage;
+  }
 
 }
@@ -13,13 +13,15 @@ import gov.ca.cwds.jobs.common.BulkWriter;
 import gov.ca.cwds.jobs.common.core.Job;
 import gov.ca.cwds.jobs.common.elastic.ElasticsearchAliasFinalizerProvider;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
-import gov.ca.cwds.jobs.common.identifier.ChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
 import gov.ca.cwds.jobs.common.inject.BaseContainerService;
 import gov.ca.cwds.jobs.common.inject.PrimaryContainerService;
 import gov.ca.cwds.jobs.common.inject.PrimaryFinalizer;
 import gov.ca.cwds.jobs.common.inject.SecondaryFinalizer;
+import gov.ca.cwds.jobs.common.inject.TimeWindowReindex;
 import gov.ca.cwds.jobs.common.iterator.JobBatchIterator;
-import gov.ca.cwds.jobs.common.iterator.LocalDateTimeJobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.LocalDateTimeKeysetJobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.LocalDateTimeWindowJobBatchIterator;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.mode.JobModeFinalizer;
 import gov.ca.cwds.jobs.common.mode.JobModeService;
@@ -83,8 +85,9 @@ public class AuditEventsJobModule extends AbstractModule {
     bind(new TypeLiteral<ChangedEntityService<AuditEventChangedDto>>() {
     }).toProvider(AuditEventServiceProvider.class);
     bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
-    }).to(LocalDateTimeJobBatchIterator.class);
-    install(new NsDataAccessModule(configuration.getNsDataSourceFactory()));
+    }).to(LocalDateTimeKeysetJobBatchIterator.class);
+    install(new NsDataAccessModule(configuration.getNsDataSourceFactory(),
+        configuration.getMultiThread().getReaderThreadsCount()));
     bindJobModeImplementor();
   }
 
@@ -97,15 +100,22 @@ public class AuditEventsJobModule extends AbstractModule {
         bind(JobModeFinalizer.class).annotatedWith(PrimaryFinalizer.class)
             .toProvider(primaryJobFinalizerProviderClass);
         bind(
-            new TypeLiteral<ChangedEntitiesIdentifiersService<LocalDateTime>>() {
+            new TypeLiteral<KeysetChangedEntitiesIdentifiersService<LocalDateTime>>() {
             }).toProvider(InitialModeAuditEventIdentifiersServiceProvider.class);
         break;
       case INCREMENTAL_LOAD:
         bind(JobModeFinalizer.class).annotatedWith(PrimaryFinalizer.class).toInstance(() -> {
         });
         bind(
-            new TypeLiteral<ChangedEntitiesIdentifiersService<LocalDateTime>>() {
+            new TypeLiteral<KeysetChangedEntitiesIdentifiersService<LocalDateTime>>() {
             }).toProvider(IncrementalModeAuditEventIdentifiersServiceProvider.class);
+        bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
+        }).annotatedWith(TimeWindowReindex.class).to(LocalDateTimeWindowJobBatchIterator.class);
+        // reindexed window includes the events already marked processed
+        bind(
+            new TypeLiteral<KeysetChangedEntitiesIdentifiersService<LocalDateTime>>() {
+            }).annotatedWith(TimeWindowReindex.class)
+            .toProvider(InitialModeAuditEventIdentifiersServiceProvider.class);
         break;
       default:
         throw new IllegalStateException(String.format("Unknown job mode %s", jobMode));
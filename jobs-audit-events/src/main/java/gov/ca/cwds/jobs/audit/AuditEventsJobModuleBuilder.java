@@ -9,7 +9,10 @@ import gov.ca.cwds.jobs.common.inject.JobModule;
 import gov.ca.cwds.jobs.common.inject.MultiThreadModule;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.mode.LocalDateTimeJobModeService;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
 import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePointContainerService;
+import gov.ca.cwds.jobs.common.savepoint.SavePointJournal;
+import gov.ca.cwds.jobs.common.savepoint.SavePointStore;
 
 /**
  * Created by Alexander Serbin on 11/20/2018
@@ -17,8 +20,7 @@ import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePointContainerService;
 public class AuditEventsJobModuleBuilder implements JobModuleBuilder {
 
   @Override
-  public JobModule buildJobModule(String[] args, boolean elasticSearchModule) {
-    JobOptions jobOptions = JobOptions.parseCommandLine(args);
+  public JobModule buildJobModule(JobOptions jobOptions, boolean elasticSearchModule) {
     AuditEventsJobConfiguration jobConfiguration = JobConfiguration
         .getJobsConfiguration(AuditEventsJobConfiguration.class,
             jobOptions.getConfigFileLocation());
@@ -26,7 +28,12 @@ public class AuditEventsJobModuleBuilder implements JobModuleBuilder {
     ElasticsearchConfiguration elasticsearchConfiguration = jobConfiguration.getElasticsearch();
     elasticsearchConfiguration.setIndexSettings("audit.events.settings.json");
     elasticsearchConfiguration.setDocumentMapping("audit.events.mapping.json");
+    SavePointStore
+        .configure(jobConfiguration.getSavePointStorage(), elasticsearchConfiguration);
+    new SavePointJournal(jobOptions.getLastRunLoc()).rewind(jobOptions);
     JobMode jobMode = getJobMode(jobOptions.getLastRunLoc());
+    jobModule.setJobMode(jobMode);
+    jobModule.setReindexTarget(ReindexTarget.of(jobOptions, jobMode));
     if (elasticSearchModule) {
       jobModule
           .addModule(new ElasticSearchModule(elasticsearchConfiguration, jobMode,
@@ -8,8 +8,7 @@ import gov.ca.cwds.jobs.common.core.JobRunner;
 public class AuditEventsJobRunner {
 
   public static void main(String[] args) {
-    AuditEventsJobModuleBuilder jobModuleBuilder = new AuditEventsJobModuleBuilder();
-    JobRunner.run(jobModuleBuilder.buildJobModule(args, true));
+    JobRunner.run(new AuditEventsJobModuleBuilder(), args);
   }
 
 }
@@ -3,13 +3,17 @@ package gov.ca.cwds.jobs.audit;
 import com.google.inject.Inject;
 import gov.ca.cwds.idm.persistence.ns.entity.NsAuditEvent;
 import gov.ca.cwds.jobs.audit.inject.NsSessionFactory;
+import gov.ca.cwds.jobs.common.batch.JobBatchSize;
 import gov.ca.cwds.jobs.common.dao.CustomDao;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.LocalDateTimeIdentifiers;
+import gov.ca.cwds.jobs.common.inject.FetchSize;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import gov.ca.cwds.jobs.common.util.ScrollableResultsUtil;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import org.hibernate.SessionFactory;
+import org.hibernate.type.StringType;
 
 /**
  * Created by Alexander Serbin on 10/15/2019
@@ -18,99 +22,62 @@ public class NsAuditEventDao extends CustomDao {
 
   private static final String DATE_AFTER = "dateAfter";
   private static final String DATE_BEFORE = "dateBefore";
+  private static final String IDENTIFIER_AFTER = "identifierAfter";
 
   private static final String ORDER_BY_CLAUSE = " order by entity.eventTimestamp, entity.id";
 
-  private static final String GET_NEXT_SAVEPOINT_QUERY_BASE =
-      "select entity.eventTimestamp from NsAuditEvent entity "
-          + " where entity.eventTimestamp > :" + DATE_AFTER;
-
   private static final String NOT_PROCESSED_ONLY = " and entity.processed = false";
 
-  private static final String GET_IDENTIFIERS_BASE =
+  private static final String GET_IDENTIFIERS_AFTER_KEY_BASE =
       "select new gov.ca.cwds.jobs.audit.identifier.AuditEventIdentifier(entity.id, entity.eventTimestamp) "
           + " from NsAuditEvent entity"
-          + " where entity.eventTimestamp > :" + DATE_AFTER;
-
-  private static final String BEFORE_CLAUSE =
-      " and entity.eventTimestamp < :" + DATE_BEFORE;
+          + " where entity.eventTimestamp >= :" + DATE_AFTER
+          + " and (entity.eventTimestamp > :" + DATE_AFTER
+          + " or entity.id > :" + IDENTIFIER_AFTER + ")";
 
   private static final String MARK_PROCESSED_QUERY =
       "update NsAuditEvent set processed = 'true' where eventTimestamp < :" + DATE_BEFORE;
 
 
+  @Inject
+  @JobBatchSize
+  private int batchSize;
+
+  @Inject
+  @FetchSize
+  private int fetchSize;
+
   @Inject
   public NsAuditEventDao(@NsSessionFactory SessionFactory sessionFactory) {
     super(sessionFactory);
   }
 
-  public Optional<LocalDateTime> getNextSavePoint(LocalDateTime timestamp,
-      int batchSize) {
-    return currentSession()
-        .createQuery(GET_NEXT_SAVEPOINT_QUERY_BASE + ORDER_BY_CLAUSE, LocalDateTime.class)
-        .setParameter(DATE_AFTER, timestamp)
-        .setMaxResults(1)
-        .setFirstResult(batchSize - 1)
-        .setReadOnly(true).uniqueResultOptional();
-  }
-
-  public Optional<LocalDateTime> getFirstChangedTimestampAfterSavepoint(
-      LocalDateTime timestamp) {
-    return currentSession()
-        .createQuery(GET_NEXT_SAVEPOINT_QUERY_BASE + ORDER_BY_CLAUSE, LocalDateTime.class)
-        .setParameter(DATE_AFTER, timestamp)
-        .setMaxResults(1)
-        .setFirstResult(0)
-        .setReadOnly(true).uniqueResultOptional();
+  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiersAfterKey(
+      LocalDateTime afterTimestamp, String afterIdentifier) {
+    return getIdentifiersAfterKey(GET_IDENTIFIERS_AFTER_KEY_BASE + ORDER_BY_CLAUSE,
+        afterTimestamp, afterIdentifier);
   }
 
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiers(
-      LocalDateTime afterTimestamp, LocalDateTime beforeTimestamp) {
-    return currentSession().createQuery(GET_IDENTIFIERS_BASE + BEFORE_CLAUSE + ORDER_BY_CLAUSE)
-        .setParameter(DATE_AFTER, afterTimestamp)
-        .setParameter(DATE_BEFORE, beforeTimestamp)
-        .setReadOnly(true).list();
+  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getUnprocessedIdentifiersAfterKey(
+      LocalDateTime afterTimestamp, String afterIdentifier) {
+    return getIdentifiersAfterKey(
+        GET_IDENTIFIERS_AFTER_KEY_BASE + NOT_PROCESSED_ONLY + ORDER_BY_CLAUSE,
+        afterTimestamp, afterIdentifier);
   }
 
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiers(
-      LocalDateTime afterTimestamp) {
-    return currentSession().createQuery(GET_IDENTIFIERS_BASE + ORDER_BY_CLAUSE)
-        .setParameter(DATE_AFTER, afterTimestamp)
-        .setReadOnly(true).list();
+  private List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiersAfterKey(
+      String query, LocalDateTime afterTimestamp, String afterIdentifier) {
+    return ScrollableResultsUtil.collect(
+        currentSession().createQuery(query)
+            .setParameter(DATE_AFTER, afterTimestamp)
+            .setParameter(IDENTIFIER_AFTER, afterIdentifier, StringType.INSTANCE)
+            .setMaxResults(batchSize), fetchSize, new LocalDateTimeIdentifiers(batchSize));
   }
 
   public NsAuditEvent find(String eventId) {
     return currentSession().find(NsAuditEvent.class, eventId);
   }
 
-  public Optional<LocalDateTime> getFirstUnprocessedChangedTimestampAfterSavepoint(
-      LocalDateTime timestamp) {
-    return currentSession()
-        .createQuery(GET_NEXT_SAVEPOINT_QUERY_BASE + NOT_PROCESSED_ONLY + ORDER_BY_CLAUSE,
-            LocalDateTime.class)
-        .setParameter(DATE_AFTER, timestamp)
-        .setMaxResults(1)
-        .setFirstResult(0)
-        .setReadOnly(true).uniqueResultOptional();
-  }
-
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getUnprocessedIdentifiers(
-      LocalDateTime afterTimestamp, LocalDateTime beforeTimestamp) {
-    return currentSession()
-        .createQuery(GET_IDENTIFIERS_BASE + BEFORE_CLAUSE + NOT_PROCESSED_ONLY + ORDER_BY_CLAUSE)
-        .setParameter(DATE_AFTER, afterTimestamp)
-        .setParameter(DATE_BEFORE, beforeTimestamp)
-        .setReadOnly(true).list();
-  }
-
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getUnprocessedIdentifiersAfter(
-      LocalDateTime afterTimestamp) {
-    return currentSession().createQuery(GET_IDENTIFIERS_BASE + NOT_PROCESSED_ONLY + ORDER_BY_CLAUSE)
-        .setParameter(DATE_AFTER, afterTimestamp)
-        .setReadOnly(true).list();
-  }
-
-
   public void markAllBeforeTimeStampAsProcessed(LocalDateTime timeStamp) {
     currentSession().createQuery(MARK_PROCESSED_QUERY)
         .setParameter(DATE_BEFORE, timeStamp)
@@ -9,7 +9,6 @@ import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
 import io.dropwizard.hibernate.UnitOfWork;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public class IncrementalModeAuditEventIdentifiersService extends AuditEventIdentifiersService {
 
@@ -17,27 +16,10 @@ public class IncrementalModeAuditEventIdentifiersService extends AuditEventIdent
   @Inject
   private NsAuditEventDao dao;
 
-  @UnitOfWork(NS)
+  @UnitOfWork(value = NS, readOnly = true)
   @Override
-  protected Optional<LocalDateTime> findNextSavePoint(LocalDateTime timestamp, int batchSize) {
-    return dao.getNextSavePoint(timestamp, batchSize);
-  }
-
-  @UnitOfWork(NS)
-  @Override
-  Optional<LocalDateTime> findFirstChangedTimestampAfterSavepoint(
-      TimestampSavePoint<LocalDateTime> savePoint) {
-    return dao.getFirstUnprocessedChangedTimestampAfterSavepoint(savePoint.getTimestamp());
-  }
-
-  @UnitOfWork(NS)
-  @Override
-  List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getAuditEventIdentifiers(
-      LocalDateTime previousTimestamp, Optional<TimestampSavePoint<LocalDateTime>> nextTimestamp) {
-    if (nextTimestamp.isPresent()) {
-      return dao.getUnprocessedIdentifiers(previousTimestamp, nextTimestamp.get().getTimestamp());
-    } else {
-      return dao.getUnprocessedIdentifiersAfter(previousTimestamp);
-    }
+  List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getAuditEventIdentifiersAfter(
+      LocalDateTime timestamp, String identifier) {
+    return dao.getUnprocessedIdentifiersAfterKey(timestamp, identifier);
   }
 }
\ No newline at end of file
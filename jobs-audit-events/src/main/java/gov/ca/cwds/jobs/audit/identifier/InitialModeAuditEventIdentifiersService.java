@@ -9,34 +9,16 @@ import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
 import io.dropwizard.hibernate.UnitOfWork;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public class InitialModeAuditEventIdentifiersService extends AuditEventIdentifiersService {
 
   @Inject
   private NsAuditEventDao dao;
 
-  @UnitOfWork(NS)
+  @UnitOfWork(value = NS, readOnly = true)
   @Override
-  Optional<LocalDateTime> findNextSavePoint(LocalDateTime timestamp, int batchSize) {
-    return dao.getNextSavePoint(timestamp, batchSize);
-  }
-
-  @UnitOfWork(NS)
-  @Override
-  Optional<LocalDateTime> findFirstChangedTimestampAfterSavepoint(
-      TimestampSavePoint<LocalDateTime> savePoint) {
-    return dao.getFirstChangedTimestampAfterSavepoint(savePoint.getTimestamp());
-  }
-
-  @UnitOfWork(NS)
-  @Override
-  List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getAuditEventIdentifiers(
-      LocalDateTime previousTimestamp, Optional<TimestampSavePoint<LocalDateTime>> nextTimestamp) {
-    if (nextTimestamp.isPresent()) {
-      return dao.getIdentifiers(previousTimestamp, nextTimestamp.get().getTimestamp());
-    } else {
-      return dao.getIdentifiers(previousTimestamp);
-    }
+  List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getAuditEventIdentifiersAfter(
+      LocalDateTime timestamp, String identifier) {
+    return dao.getIdentifiersAfterKey(timestamp, identifier);
   }
 }
\ No newline at end of file
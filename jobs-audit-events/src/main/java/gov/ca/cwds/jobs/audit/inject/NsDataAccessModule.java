@@ -6,6 +6,7 @@ import com.google.inject.Provides;
 import gov.ca.cwds.idm.persistence.ns.entity.NsAuditEvent;
 import gov.ca.cwds.jobs.audit.NsAuditEventDao;
 import gov.ca.cwds.jobs.common.inject.DataAccessModule;
+import gov.ca.cwds.jobs.common.util.SessionFactoryParameters;
 import io.dropwizard.db.DataSourceFactory;
 import io.dropwizard.hibernate.UnitOfWorkAwareProxyFactory;
 import org.hibernate.SessionFactory;
@@ -19,8 +20,9 @@ public class NsDataAccessModule extends DataAccessModule {
           NsAuditEvent.class
       ).build();
 
-  public NsDataAccessModule(DataSourceFactory dataSourceFactory) {
-    super(dataSourceFactory, NS, nsEntityClasses);
+  public NsDataAccessModule(DataSourceFactory dataSourceFactory, int readerThreadsCount) {
+    super(new SessionFactoryParameters(dataSourceFactory, NS, nsEntityClasses)
+        .withReaderThreadsCount(readerThreadsCount));
   }
 
   @Override
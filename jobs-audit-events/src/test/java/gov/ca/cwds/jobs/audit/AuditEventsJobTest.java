@@ -14,6 +14,7 @@ import gov.ca.cwds.jobs.common.inject.IndexName;
 import gov.ca.cwds.jobs.common.inject.JobModule;
 import gov.ca.cwds.jobs.common.inject.MultiThreadModule;
 import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
 import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePointContainer;
 import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePointContainerService;
 import gov.ca.cwds.jobs.common.util.LastRunDirHelper;
@@ -24,7 +25,10 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import liquibase.exception.LiquibaseException;
@@ -56,6 +60,7 @@ public class AuditEventsJobTest {
       testInitialLoad();
       testInitialResumeLoad();
       testAllItemsAreMarkedProcessedAfterInitialDone();
+      testTimeWindowReindexIncludesProcessedEvents();
       testIncrementalLoad();
       testInitialWithNewData();
     } finally {
@@ -74,13 +79,14 @@ public class AuditEventsJobTest {
     assertEquals(INCREMENTAL_LOAD, savePointContainer.getJobMode());
   }
 
-  private void runLoad(JobMode jobMode) {
-    JobOptions jobOptions = JobOptions.parseCommandLine(getModuleArgs());
+  private void runLoad(JobMode jobMode, String... reindexArgs) {
+    JobOptions jobOptions = JobOptions.parseCommandLine(getModuleArgs(reindexArgs));
     AuditEventsJobConfiguration jobConfiguration = JobConfiguration
         .getJobsConfiguration(AuditEventsJobConfiguration.class,
             jobOptions.getConfigFileLocation());
     JobModule jobModule = new JobModule(jobOptions.getLastRunLoc());
     jobModule.addModules(new MultiThreadModule(jobConfiguration.getMultiThread()));
+    jobModule.setReindexTarget(ReindexTarget.of(jobOptions, jobMode));
     AuditEventsJobModule auditEventsJobModule = new TestAuditEventsJobModule(jobConfiguration,
         jobMode);
     auditEventsJobModule.setAuditEventWriterClass(AuditEventTestWriter.class);
@@ -107,6 +113,7 @@ public class AuditEventsJobTest {
         .readSavePointContainer(LocalDateTimeSavePointContainer.class);
     container.setJobMode(jobMode);
     container.getSavePoint().setTimestamp(savepoint);
+    container.getSavePoint().setIdentifier(null);
     savePointContainerService.writeSavePointContainer(container);
   }
 
@@ -117,6 +124,19 @@ public class AuditEventsJobTest {
   }
 
 
+  private void testTimeWindowReindexIncludesProcessedEvents() {
+    LocalDateTime savePoint = savePointContainerService
+        .readSavePointContainer(LocalDateTimeSavePointContainer.class).getSavePoint()
+        .getTimestamp();
+    runLoad(INCREMENTAL_LOAD, "-f", "2001-01-01 00:00:00");
+    assertEquals(2, AuditEventTestWriter.getItems().size());
+    getAuditEventById("2");
+    getAuditEventById("3");
+    assertEquals(savePoint, savePointContainerService
+        .readSavePointContainer(LocalDateTimeSavePointContainer.class).getSavePoint()
+        .getTimestamp());
+  }
+
   private void testInitialWithNewData() throws IOException {
     lastRunDirHelper.deleteSavePointContainerFolder();
     runLoad(INITIAL_LOAD);
@@ -145,9 +165,11 @@ public class AuditEventsJobTest {
 
   }
 
-  private String[] getModuleArgs() {
-    return new String[]{"-c", getConfigFilePath(), "-l",
-        lastRunDirHelper.getSavepointContainerFolder().toString()};
+  private String[] getModuleArgs(String... reindexArgs) {
+    List<String> args = new ArrayList<>(Arrays.asList("-c", getConfigFilePath(), "-l",
+        lastRunDirHelper.getSavepointContainerFolder().toString()));
+    args.addAll(Arrays.asList(reindexArgs));
+    return args.toArray(new String[0]);
   }
 
   private static String getConfigFilePath() {
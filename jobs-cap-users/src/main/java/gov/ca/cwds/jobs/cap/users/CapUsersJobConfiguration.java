@@ -2,8 +2,10 @@ package gov.ca.cwds.jobs.cap.users;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
+import gov.ca.cwds.jobs.common.configuration.SavePointStorageConfiguration;
 import gov.ca.cwds.jobs.common.elastic.ElasticsearchConfiguration;
-import io.dropwizard.db.DataSourceFactory;
+import javax.validation.Valid;
 
 public class CapUsersJobConfiguration implements JobConfiguration {
 
@@ -19,10 +21,13 @@ public class CapUsersJobConfiguration implements JobConfiguration {
 
   private int elasticSearchBulkSize;
 
-  private DataSourceFactory cmsDataSourceFactory;
+  private JobDataSourceFactory cmsDataSourceFactory;
 
   private ElasticsearchConfiguration elasticsearch;
 
+  @Valid
+  private SavePointStorageConfiguration savePointStorage;
+
   public String getPerryApiUrl() {
     return perryApiUrl;
   }
@@ -88,11 +93,11 @@ public class CapUsersJobConfiguration implements JobConfiguration {
   }
 
   @JsonProperty
-  public DataSourceFactory getCmsDataSourceFactory() {
+  public JobDataSourceFactory getCmsDataSourceFactory() {
     return cmsDataSourceFactory;
   }
 
-  public void setCmsDataSourceFactory(DataSourceFactory cmsDataSourceFactory) {
+  public void setCmsDataSourceFactory(JobDataSourceFactory cmsDataSourceFactory) {
     this.cmsDataSourceFactory = cmsDataSourceFactory;
   }
 
@@ -105,4 +110,13 @@ public class CapUsersJobConfiguration implements JobConfiguration {
     this.elasticsearch = elasticsearch;
   }
 
+  @JsonProperty
+  public SavePointStorageConfiguration getSavePointStorage() {
+    return savePointStorage;
+  }
+
+  public void setSavePointStorage(SavePointStorageConfiguration savePointStorage) {
+    this.savePointStorage = savePointStorage;
+  }
+
 }
@@ -6,9 +6,11 @@ import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
 import gov.ca.cwds.jobs.common.configuration.JobOptions;
 import gov.ca.cwds.jobs.common.core.JobModuleBuilder;
 import gov.ca.cwds.jobs.common.elastic.ElasticsearchConfiguration;
+import gov.ca.cwds.jobs.common.exception.JobsException;
 import gov.ca.cwds.jobs.common.inject.ElasticSearchModule;
 import gov.ca.cwds.jobs.common.inject.JobModule;
 import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.common.savepoint.SavePointStore;
 
 /**
  * Created by Alexander Serbin on 11/20/2018
@@ -16,15 +18,20 @@ import gov.ca.cwds.jobs.common.mode.JobMode;
 public class CapUsersJobModuleBuilder implements JobModuleBuilder {
 
   @Override
-  public JobModule buildJobModule(String[] args, boolean elasticSearchModule) {
-    JobOptions jobOptions = JobOptions.parseCommandLine(args);
+  public JobModule buildJobModule(JobOptions jobOptions, boolean elasticSearchModule) {
+    if (jobOptions.isTargetedReindex()) {
+      throw new JobsException("CAP users job doesn't support targeted reindex");
+    }
     CapUsersJobConfiguration jobConfiguration = JobConfiguration
         .getJobsConfiguration(CapUsersJobConfiguration.class, jobOptions.getConfigFileLocation());
     JobModule jobModule = new JobModule(jobOptions.getLastRunLoc());
     ElasticsearchConfiguration elasticsearchConfiguration = jobConfiguration.getElasticsearch();
     elasticsearchConfiguration.setIndexSettings("cap.users.settings.json");
     elasticsearchConfiguration.setDocumentMapping("cap.users.mapping.json");
+    SavePointStore
+        .configure(jobConfiguration.getSavePointStorage(), elasticsearchConfiguration);
     JobMode jobMode = getCurrentJobMode(jobOptions.getLastRunLoc());
+    jobModule.setJobMode(jobMode);
     if (elasticSearchModule) {
       jobModule.addModule(new ElasticSearchModule(elasticsearchConfiguration, jobMode,
           new CapUsersSavePointContainerService(jobOptions.getLastRunLoc())));
@@ -0,0 +1,52 @@
+package gov.ca.cwds.jobs.cap.users.dao;
+
+import gov.ca.cwds.jobs.cap.users.entity.CwsOffice;
+import gov.ca.cwds.jobs.cap.users.entity.StaffPerson;
+import gov.ca.cwds.jobs.cap.users.entity.UserId;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Per table RACFID change detection queries, each one is a range scan of the table's last
+ * updated time bound to its own save point timestamp.
+ *
+ * @author CWDS TPT-2
+ */
+public enum CwsUsersChangesQuery {
+
+  USER_ID(UserId.CHANGED_RACFIDS_QUERY_NAME,
+      CapUsersSavePoint::getUserIdTimestamp, CapUsersSavePoint::setUserIdTimestamp),
+  STAFF_PERSON(StaffPerson.CHANGED_RACFIDS_QUERY_NAME,
+      CapUsersSavePoint::getStaffPersonTimestamp, CapUsersSavePoint::setStaffPersonTimestamp),
+  CWS_OFFICE(CwsOffice.CHANGED_RACFIDS_QUERY_NAME,
+      CapUsersSavePoint::getCwsOfficeTimestamp, CapUsersSavePoint::setCwsOfficeTimestamp);
+
+  private final String queryName;
+
+  private final Function<CapUsersSavePoint, LocalDateTime> timestampGetter;
+
+  private final BiConsumer<CapUsersSavePoint, LocalDateTime> timestampSetter;
+
+  CwsUsersChangesQuery(String queryName,
+      Function<CapUsersSavePoint, LocalDateTime> timestampGetter,
+      BiConsumer<CapUsersSavePoint, LocalDateTime> timestampSetter) {
+    this.queryName = queryName;
+    this.timestampGetter = timestampGetter;
+    this.timestampSetter = timestampSetter;
+  }
+
+  public String getQueryName() {
+    return queryName;
+  }
+
+  public LocalDateTime getTimestamp(CapUsersSavePoint savePoint) {
+    return timestampGetter.apply(savePoint);
+  }
+
+  public void setTimestamp(CapUsersSavePoint savePoint, LocalDateTime timestamp) {
+    timestampSetter.accept(savePoint, timestamp);
+  }
+
+}
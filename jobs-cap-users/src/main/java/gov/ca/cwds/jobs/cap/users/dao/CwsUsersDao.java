@@ -3,10 +3,10 @@ package gov.ca.cwds.jobs.cap.users.dao;
 import com.google.inject.Inject;
 import gov.ca.cwds.data.BaseDaoImpl;
 import gov.ca.cwds.inject.CmsSessionFactory;
+import gov.ca.cwds.jobs.cap.users.dto.CwsUsersChanges;
 import gov.ca.cwds.jobs.cap.users.entity.CwsOffice;
 import gov.ca.cwds.jobs.cap.users.entity.StaffPerson;
 import gov.ca.cwds.jobs.cap.users.entity.UserId;
-import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.hibernate.SessionFactory;
@@ -18,13 +18,18 @@ public class CwsUsersDao extends BaseDaoImpl {
     super(sessionFactory);
   }
 
-  public List<String> getChangedRacfIds(CapUsersSavePoint savePoint) {
-    return currentSession()
-        .createNamedQuery(UserId.CWSCMS_INCREMENTAL_LOAD_QUERY_NAME, String.class)
-        .setParameter(UserId.OFFICE_DATE_AFTER, savePoint.getCwsOfficeTimestamp())
-        .setParameter(UserId.STAFF_PERSON_DATE_AFTER, savePoint.getStaffPersonTimestamp())
-        .setParameter(UserId.USERID_DATE_AFTER, savePoint.getUserIdTimestamp())
-        .list();
+  /**
+   * Range scan of one table by its last updated time, RACFIDs of the changed rows are collected
+   * together with the max last updated time seen.
+   */
+  public CwsUsersChanges getChanges(CwsUsersChangesQuery query, LocalDateTime dateAfter) {
+    CwsUsersChanges changes = new CwsUsersChanges();
+    currentSession()
+        .createNamedQuery(query.getQueryName(), Object[].class)
+        .setParameter(UserId.DATE_AFTER, dateAfter)
+        .list()
+        .forEach(row -> changes.add((String) row[0], (LocalDateTime) row[1]));
+    return changes;
   }
 
   public List<String> getAllRacfIds() {
@@ -0,0 +1,37 @@
+package gov.ca.cwds.jobs.cap.users.dto;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Result of one change detection range scan: distinct trimmed RACFIDs and the max last updated
+ * time of the scanned rows.
+ *
+ * @author CWDS TPT-2
+ */
+public class CwsUsersChanges {
+
+  private final Set<String> racfIds = new HashSet<>();
+
+  private LocalDateTime maxLastUpdatedTime;
+
+  public void add(String racfId, LocalDateTime lastUpdatedTime) {
+    if (racfId != null) {
+      racfIds.add(racfId.trim());
+    }
+    if (maxLastUpdatedTime == null
+        || (lastUpdatedTime != null && lastUpdatedTime.isAfter(maxLastUpdatedTime))) {
+      maxLastUpdatedTime = lastUpdatedTime;
+    }
+  }
+
+  public Set<String> getRacfIds() {
+    return racfIds;
+  }
+
+  public LocalDateTime getMaxLastUpdatedTime() {
+    return maxLastUpdatedTime;
+  }
+
+}
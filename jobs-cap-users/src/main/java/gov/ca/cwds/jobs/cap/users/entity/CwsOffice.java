@@ -14,6 +14,10 @@ import javax.persistence.Table;
     @NamedQuery(
         name = CwsOffice.GET_MAX_LAST_UPDATED_TIME,
         query = CwsOffice.GET_MAX_LAST_UPDATED_TIME_QUERY
+    ),
+    @NamedQuery(
+        name = CwsOffice.CHANGED_RACFIDS_QUERY_NAME,
+        query = CwsOffice.CHANGED_RACFIDS_QUERY
     )
 })
 @Entity
@@ -25,6 +29,13 @@ public class CwsOffice extends CmsPersistentObject {
   static final String GET_MAX_LAST_UPDATED_TIME_QUERY = "select max(lastUpdatedTime) from CwsOffice";
   public static final String GET_MAX_LAST_UPDATED_TIME = "CwsOffice.getMaxLastUpdatedTime";
 
+  static final String CHANGED_RACFIDS_QUERY =
+      "select u.logonId, o.lastUpdatedTime from CwsOffice o "
+          + "left join StaffPerson s on s.cwsOffice = o.officeId "
+          + "left join UserId u on u.staffPersonId = s.id "
+          + "where o.lastUpdatedTime > :" + UserId.DATE_AFTER;
+  public static final String CHANGED_RACFIDS_QUERY_NAME = "CwsOffice.changedRacfIds";
+
   @Id
   @Column(name = "IDENTIFIER")
   private String officeId;
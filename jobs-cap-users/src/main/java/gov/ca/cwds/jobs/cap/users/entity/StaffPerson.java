@@ -13,6 +13,10 @@ import javax.persistence.Table;
     @NamedQuery(
         name = StaffPerson.GET_MAX_LAST_UPDATED_TIME,
         query = StaffPerson.GET_MAX_LAST_UPDATED_TIME_QUERY
+    ),
+    @NamedQuery(
+        name = StaffPerson.CHANGED_RACFIDS_QUERY_NAME,
+        query = StaffPerson.CHANGED_RACFIDS_QUERY
     )
 })
 @Entity
@@ -24,6 +28,12 @@ public class StaffPerson extends CmsPersistentObject {
   static final String GET_MAX_LAST_UPDATED_TIME_QUERY = "select max(lastUpdatedTime) from StaffPerson";
   public static final String GET_MAX_LAST_UPDATED_TIME = "StaffPerson.getMaxLastUpdatedTime";
 
+  static final String CHANGED_RACFIDS_QUERY =
+      "select u.logonId, s.lastUpdatedTime from StaffPerson s "
+          + "left join UserId u on u.staffPersonId = s.id "
+          + "where s.lastUpdatedTime > :" + UserId.DATE_AFTER;
+  public static final String CHANGED_RACFIDS_QUERY_NAME = "StaffPerson.changedRacfIds";
+
   @Id
   @Column(
       name = "IDENTIFIER"
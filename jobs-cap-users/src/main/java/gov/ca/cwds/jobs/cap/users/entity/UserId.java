@@ -11,8 +11,8 @@ import javax.persistence.Table;
 
 @NamedQueries({
     @NamedQuery(
-        name = UserId.CWSCMS_INCREMENTAL_LOAD_QUERY_NAME,
-        query = UserId.CWS_CMS_INCREMENTAL_LOAD_QUERY
+        name = UserId.CHANGED_RACFIDS_QUERY_NAME,
+        query = UserId.CHANGED_RACFIDS_QUERY
     ),
     @NamedQuery(
         name = UserId.GET_MAX_LAST_UPDATED_TIME_QUERY_NAME,
@@ -28,20 +28,16 @@ public class UserId extends CmsPersistentObject {
 
   private static final long serialVersionUID = 2128876585165704533L;
 
-  public static final String USERID_DATE_AFTER = "userIdDateAfter";
-  public static final String OFFICE_DATE_AFTER = "officeDateAfter";
-  public static final String STAFF_PERSON_DATE_AFTER = "staffPersonDateAfter";
+  public static final String DATE_AFTER = "dateAfter";
 
-  static final String CWS_CMS_INCREMENTAL_LOAD_QUERY =
-      "select distinct u.logonId from UserId u left join StaffPerson s on u.staffPersonId = s.id " +
-          "left join CwsOffice o on s.cwsOffice = o.officeId " +
-          " where u.lastUpdatedTime > :" + USERID_DATE_AFTER + " or s.lastUpdatedTime > :" +
-          STAFF_PERSON_DATE_AFTER + " or o.lastUpdatedTime > :" + OFFICE_DATE_AFTER;
+  static final String CHANGED_RACFIDS_QUERY =
+      "select u.logonId, u.lastUpdatedTime from UserId u "
+          + "where u.lastUpdatedTime > :" + DATE_AFTER;
   static final String CWSCMS_ALL_RACFIDS_QUERY =
       "select distinct u.logonId from UserId u where u.endDate IS NULL ";
   static final String GET_MAX_LAST_UPDATED_TIME_QUERY = "select max(lastUpdatedTime) from UserId";
 
-  public static final String CWSCMS_INCREMENTAL_LOAD_QUERY_NAME = "UserId.cwscmsIncrementalLoadQuery";
+  public static final String CHANGED_RACFIDS_QUERY_NAME = "UserId.changedRacfIds";
   public static final String GET_MAX_LAST_UPDATED_TIME_QUERY_NAME = "UserId.getMaxLastUpdatedTime";
   
   @SuppressWarnings("squid:S00115") // the name CWSCMS_All_RACFIDS_QUERY_NAME matches the regular expression '^[A-Z][A-Z0-9]*(_[A-Z0-9]+)*$'
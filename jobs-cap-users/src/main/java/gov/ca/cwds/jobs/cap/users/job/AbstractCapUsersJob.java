@@ -20,7 +20,7 @@ public abstract class AbstractCapUsersJob implements Job {
   public void run() {
     JobTimeReport jobTimeReport = new JobTimeReport();
     CapUsersSavePoint newSavePoint = savePointService.createSavePoint();
-    CapJobResult jobResult = runJob();
+    CapJobResult jobResult = runJob(newSavePoint);
     processJobResult(jobResult, newSavePoint);
     if (LOGGER.isInfoEnabled()) {
       jobTimeReport.printTimeSpent();
@@ -49,6 +49,6 @@ public abstract class AbstractCapUsersJob implements Job {
     return savePoint;
   }
 
-  abstract CapJobResult runJob();
+  abstract CapJobResult runJob(CapUsersSavePoint newSavePoint);
 
 }
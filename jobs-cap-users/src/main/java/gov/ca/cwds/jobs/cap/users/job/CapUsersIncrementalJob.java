@@ -3,6 +3,7 @@ package gov.ca.cwds.jobs.cap.users.job;
 import com.google.inject.Inject;
 import gov.ca.cwds.inject.CmsSessionFactory;
 import gov.ca.cwds.jobs.cap.users.dto.CapJobResult;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import org.hibernate.SessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +19,9 @@ public class CapUsersIncrementalJob extends AbstractCapUsersJob {
   private CapUsersIncrementalUpdatesProcessor updatesProcessor;
 
   @Override
-  CapJobResult runJob() {
+  CapJobResult runJob(CapUsersSavePoint newSavePoint) {
     LOGGER.info("CapUsersIncrementalJob is running");
-    CapJobResult result =  updatesProcessor.processUpdates();
+    CapJobResult result =  updatesProcessor.processUpdates(newSavePoint);
     LOGGER.info("Finishing Incremental Cap Users Job");
     return result;
   }
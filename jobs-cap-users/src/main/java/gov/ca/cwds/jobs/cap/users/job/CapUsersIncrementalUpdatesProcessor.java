@@ -3,6 +3,7 @@ package gov.ca.cwds.jobs.cap.users.job;
 import com.google.inject.Inject;
 import gov.ca.cwds.jobs.cap.users.dto.CapJobResult;
 import gov.ca.cwds.jobs.cap.users.dto.ChangedUserDto;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import gov.ca.cwds.jobs.cap.users.service.CapChangedUsersService;
 import gov.ca.cwds.jobs.cap.users.service.CwsChangedUsersService;
 import gov.ca.cwds.jobs.cap.users.service.exception.IdmServiceException;
@@ -23,10 +24,10 @@ public class CapUsersIncrementalUpdatesProcessor {
   @Inject
   private CapChangedUsersService capChangedUsersService;
 
-  public CapJobResult processUpdates() {
+  public CapJobResult processUpdates(CapUsersSavePoint newSavePoint) {
     CapJobResult jobResult = new CapJobResult(true, true);
     try {
-      loadEntities(cwsChangedUsersService.getCwsChanges());
+      loadEntities(cwsChangedUsersService.getCwsChanges(newSavePoint));
     } catch (IdmServiceException e) {
       LOGGER.error(e.getMessage(), e);
       jobResult.setCwsPartSuccess(false);
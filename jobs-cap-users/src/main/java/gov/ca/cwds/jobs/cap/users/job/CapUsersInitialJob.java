@@ -2,6 +2,8 @@ package gov.ca.cwds.jobs.cap.users.job;
 
 import com.google.inject.Inject;
 import gov.ca.cwds.jobs.cap.users.dto.CapJobResult;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
+import gov.ca.cwds.jobs.cap.users.service.CapUsersSavePointService;
 import gov.ca.cwds.jobs.common.inject.PrimaryFinalizer;
 import gov.ca.cwds.jobs.common.mode.JobModeFinalizer;
 import org.slf4j.Logger;
@@ -14,13 +16,17 @@ public class CapUsersInitialJob extends AbstractCapUsersJob {
   @Inject
   CapUsersBatchProcessor batchProcessor;
 
+  @Inject
+  private CapUsersSavePointService savePointService;
+
   @Inject
   @PrimaryFinalizer
   private JobModeFinalizer jobFinalizer;
 
   @Override
-  CapJobResult runJob() {
+  CapJobResult runJob(CapUsersSavePoint newSavePoint) {
     LOGGER.info("Initial Cap Users Job is running");
+    savePointService.setCwsTimestamps(newSavePoint);
     batchProcessor.processBatches();
     LOGGER.info("Finishing Initial Cap Users Job");
     jobFinalizer.doFinalizeJob();
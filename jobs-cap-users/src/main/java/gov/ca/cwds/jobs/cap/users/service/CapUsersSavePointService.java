@@ -36,14 +36,21 @@ public class CapUsersSavePointService extends
     savePointContainerService.writeSavePointContainer(savePointContainer);
   }
 
-  @UnitOfWork(CWS)
+  /**
+   * CWS/CMS timestamps are set later by the job, incremental load captures them in the same pass
+   * as the change detection.
+   */
   public CapUsersSavePoint createSavePoint() {
     CapUsersSavePoint savePoint = new CapUsersSavePoint();
     savePoint.setCognitoTimestamp(LocalDateTime.now());
+    return savePoint;
+  }
+
+  @UnitOfWork(value = CWS, readOnly = true)
+  public void setCwsTimestamps(CapUsersSavePoint savePoint) {
     savePoint.setCwsOfficeTimestamp(dao.getOfficeMaxLastUpdatedTime());
     savePoint.setStaffPersonTimestamp(dao.getStaffPersonLastUpdatedTime());
     savePoint.setUserIdTimestamp(dao.getUserIdMaxLastUpdatedTime());
-    return savePoint;
   }
 
   @Override
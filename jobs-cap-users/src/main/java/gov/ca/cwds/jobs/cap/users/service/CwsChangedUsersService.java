@@ -1,10 +1,14 @@
 package gov.ca.cwds.jobs.cap.users.service;
 
 import gov.ca.cwds.jobs.cap.users.dto.ChangedUserDto;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import java.util.List;
 
 public interface CwsChangedUsersService {
 
-  List<ChangedUserDto> getCwsChanges();
+  /**
+   * Finds users changed in CWS/CMS and sets the CWS/CMS timestamps of the new save point.
+   */
+  List<ChangedUserDto> getCwsChanges(CapUsersSavePoint newSavePoint);
 
 }
@@ -4,15 +4,27 @@ import static gov.ca.cwds.jobs.cap.users.CwsCmsDataAccessModule.CWS;
 
 import com.google.inject.Inject;
 import gov.ca.cwds.idm.dto.User;
+import gov.ca.cwds.jobs.cap.users.dao.CwsUsersChangesQuery;
 import gov.ca.cwds.jobs.cap.users.dao.CwsUsersDao;
 import gov.ca.cwds.jobs.cap.users.dto.ChangedUserDto;
+import gov.ca.cwds.jobs.cap.users.dto.CwsUsersChanges;
 import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.exception.JobsException;
 import io.dropwizard.hibernate.UnitOfWork;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import org.apache.shiro.util.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,23 +42,60 @@ public class CwsChangedUsersServiceImpl implements CwsChangedUsersService {
   private CwsUsersDao dao;
 
 
-  public List<ChangedUserDto> getCwsChanges() {
-    List<String> changedRacfIds = findChangedRacfIds(savePointService.loadSavePoint());
-    if (CollectionUtils.isEmpty(changedRacfIds)) {
+  public List<ChangedUserDto> getCwsChanges(CapUsersSavePoint newSavePoint) {
+    CapUsersSavePoint savePoint = savePointService.loadSavePoint();
+    Set<String> changedRacfIds = new TreeSet<>();
+    findChanges(savePoint).forEach((query, changes) -> {
+      LOGGER.info("{} changes: {} RACFIDs, max last updated time {}", query,
+          changes.getRacfIds().size(), changes.getMaxLastUpdatedTime());
+      changedRacfIds.addAll(changes.getRacfIds());
+      LocalDateTime timestamp = changes.getMaxLastUpdatedTime();
+      query.setTimestamp(newSavePoint,
+          timestamp == null ? query.getTimestamp(savePoint) : timestamp);
+    });
+    if (changedRacfIds.isEmpty()) {
       LOGGER.info("No changes in CWS/CMS found");
       return Collections.emptyList();
     }
     LOGGER.info("The number of RACFIDs with changed data: {}", changedRacfIds.size());
-    changedRacfIds = changedRacfIds.stream().map(String::trim).collect(Collectors.toList());
-    List<User> users = idmService.getUsersByRacfIds(changedRacfIds);
+    List<User> users = idmService.getUsersByRacfIds(new ArrayList<>(changedRacfIds));
     return users.stream()
         .map(e -> new ChangedUserDto(e, RecordChangeOperation.U))
         .collect(Collectors.toList());
   }
 
+  /**
+   * Runs the per table range scans concurrently, each one in its own unit of work.
+   */
+  private Map<CwsUsersChangesQuery, CwsUsersChanges> findChanges(CapUsersSavePoint savePoint) {
+    CwsUsersChangesQuery[] queries = CwsUsersChangesQuery.values();
+    ExecutorService executorService = Executors.newFixedThreadPool(queries.length);
+    try {
+      Map<CwsUsersChangesQuery, Future<CwsUsersChanges>> futures =
+          new EnumMap<>(CwsUsersChangesQuery.class);
+      for (CwsUsersChangesQuery query : queries) {
+        futures.put(query, executorService
+            .submit(() -> findChanges(query, query.getTimestamp(savePoint))));
+      }
+      Map<CwsUsersChangesQuery, CwsUsersChanges> changes =
+          new EnumMap<>(CwsUsersChangesQuery.class);
+      for (Map.Entry<CwsUsersChangesQuery, Future<CwsUsersChanges>> entry : futures.entrySet()) {
+        changes.put(entry.getKey(), entry.getValue().get());
+      }
+      return changes;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JobsException("Can't find CWS/CMS changes", e);
+    } catch (ExecutionException e) {
+      throw new JobsException("Can't find CWS/CMS changes", e);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
   @UnitOfWork(value = CWS, readOnly = true)
-  public List<String> findChangedRacfIds(CapUsersSavePoint savePoint) {
-    return dao.getChangedRacfIds(savePoint);
+  public CwsUsersChanges findChanges(CwsUsersChangesQuery query, LocalDateTime dateAfter) {
+    return dao.getChanges(query, dateAfter);
   }
 
 }
@@ -6,6 +6,7 @@ import com.google.inject.Inject;
 import gov.ca.cwds.idm.dto.User;
 import gov.ca.cwds.jobs.cap.users.dao.CwsUsersDao;
 import gov.ca.cwds.jobs.cap.users.dto.ChangedUserDto;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import gov.ca.cwds.jobs.common.RecordChangeOperation;
 import io.dropwizard.hibernate.UnitOfWork;
 import java.util.List;
@@ -18,6 +19,9 @@ public class PerfTestCwsChangedUsersService implements CwsChangedUsersService {
   private static final Logger LOGGER = LoggerFactory
       .getLogger(PerfTestCwsChangedUsersService.class);
 
+  @Inject
+  private CapUsersSavePointService savePointService;
+
   @Inject
   private IdmService idmService;
 
@@ -25,7 +29,8 @@ public class PerfTestCwsChangedUsersService implements CwsChangedUsersService {
   private CwsUsersDao dao;
   
   @Override
-  public List<ChangedUserDto> getCwsChanges() {
+  public List<ChangedUserDto> getCwsChanges(CapUsersSavePoint newSavePoint) {
+    savePointService.setCwsTimestamps(newSavePoint);
     List<String> allRacfIds = findChangedRacfIds();
     LOGGER.info("PERFORMANCE TEST MODE: All {} RACFIDs are used", allRacfIds.size());
     allRacfIds = allRacfIds.stream().map(String::trim).collect(Collectors.toList());
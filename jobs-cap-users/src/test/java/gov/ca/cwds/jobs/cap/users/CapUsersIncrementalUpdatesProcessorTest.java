@@ -1,11 +1,13 @@
 package gov.ca.cwds.jobs.cap.users;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
 
 import gov.ca.cwds.jobs.cap.users.dto.CapJobResult;
 import gov.ca.cwds.jobs.cap.users.dto.ChangedUserDto;
 import gov.ca.cwds.jobs.cap.users.job.CapUsersIncrementalUpdatesProcessor;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
 import gov.ca.cwds.jobs.cap.users.service.CapChangedUsersService;
 import gov.ca.cwds.jobs.cap.users.service.CwsChangedUsersService;
 import gov.ca.cwds.jobs.cap.users.service.exception.IdmServiceException;
@@ -34,30 +36,38 @@ public class CapUsersIncrementalUpdatesProcessorTest {
 
   @Test
   public void testWhenEverythingWorksFine() {
-    when(cwsChangedUsersService.getCwsChanges()).thenReturn(Collections.emptyList());
+    when(cwsChangedUsersService.getCwsChanges(any(CapUsersSavePoint.class)))
+        .thenReturn(Collections.emptyList());
     when(capChangedUsersService.getCapChanges()).thenReturn(Collections.emptyList());
-    assertEquals(updatesProcessor.processUpdates(), new CapJobResult(true, true));
+    assertEquals(updatesProcessor.processUpdates(new CapUsersSavePoint()),
+        new CapJobResult(true, true));
   }
 
   @Test
   public void testWhenCwsChangesRequestFails() {
-    when(cwsChangedUsersService.getCwsChanges()).thenThrow(IdmServiceException.class);
+    when(cwsChangedUsersService.getCwsChanges(any(CapUsersSavePoint.class)))
+        .thenThrow(IdmServiceException.class);
     when(capChangedUsersService.getCapChanges()).thenReturn(Collections.emptyList());
-    assertEquals(updatesProcessor.processUpdates(), new CapJobResult(false, true));
+    assertEquals(updatesProcessor.processUpdates(new CapUsersSavePoint()),
+        new CapJobResult(false, true));
   }
 
   @Test
   public void testWhenCapChangesRequestFails() {
-    when(cwsChangedUsersService.getCwsChanges()).thenReturn(Collections.emptyList());
+    when(cwsChangedUsersService.getCwsChanges(any(CapUsersSavePoint.class)))
+        .thenReturn(Collections.emptyList());
     when(capChangedUsersService.getCapChanges()).thenThrow(IdmServiceException.class);
-    assertEquals(updatesProcessor.processUpdates(), new CapJobResult(true, false));
+    assertEquals(updatesProcessor.processUpdates(new CapUsersSavePoint()),
+        new CapJobResult(true, false));
   }
 
   @Test
   public void testWhenBothRequestsFail() {
-    when(cwsChangedUsersService.getCwsChanges()).thenThrow(IdmServiceException.class);
+    when(cwsChangedUsersService.getCwsChanges(any(CapUsersSavePoint.class)))
+        .thenThrow(IdmServiceException.class);
     when(capChangedUsersService.getCapChanges()).thenThrow(IdmServiceException.class);
-    assertEquals(updatesProcessor.processUpdates(), new CapJobResult(false, false));
+    assertEquals(updatesProcessor.processUpdates(new CapUsersSavePoint()),
+        new CapJobResult(false, false));
   }
 
 
@@ -0,0 +1,134 @@
+package gov.ca.cwds.jobs.cap.users.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.idm.dto.User;
+import gov.ca.cwds.jobs.cap.users.dao.CwsUsersChangesQuery;
+import gov.ca.cwds.jobs.cap.users.dao.CwsUsersDao;
+import gov.ca.cwds.jobs.cap.users.dto.ChangedUserDto;
+import gov.ca.cwds.jobs.cap.users.dto.CwsUsersChanges;
+import gov.ca.cwds.jobs.cap.users.savepoint.CapUsersSavePoint;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CwsChangedUsersServiceImplTest {
+
+  private static final LocalDateTime USER_ID_TIMESTAMP = LocalDateTime.of(2019, 1, 1, 0, 0);
+  private static final LocalDateTime STAFF_PERSON_TIMESTAMP = LocalDateTime.of(2019, 1, 2, 0, 0);
+  private static final LocalDateTime CWS_OFFICE_TIMESTAMP = LocalDateTime.of(2019, 1, 3, 0, 0);
+
+  @Mock
+  private CapUsersSavePointService savePointService;
+
+  @Mock
+  private IdmService idmService;
+
+  @Mock
+  private CwsUsersDao dao;
+
+  @InjectMocks
+  private CwsChangedUsersServiceImpl service;
+
+  @Before
+  public void setUp() {
+    CapUsersSavePoint savePoint = new CapUsersSavePoint();
+    savePoint.setUserIdTimestamp(USER_ID_TIMESTAMP);
+    savePoint.setStaffPersonTimestamp(STAFF_PERSON_TIMESTAMP);
+    savePoint.setCwsOfficeTimestamp(CWS_OFFICE_TIMESTAMP);
+    when(savePointService.loadSavePoint()).thenReturn(savePoint);
+    when(idmService.getUsersByRacfIds(anyListOf(String.class))).thenAnswer(invocation -> {
+      @SuppressWarnings("unchecked")
+      List<String> racfIds = (List<String>) invocation.getArguments()[0];
+      return racfIds.stream().map(CwsChangedUsersServiceImplTest::createUser)
+          .collect(Collectors.toList());
+    });
+  }
+
+  @Test
+  public void testChangesAreMergedAndDeduplicated() {
+    LocalDateTime userIdChanged = USER_ID_TIMESTAMP.plusHours(5);
+    LocalDateTime staffPersonChanged = STAFF_PERSON_TIMESTAMP.plusHours(1);
+    LocalDateTime cwsOfficeChanged = CWS_OFFICE_TIMESTAMP.plusHours(2);
+    mockChanges(CwsUsersChangesQuery.USER_ID, USER_ID_TIMESTAMP,
+        changes("RACF2 ", userIdChanged.minusHours(1), "RACF1", userIdChanged));
+    mockChanges(CwsUsersChangesQuery.STAFF_PERSON, STAFF_PERSON_TIMESTAMP,
+        changes("RACF1", staffPersonChanged, "RACF3", staffPersonChanged.minusHours(1)));
+    mockChanges(CwsUsersChangesQuery.CWS_OFFICE, CWS_OFFICE_TIMESTAMP,
+        changes("RACF2", cwsOfficeChanged, "RACF3", cwsOfficeChanged));
+
+    CapUsersSavePoint newSavePoint = new CapUsersSavePoint();
+    List<ChangedUserDto> changedUsers = service.getCwsChanges(newSavePoint);
+
+    assertEquals(3, changedUsers.size());
+    verify(idmService).getUsersByRacfIds(Arrays.asList("RACF1", "RACF2", "RACF3"));
+    assertEquals(userIdChanged, newSavePoint.getUserIdTimestamp());
+    assertEquals(staffPersonChanged, newSavePoint.getStaffPersonTimestamp());
+    assertEquals(cwsOfficeChanged, newSavePoint.getCwsOfficeTimestamp());
+  }
+
+  @Test
+  public void testPreviousTimestampIsKeptIfTableHasNoChanges() {
+    LocalDateTime staffPersonChanged = STAFF_PERSON_TIMESTAMP.plusMinutes(30);
+    mockChanges(CwsUsersChangesQuery.USER_ID, USER_ID_TIMESTAMP, new CwsUsersChanges());
+    mockChanges(CwsUsersChangesQuery.STAFF_PERSON, STAFF_PERSON_TIMESTAMP,
+        changes("RACF1", staffPersonChanged));
+    mockChanges(CwsUsersChangesQuery.CWS_OFFICE, CWS_OFFICE_TIMESTAMP, new CwsUsersChanges());
+
+    CapUsersSavePoint newSavePoint = new CapUsersSavePoint();
+    assertEquals(1, service.getCwsChanges(newSavePoint).size());
+    assertEquals(USER_ID_TIMESTAMP, newSavePoint.getUserIdTimestamp());
+    assertEquals(staffPersonChanged, newSavePoint.getStaffPersonTimestamp());
+    assertEquals(CWS_OFFICE_TIMESTAMP, newSavePoint.getCwsOfficeTimestamp());
+  }
+
+  @Test
+  public void testNoChanges() {
+    for (CwsUsersChangesQuery query : CwsUsersChangesQuery.values()) {
+      when(dao.getChanges(eq(query), any(LocalDateTime.class)))
+          .thenReturn(new CwsUsersChanges());
+    }
+
+    CapUsersSavePoint newSavePoint = new CapUsersSavePoint();
+    assertTrue(service.getCwsChanges(newSavePoint).isEmpty());
+    verify(idmService, never()).getUsersByRacfIds(anyListOf(String.class));
+    assertEquals(USER_ID_TIMESTAMP, newSavePoint.getUserIdTimestamp());
+    assertEquals(STAFF_PERSON_TIMESTAMP, newSavePoint.getStaffPersonTimestamp());
+    assertEquals(CWS_OFFICE_TIMESTAMP, newSavePoint.getCwsOfficeTimestamp());
+  }
+
+  private void mockChanges(CwsUsersChangesQuery query, LocalDateTime dateAfter,
+      CwsUsersChanges changes) {
+    when(dao.getChanges(query, dateAfter)).thenReturn(changes);
+  }
+
+  private static CwsUsersChanges changes(Object... racfIdsAndTimes) {
+    CwsUsersChanges changes = new CwsUsersChanges();
+    for (int i = 0; i < racfIdsAndTimes.length; i += 2) {
+      changes.add((String) racfIdsAndTimes[i], (LocalDateTime) racfIdsAndTimes[i + 1]);
+    }
+    return changes;
+  }
+
+  private static User createUser(String racfId) {
+    User user = new User();
+    user.setId(racfId);
+    return user;
+  }
+
+}
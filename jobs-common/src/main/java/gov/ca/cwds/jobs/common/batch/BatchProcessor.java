@@ -6,8 +6,13 @@ import gov.ca.cwds.jobs.common.exception.JobExceptionHandler;
 import gov.ca.cwds.jobs.common.exception.JobsException;
 import gov.ca.cwds.jobs.common.inject.PrimaryFinalizer;
 import gov.ca.cwds.jobs.common.iterator.JobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.ReindexJobBatchIterator;
 import gov.ca.cwds.jobs.common.mode.JobModeFinalizer;
+import gov.ca.cwds.jobs.common.ratelimit.DataSourceRateLimiter;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
 import gov.ca.cwds.jobs.common.savepoint.SavePoint;
+import gov.ca.cwds.jobs.common.savepoint.SavePointCommitter;
+import gov.ca.cwds.jobs.common.savepoint.SavePointJournal;
 import gov.ca.cwds.jobs.common.savepoint.SavePointService;
 import gov.ca.cwds.jobs.common.timereport.JobTimeReport;
 import org.slf4j.Logger;
@@ -29,6 +34,15 @@ public class BatchProcessor<E, S extends SavePoint> {
   @Inject
   private JobBatchIterator<S> jobBatchIterator;
 
+  @Inject
+  private ReindexJobBatchIterator<S> reindexJobBatchIterator;
+
+  @Inject
+  private ReindexTarget reindexTarget;
+
+  @Inject
+  private ChangedEntityIdentifiersCoalescer<S> identifiersCoalescer;
+
   @Inject
   @PrimaryFinalizer
   private JobModeFinalizer jobModeFinalizer;
@@ -36,21 +50,73 @@ public class BatchProcessor<E, S extends SavePoint> {
   @Inject
   private SavePointService<S> savePointService;
 
+  @Inject
+  private SavePointCommitter savePointCommitter;
+
+  @Inject
+  private SavePointJournal savePointJournal;
+
   public void init() {
     batchReadersPool.init(elasticSearchBulkCollector);
   }
 
-  public void processBatches() {
+  /**
+   * Processes batches until the iterator is exhausted. Targeted reindex processes the targeted
+   * entities only and leaves the save point as is.
+   *
+   * @return number of changed entities processed
+   */
+  public int processBatches() {
+    if (reindexTarget.isEnabled()) {
+      return processReindexBatches();
+    }
     JobTimeReport jobTimeReport = new JobTimeReport();
-    JobBatch<S> batch = jobBatchIterator.getNextPortion();
+    savePointJournal.startRun();
+    int processed = 0;
+    JobBatch<S> batch = getNextPortion(jobBatchIterator);
     while (!batch.isEmpty()) {
       LOGGER.info("Batch processing, batch size = {}", batch.getSize());
-      batchReadersPool.loadEntities(batch.getChangedEntityIdentifiers());
+      batchReadersPool
+          .loadEntities(identifiersCoalescer.coalesce(batch.getChangedEntityIdentifiers()));
       handleBatchSavepoint(batch);
-      batch = jobBatchIterator.getNextPortion();
+      processed += batch.getSize();
+      batch = getNextPortion(jobBatchIterator);
     }
+    savePointCommitter.flush();
     jobModeFinalizer.doFinalizeJob();
     jobTimeReport.printTimeSpent();
+    return processed;
+  }
+
+  private int processReindexBatches() {
+    JobTimeReport jobTimeReport = new JobTimeReport();
+    int processed = 0;
+    reindexJobBatchIterator.init();
+    JobBatch<S> batch = getNextPortion(reindexJobBatchIterator);
+    while (!batch.isEmpty()) {
+      LOGGER.info("Reindex batch processing, batch size = {}", batch.getSize());
+      batchReadersPool
+          .loadEntities(identifiersCoalescer.coalesce(batch.getChangedEntityIdentifiers()));
+      if (JobExceptionHandler.isExceptionHappened()) {
+        LOGGER.error("Exception occured during reindex batch processing. Job has been terminated");
+        throw new JobsException("Exception occured during batch processing");
+      }
+      processed += batch.getSize();
+      batch = getNextPortion(reindexJobBatchIterator);
+    }
+    LOGGER.info("{} targeted entities have been reindexed, save point is left unchanged",
+        processed);
+    jobTimeReport.printTimeSpent();
+    return processed;
+  }
+
+  /**
+   * Identifiers are read in units of work of the iterator, the rate limit permits of the
+   * statements already charged are taken before they open their sessions.
+   */
+  private JobBatch<S> getNextPortion(JobBatchIterator<S> iterator) {
+    DataSourceRateLimiter.awaitPermits();
+    return iterator.getNextPortion();
   }
 
   private void handleBatchSavepoint(JobBatch<S> batch) {
@@ -58,7 +124,7 @@ public class BatchProcessor<E, S extends SavePoint> {
     LOGGER.info("Last batch in portion save point {}", savePoint);
     if (!JobExceptionHandler.isExceptionHappened()) {
       LOGGER.info("Save point has been reached. Batch save point is {}. Trying to save", savePoint);
-      savePointService.saveSavePoint(savePoint);
+      savePointCommitter.commit(() -> savePointService.saveSavePoint(savePoint), batch.getSize());
     } else {
       LOGGER.error("Exception occured during batch processing. Job has been terminated." +
           " Batch timestamp {} has not been recorded", savePoint);
@@ -67,6 +133,7 @@ public class BatchProcessor<E, S extends SavePoint> {
   }
 
   public void destroy() {
+    savePointCommitter.close();
     batchReadersPool.destroy();
     elasticSearchBulkCollector.destroy();
   }
@@ -1,19 +1,25 @@
 package gov.ca.cwds.jobs.common.batch;
 
 import com.google.inject.Inject;
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.connection.EntityReads;
+import gov.ca.cwds.jobs.common.core.JobScope;
 import gov.ca.cwds.jobs.common.elastic.BulkCollector;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
 import gov.ca.cwds.jobs.common.exception.JobsException;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.inject.ReaderChunkSize;
 import gov.ca.cwds.jobs.common.inject.ReaderThreadsCount;
+import gov.ca.cwds.jobs.common.inject.ReplicaReads;
 import gov.ca.cwds.jobs.common.savepoint.SavePoint;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +34,14 @@ public class BatchReadersPool<E, S extends SavePoint> {
   @ReaderThreadsCount
   private int readersThreadsCount;
 
+  @Inject
+  @ReaderChunkSize
+  private int readerChunkSize;
+
+  @Inject
+  @ReplicaReads
+  private boolean replicaReads;
+
   @Inject
   private ChangedEntityService<E> changedEntityService;
 
@@ -44,11 +58,30 @@ public class BatchReadersPool<E, S extends SavePoint> {
   }
 
   public void loadEntities(List<ChangedEntityIdentifier<S>> changedEntityIdentifiers) {
-    List<Future> futures = changedEntityIdentifiers.parallelStream().
-        map(identifier -> (Runnable) () -> elasticSearchBulkCollector.addEntity(
-            changedEntityService.loadEntity(identifier)))
-        .map(executorService::submit)
-        .collect(Collectors.toList());
+    List<Future> futures = new ArrayList<>();
+    List<ChangedEntityIdentifier> chunk = new ArrayList<>(readerChunkSize);
+    int deletedEntitiesCount = 0;
+    for (ChangedEntityIdentifier<S> identifier : changedEntityIdentifiers) {
+      E deletedEntity = RecordChangeOperation.D == identifier.getRecordChangeOperation()
+          ? changedEntityService.createDeletedEntity(identifier) : null;
+      if (deletedEntity != null) {
+        elasticSearchBulkCollector.addEntity(deletedEntity);
+        deletedEntitiesCount++;
+      } else {
+        chunk.add(identifier);
+        if (chunk.size() >= readerChunkSize) {
+          futures.add(submitChunk(chunk));
+          chunk = new ArrayList<>(readerChunkSize);
+        }
+      }
+    }
+    if (!chunk.isEmpty()) {
+      futures.add(submitChunk(chunk));
+    }
+    if (deletedEntitiesCount > 0) {
+      LOGGER.info("{} deleted entities are passed to the writer without loading",
+          deletedEntitiesCount);
+    }
     for (Future future : futures) {
       try {
         future.get();
@@ -62,6 +95,23 @@ public class BatchReadersPool<E, S extends SavePoint> {
     elasticSearchBulkCollector.flush();
   }
 
+  private Future submitChunk(List<ChangedEntityIdentifier> chunk) {
+    Semaphore readerPermits = JobScope.current().getReaderPermits();
+    return executorService.submit(() -> {
+      if (readerPermits != null) {
+        readerPermits.acquireUninterruptibly();
+      }
+      try {
+        EntityReads.call(() -> changedEntityService.loadEntities(chunk), replicaReads)
+            .forEach(elasticSearchBulkCollector::addEntity);
+      } finally {
+        if (readerPermits != null) {
+          readerPermits.release();
+        }
+      }
+    });
+  }
+
   public void destroy() {
     if (executorService != null) {
       executorService.shutdown();
@@ -0,0 +1,80 @@
+package gov.ca.cwds.jobs.common.batch;
+
+import com.google.inject.Inject;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.inject.TrackedIdentifiersCount;
+import gov.ca.cwds.jobs.common.savepoint.SavePoint;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes redundant identifiers before entities are loaded. Only the latest operation per id is
+ * kept within a batch. The save point each id was last loaded at is kept for the run, so later
+ * batches skip the id unless its save point is newer. Identifiers without a save point (reindex by
+ * ids) are not tracked. The batch itself is not changed, so save points are defined as before.
+ *
+ * @author CWDS TPT-2
+ */
+public class ChangedEntityIdentifiersCoalescer<S extends SavePoint> {
+
+  private static final Logger LOGGER = LoggerFactory
+      .getLogger(ChangedEntityIdentifiersCoalescer.class);
+
+  @Inject
+  @TrackedIdentifiersCount
+  private int trackedIdentifiersCount;
+
+  private Map<String, ChangedEntityIdentifier<S>> loadedIdentifiers;
+
+  public List<ChangedEntityIdentifier<S>> coalesce(List<ChangedEntityIdentifier<S>> identifiers) {
+    Map<String, ChangedEntityIdentifier<S>> latestIdentifiers = new LinkedHashMap<>();
+    for (ChangedEntityIdentifier<S> identifier : identifiers) {
+      latestIdentifiers.remove(identifier.getId());
+      latestIdentifiers.put(identifier.getId(), identifier);
+    }
+    List<ChangedEntityIdentifier<S>> result = new ArrayList<>(latestIdentifiers.size());
+    for (ChangedEntityIdentifier<S> identifier : latestIdentifiers.values()) {
+      if (!isLoadedAtNewerSavePoint(identifier)) {
+        result.add(identifier);
+        track(identifier);
+      }
+    }
+    if (result.size() == identifiers.size()) {
+      return identifiers;
+    }
+    LOGGER.info("Batch of {} identifiers is coalesced to {} identifiers", identifiers.size(),
+        result.size());
+    return result;
+  }
+
+  private boolean isLoadedAtNewerSavePoint(ChangedEntityIdentifier<S> identifier) {
+    ChangedEntityIdentifier<S> loadedIdentifier =
+        loadedIdentifiers == null ? null : loadedIdentifiers.get(identifier.getId());
+    return loadedIdentifier != null && identifier.getSavePoint() != null
+        && identifier.compareTo(loadedIdentifier) <= 0;
+  }
+
+  private void track(ChangedEntityIdentifier<S> identifier) {
+    if (trackedIdentifiersCount <= 0 || identifier.getSavePoint() == null) {
+      return;
+    }
+    if (loadedIdentifiers == null) {
+      loadedIdentifiers = new LinkedHashMap<String, ChangedEntityIdentifier<S>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ChangedEntityIdentifier<S>> eldest) {
+          return size() > trackedIdentifiersCount;
+        }
+      };
+    }
+    loadedIdentifiers.put(identifier.getId(), identifier);
+  }
+
+  public void setTrackedIdentifiersCount(int trackedIdentifiersCount) {
+    this.trackedIdentifiersCount = trackedIdentifiersCount;
+  }
+
+}
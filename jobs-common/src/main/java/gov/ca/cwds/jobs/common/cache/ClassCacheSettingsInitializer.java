@@ -0,0 +1,42 @@
+package gov.ca.cwds.jobs.common.cache;
+
+import java.util.Map;
+import org.hibernate.boot.CacheRegionDefinition;
+import org.hibernate.boot.CacheRegionDefinition.CacheRegionType;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.MetadataBuilderInitializer;
+import org.hibernate.engine.config.spi.ConfigurationService;
+
+/**
+ * Applies entity cache regions declared by {@code hibernate.classcache.<entity> = usage[,region]}
+ * settings of the service registry. Only the JPA bootstrap reads these settings, so the
+ * initializer is registered in {@code META-INF/services} for the native one.
+ *
+ * @author CWDS TPT-2
+ */
+public class ClassCacheSettingsInitializer implements MetadataBuilderInitializer {
+
+  public static final String CLASS_CACHE_PREFIX = "hibernate.classcache.";
+
+  public static String classCacheProperty(Class<?> entityClass) {
+    return CLASS_CACHE_PREFIX + entityClass.getName();
+  }
+
+  @Override
+  public void contribute(MetadataBuilder metadataBuilder,
+      StandardServiceRegistry serviceRegistry) {
+    Map<?, ?> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+    settings.forEach((key, value) -> {
+      String property = String.valueOf(key);
+      if (property.startsWith(CLASS_CACHE_PREFIX)) {
+        String entityName = property.substring(CLASS_CACHE_PREFIX.length());
+        String[] usageAndRegion = String.valueOf(value).split(",");
+        String region = usageAndRegion.length > 1 ? usageAndRegion[1].trim() : entityName;
+        metadataBuilder.applyCacheRegionDefinition(new CacheRegionDefinition(
+            CacheRegionType.ENTITY, entityName, usageAndRegion[0].trim(), region, true));
+      }
+    });
+  }
+
+}
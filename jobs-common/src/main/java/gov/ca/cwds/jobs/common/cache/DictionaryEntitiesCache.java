@@ -0,0 +1,181 @@
+package gov.ca.cwds.jobs.common.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-only second-level cache regions for dictionary entities and for entities shared by many
+ * loaded records (staff, license cases). Works only if second-level cache is enabled for the data
+ * source, otherwise configuration is left untouched. Region size and LRU eviction are defined by
+ * the cache provider configuration, regions live as long as the session factory.
+ *
+ * @author CWDS TPT-2
+ */
+public final class DictionaryEntitiesCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DictionaryEntitiesCache.class);
+
+  private static final String READ_ONLY = "read-only";
+
+  /**
+   * Setting listing the dictionary entities of the session factory, comma separated.
+   */
+  static final String DICTIONARY_CLASSES = "gov.ca.cwds.jobs.cache.dictionaryClasses";
+
+  private DictionaryEntitiesCache() {
+  }
+
+  /**
+   * @return read-only region and statistics settings of the cached entities, applied before the
+   * service registry is built, empty if second-level cache is not enabled for the data source
+   */
+  public static Map<String, String> readOnlyCacheSettings(Map<String, String> properties,
+      List<Class<?>> dictionaryClasses, List<Class<?>> sharedEntityClasses) {
+    Map<String, String> settings = new HashMap<>();
+    if (!Boolean.parseBoolean(properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE))) {
+      return settings;
+    }
+    for (Class<?> cachedClass : cachedClasses(dictionaryClasses, sharedEntityClasses)) {
+      settings.put(ClassCacheSettingsInitializer.classCacheProperty(cachedClass),
+          READ_ONLY + "," + cachedClass.getName());
+    }
+    if (!settings.isEmpty()) {
+      settings.put(AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE.toString());
+      settings.put(DICTIONARY_CLASSES, dictionaryClasses.stream().map(Class::getName)
+          .collect(Collectors.joining(",")));
+    }
+    return settings;
+  }
+
+  /**
+   * Logs the cache statistics of the whole run when the session factory is closed.
+   */
+  public static Function<Configuration, Configuration> readOnlyCache(String dataSourceName,
+      List<Class<?>> dictionaryClasses, List<Class<?>> sharedEntityClasses) {
+    List<Class<?>> cachedClasses = cachedClasses(dictionaryClasses, sharedEntityClasses);
+    return configuration -> {
+      if (cachedClasses.isEmpty() || !Boolean.parseBoolean(
+          configuration.getProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE))) {
+        return configuration;
+      }
+      SessionFactoryObserver observer = configuration.getSessionFactoryObserver();
+      configuration.setSessionFactoryObserver(new SessionFactoryObserver() {
+        @Override
+        public void sessionFactoryCreated(SessionFactory factory) {
+          if (observer != null) {
+            observer.sessionFactoryCreated(factory);
+          }
+        }
+
+        @Override
+        public void sessionFactoryClosed(SessionFactory factory) {
+          logStatistics(factory, dataSourceName, cachedClasses);
+          if (observer != null) {
+            observer.sessionFactoryClosed(factory);
+          }
+        }
+      });
+      return configuration;
+    };
+  }
+
+  private static List<Class<?>> cachedClasses(List<Class<?>> dictionaryClasses,
+      List<Class<?>> sharedEntityClasses) {
+    List<Class<?>> cachedClasses = new ArrayList<>(dictionaryClasses);
+    cachedClasses.addAll(sharedEntityClasses);
+    return cachedClasses;
+  }
+
+  /**
+   * Loads all dictionary rows into the second-level cache, dictionaries are read in parallel.
+   * The observer set by {@link #readOnlyCache} logs the statistics of the whole run when the
+   * session factory is closed.
+   */
+  public static void warmUp(SessionFactory sessionFactory, String dataSourceName,
+      List<Class<?>> dictionaryClasses) {
+    if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+      return;
+    }
+    dictionaryClasses.parallelStream().forEach(dictionaryClass -> {
+      try (Session session = sessionFactory.openSession()) {
+        session.setDefaultReadOnly(true);
+        int count = session.createQuery("from " + dictionaryClass.getName()).list().size();
+        LOGGER.info("{} {} dictionary entries are cached", count, dictionaryClass.getSimpleName());
+      } catch (RuntimeException e) {
+        LOGGER.warn("Can't warm up {} dictionary of {}", dictionaryClass.getSimpleName(),
+            dataSourceName, e);
+      }
+    });
+    logStatistics(sessionFactory, dataSourceName, dictionaryClasses);
+  }
+
+  /**
+   * @return threads loading dictionaries at the same time during warm-up, the common pool
+   * threads and the calling thread
+   */
+  public static int warmUpThreadsCount(List<Class<?>> dictionaryClasses) {
+    return Math.min(dictionaryClasses.size(), ForkJoinPool.getCommonPoolParallelism() + 1);
+  }
+
+  /**
+   * Evicts every second-level cache region except the dictionary ones. Dictionaries are warmed up
+   * once and stay cached as long as the session factory, other entities may change at any time.
+   */
+  public static void evictNonDictionaryRegions(SessionFactory sessionFactory) {
+    Set<String> dictionaryNames = dictionaryNames(sessionFactory.getProperties());
+    Cache cache = sessionFactory.getCache();
+    sessionFactory.getMetamodel().getEntities().stream()
+        .map(entityType -> entityType.getJavaType().getName())
+        .filter(entityName -> !dictionaryNames.contains(entityName))
+        .forEach(cache::evictEntityRegion);
+    cache.evictCollectionRegions();
+    cache.evictNaturalIdRegions();
+    cache.evictQueryRegions();
+  }
+
+  private static Set<String> dictionaryNames(Map<String, Object> properties) {
+    Object dictionaryClasses = properties.get(DICTIONARY_CLASSES);
+    if (dictionaryClasses == null || dictionaryClasses.toString().isEmpty()) {
+      return new HashSet<>();
+    }
+    return new HashSet<>(Arrays.asList(dictionaryClasses.toString().split(",")));
+  }
+
+  /**
+   * Regions are read-only, entries leave them only by eviction, so evictions are puts minus
+   * entries still in memory.
+   */
+  private static void logStatistics(SessionFactory sessionFactory, String dataSourceName,
+      List<Class<?>> cachedClasses) {
+    for (Class<?> cachedClass : cachedClasses) {
+      SecondLevelCacheStatistics statistics = sessionFactory.getStatistics()
+          .getSecondLevelCacheStatistics(cachedClass.getName());
+      if (statistics != null) {
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        LOGGER.info("{} {} cache: {} hits, {} misses, hit rate {}%, {} puts, {} evictions",
+            dataSourceName, cachedClass.getSimpleName(), statistics.getHitCount(),
+            statistics.getMissCount(), lookups == 0 ? 0 : statistics.getHitCount() * 100 / lookups,
+            statistics.getPutCount(),
+            Math.max(0, statistics.getPutCount() - statistics.getElementCountInMemory()));
+      }
+    }
+  }
+
+}
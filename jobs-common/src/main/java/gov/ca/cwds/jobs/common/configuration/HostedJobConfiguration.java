@@ -0,0 +1,73 @@
+package gov.ca.cwds.jobs.common.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+/**
+ * Job run by the host on a schedule. The save point of the job is kept in the host last run dir
+ * under the job name.
+ *
+ * @author CWDS TPT-2
+ */
+public class HostedJobConfiguration {
+
+  @NotNull
+  @Pattern(regexp = "[A-Za-z0-9_.-]+")
+  private String name;
+
+  /**
+   * Class name of the job module builder.
+   */
+  @NotNull
+  private String builder;
+
+  /**
+   * Job configuration file.
+   */
+  @NotNull
+  private String config;
+
+  /**
+   * Cron expression: minute, hour, day of month, month and day of week.
+   */
+  @NotNull
+  private String schedule;
+
+  @JsonProperty
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @JsonProperty
+  public String getBuilder() {
+    return builder;
+  }
+
+  public void setBuilder(String builder) {
+    this.builder = builder;
+  }
+
+  @JsonProperty
+  public String getConfig() {
+    return config;
+  }
+
+  public void setConfig(String config) {
+    this.config = config;
+  }
+
+  @JsonProperty
+  public String getSchedule() {
+    return schedule;
+  }
+
+  public void setSchedule(String schedule) {
+    this.schedule = schedule;
+  }
+
+}
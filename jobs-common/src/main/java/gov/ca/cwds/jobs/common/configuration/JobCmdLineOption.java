@@ -21,7 +21,69 @@ public enum JobCmdLineOption {
    */
   LAST_RUN_FILE(JobOptions
       .makeOpt("l", JobOptions.CMD_LINE_LAST_RUN_FILE, "last run date file (yyyy-MM-dd HH:mm:ss)",
-          false, 1, String.class, ','));
+          false, 1, String.class, ',')),
+
+  /**
+   * Rewind the save point to the last journal entry committed at or before the time.
+   */
+  REWIND_TO(JobOptions
+      .makeOpt("r", JobOptions.CMD_LINE_REWIND_TO,
+          "rewind to the save point committed at or before (yyyy-MM-dd HH:mm:ss)", false, 1,
+          String.class, ',')),
+
+  /**
+   * Rewind the save point to the journal entry with the sequence number.
+   */
+  REWIND_ENTRY(JobOptions
+      .makeOpt("e", JobOptions.CMD_LINE_REWIND_ENTRY, "rewind to the save point journal entry",
+          false, 1, Long.class, ',')),
+
+  /**
+   * Keep running and poll for changes.
+   */
+  DAEMON(JobOptions
+      .makeOpt("d", JobOptions.CMD_LINE_DAEMON, "keep running and poll for changes", false, 0,
+          Boolean.class, ',')),
+
+  /**
+   * Daemon poll interval bounds in seconds.
+   */
+  POLL_INTERVAL(JobOptions
+      .makeOpt("p", JobOptions.CMD_LINE_POLL_INTERVAL,
+          "daemon poll interval in seconds when busy and when idle (min,max)", false, 2,
+          Long.class, ',')),
+
+  /**
+   * File with the ids of the entities to reindex, one per line.
+   */
+  IDS_FILE(JobOptions
+      .makeOpt("i", JobOptions.CMD_LINE_IDS_FILE,
+          "reindex the entities listed in the file, one id per line", false, 1, String.class,
+          ',')),
+
+  /**
+   * Numeric ids range of the entities to reindex.
+   */
+  ID_RANGE(JobOptions
+      .makeOpt("n", JobOptions.CMD_LINE_ID_RANGE,
+          "reindex the entities with numeric ids in the range (first,last)", false, 2,
+          Long.class, ',')),
+
+  /**
+   * Start of the change time window to reindex.
+   */
+  FROM(JobOptions
+      .makeOpt("f", JobOptions.CMD_LINE_FROM,
+          "reindex the entities changed at or after (yyyy-MM-dd HH:mm:ss)", false, 1,
+          String.class, ',')),
+
+  /**
+   * End of the change time window to reindex.
+   */
+  TO(JobOptions
+      .makeOpt("t", JobOptions.CMD_LINE_TO,
+          "reindex the entities changed before (yyyy-MM-dd HH:mm:ss)", false, 1, String.class,
+          ','));
 
 
   private final Option opt;
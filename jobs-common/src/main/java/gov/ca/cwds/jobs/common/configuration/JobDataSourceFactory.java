@@ -0,0 +1,70 @@
+package gov.ca.cwds.jobs.common.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.db.DataSourceFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+
+/**
+ * Job data source with optional read replicas and rate limit. Replicas serve entity loading of
+ * initial load only, identifiers, save points and incremental changes are always read from the
+ * primary data source.
+ *
+ * @author CWDS TPT-2
+ */
+public class JobDataSourceFactory extends DataSourceFactory {
+
+  private List<DataSourceFactory> replicas = new ArrayList<>();
+
+  private int replicaRetrySeconds = 30;
+
+  private Integer primaryPoolSize;
+
+  @Valid
+  private RateLimitConfiguration rateLimit;
+
+  @JsonProperty
+  public List<DataSourceFactory> getReplicas() {
+    return replicas;
+  }
+
+  public void setReplicas(List<DataSourceFactory> replicas) {
+    this.replicas = replicas;
+  }
+
+  /**
+   * Replica which failed to give a connection is skipped during this period.
+   */
+  @JsonProperty
+  public int getReplicaRetrySeconds() {
+    return replicaRetrySeconds;
+  }
+
+  public void setReplicaRetrySeconds(int replicaRetrySeconds) {
+    this.replicaRetrySeconds = replicaRetrySeconds;
+  }
+
+  /**
+   * Connections of the primary pool when reader threads have their own pool. If not given, it is
+   * derived from the threads querying the primary data source at the same time.
+   */
+  @JsonProperty
+  public Integer getPrimaryPoolSize() {
+    return primaryPoolSize;
+  }
+
+  public void setPrimaryPoolSize(Integer primaryPoolSize) {
+    this.primaryPoolSize = primaryPoolSize;
+  }
+
+  @JsonProperty
+  public RateLimitConfiguration getRateLimit() {
+    return rateLimit;
+  }
+
+  public void setRateLimit(RateLimitConfiguration rateLimit) {
+    this.rateLimit = rateLimit;
+  }
+
+}
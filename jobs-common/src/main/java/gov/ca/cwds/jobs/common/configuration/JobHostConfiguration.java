@@ -0,0 +1,46 @@
+package gov.ca.cwds.jobs.common.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * Jobs run by one host JVM.
+ *
+ * @author CWDS TPT-2
+ */
+public class JobHostConfiguration implements JobConfiguration {
+
+  /**
+   * Entity reader threads allowed to run at the same time across all jobs.
+   */
+  @Min(1)
+  private int readerThreadsBudget = 16;
+
+  @NotNull
+  @Size(min = 1)
+  @Valid
+  private List<HostedJobConfiguration> jobs;
+
+  @JsonProperty
+  public int getReaderThreadsBudget() {
+    return readerThreadsBudget;
+  }
+
+  public void setReaderThreadsBudget(int readerThreadsBudget) {
+    this.readerThreadsBudget = readerThreadsBudget;
+  }
+
+  @JsonProperty
+  public List<HostedJobConfiguration> getJobs() {
+    return jobs;
+  }
+
+  public void setJobs(List<HostedJobConfiguration> jobs) {
+    this.jobs = jobs;
+  }
+
+}
@@ -31,6 +31,17 @@ public class JobOptions {
 
   public static final String CMD_LINE_ES_CONFIG = "config";
   public static final String CMD_LINE_LAST_RUN_FILE = "last-run-file";
+  public static final String CMD_LINE_REWIND_TO = "rewind-to";
+  public static final String CMD_LINE_REWIND_ENTRY = "rewind-entry";
+  public static final String CMD_LINE_DAEMON = "daemon";
+  public static final String CMD_LINE_POLL_INTERVAL = "poll-interval";
+  public static final String CMD_LINE_IDS_FILE = "ids-file";
+  public static final String CMD_LINE_ID_RANGE = "id-range";
+  public static final String CMD_LINE_FROM = "from";
+  public static final String CMD_LINE_TO = "to";
+
+  static final long DEFAULT_MIN_POLL_INTERVAL = 10;
+  static final long DEFAULT_MAX_POLL_INTERVAL = 300;
 
   /**
    * Location of Elasticsearch configuration file.
@@ -43,6 +54,51 @@ public class JobOptions {
    */
   final String lastRunLoc;
 
+  /**
+   * Save point journal time to rewind to (yyyy-MM-dd HH:mm:ss).
+   */
+  private String rewindTo;
+
+  /**
+   * Save point journal entry to rewind to.
+   */
+  private Long rewindEntry;
+
+  /**
+   * Keep running and poll for changes instead of exiting after one run.
+   */
+  private boolean daemon;
+
+  /**
+   * Seconds between polls when changes are flowing.
+   */
+  private long minPollInterval = DEFAULT_MIN_POLL_INTERVAL;
+
+  /**
+   * Seconds between polls when idle.
+   */
+  private long maxPollInterval = DEFAULT_MAX_POLL_INTERVAL;
+
+  /**
+   * File listing the ids of the entities to reindex, one per line.
+   */
+  private String idsFile;
+
+  /**
+   * First and last numeric ids of the entities to reindex.
+   */
+  private Long[] idRange;
+
+  /**
+   * Start of the change time window to reindex (yyyy-MM-dd HH:mm:ss), inclusive.
+   */
+  private String from;
+
+  /**
+   * End of the change time window to reindex (yyyy-MM-dd HH:mm:ss), exclusive.
+   */
+  private String to;
+
   public JobOptions(String esConfigLoc, String lastRunLoc) {
     this.esConfigLoc = esConfigLoc;
     this.lastRunLoc = lastRunLoc;
@@ -66,6 +122,57 @@ public class JobOptions {
     return lastRunLoc;
   }
 
+  public String getRewindTo() {
+    return rewindTo;
+  }
+
+  public Long getRewindEntry() {
+    return rewindEntry;
+  }
+
+  /**
+   * Forgets the rewind request once the save point has been rewound.
+   */
+  public void clearRewind() {
+    rewindTo = null;
+    rewindEntry = null;
+  }
+
+  public boolean isDaemon() {
+    return daemon;
+  }
+
+  public long getMinPollInterval() {
+    return minPollInterval;
+  }
+
+  public long getMaxPollInterval() {
+    return maxPollInterval;
+  }
+
+  public String getIdsFile() {
+    return idsFile;
+  }
+
+  public Long[] getIdRange() {
+    return idRange;
+  }
+
+  public String getFrom() {
+    return from;
+  }
+
+  public String getTo() {
+    return to;
+  }
+
+  /**
+   * @return true if only the listed entities have to be reindexed, leaving the save point as is
+   */
+  public boolean isTargetedReindex() {
+    return idsFile != null || idRange != null || from != null;
+  }
+
 
   /**
    * Define a command line option.
@@ -101,6 +208,23 @@ public class JobOptions {
     group.addOption(JobCmdLineOption.LAST_RUN_FILE.getOpt());
     ret.addOptionGroup(group);
 
+    // REWIND: journal time or journal entry.
+    OptionGroup rewindGroup = new OptionGroup();
+    rewindGroup.addOption(JobCmdLineOption.REWIND_TO.getOpt());
+    rewindGroup.addOption(JobCmdLineOption.REWIND_ENTRY.getOpt());
+    ret.addOptionGroup(rewindGroup);
+
+    ret.addOption(JobCmdLineOption.DAEMON.getOpt());
+    ret.addOption(JobCmdLineOption.POLL_INTERVAL.getOpt());
+
+    // TARGETED REINDEX: ids file, id range or change time window.
+    OptionGroup reindexGroup = new OptionGroup();
+    reindexGroup.addOption(JobCmdLineOption.IDS_FILE.getOpt());
+    reindexGroup.addOption(JobCmdLineOption.ID_RANGE.getOpt());
+    reindexGroup.addOption(JobCmdLineOption.FROM.getOpt());
+    ret.addOptionGroup(reindexGroup);
+    ret.addOption(JobCmdLineOption.TO.getOpt());
+
     return ret;
   }
 
@@ -132,6 +256,15 @@ public class JobOptions {
   public static JobOptions parseCommandLine(String[] args) {
     String esConfigLoc = null;
     String lastRunLoc = null;
+    String rewindTo = null;
+    Long rewindEntry = null;
+    boolean daemon = false;
+    long minPollInterval = DEFAULT_MIN_POLL_INTERVAL;
+    long maxPollInterval = DEFAULT_MAX_POLL_INTERVAL;
+    String idsFile = null;
+    Long[] idRange = null;
+    String from = null;
+    String to = null;
     try {
       final Options options = buildCmdLineOptions();
       final CommandLineParser parser = new DefaultParser();
@@ -150,16 +283,70 @@ public class JobOptions {
             LOGGER.info("last run file = {}", lastRunLoc);
             break;
 
+          case CMD_LINE_REWIND_TO:
+            rewindTo = opt.getValue().trim();
+            LOGGER.info("rewind to = {}", rewindTo);
+            break;
+
+          case CMD_LINE_REWIND_ENTRY:
+            rewindEntry = Long.valueOf(opt.getValue().trim());
+            LOGGER.info("rewind entry = {}", rewindEntry);
+            break;
+
+          case CMD_LINE_DAEMON:
+            daemon = true;
+            break;
+
+          case CMD_LINE_POLL_INTERVAL:
+            minPollInterval = Long.parseLong(opt.getValue(0).trim());
+            maxPollInterval = opt.getValues().length > 1
+                ? Long.parseLong(opt.getValue(1).trim()) : minPollInterval;
+            LOGGER.info("poll interval = {}..{} seconds", minPollInterval, maxPollInterval);
+            break;
+
+          case CMD_LINE_IDS_FILE:
+            idsFile = opt.getValue().trim();
+            LOGGER.info("ids file = {}", idsFile);
+            break;
+
+          case CMD_LINE_ID_RANGE:
+            if (opt.getValues().length != 2) {
+              throw new ParseException("id range requires first and last id");
+            }
+            idRange = new Long[]{Long.valueOf(opt.getValue(0).trim()),
+                Long.valueOf(opt.getValue(1).trim())};
+            LOGGER.info("id range = {}..{}", idRange[0], idRange[1]);
+            break;
+
+          case CMD_LINE_FROM:
+            from = opt.getValue().trim();
+            LOGGER.info("from = {}", from);
+            break;
+
+          case CMD_LINE_TO:
+            to = opt.getValue().trim();
+            LOGGER.info("to = {}", to);
+            break;
+
           default:
             break;
         }
       }
-    } catch (ParseException e) {
+    } catch (ParseException | NumberFormatException e) {
       printUsage();
       LOGGER.error("Error parsing command line: {}", e.getMessage(), e);
       throw new JobsException("Error parsing command line: " + e.getMessage(), e);
     }
     JobOptions jobOptions = new JobOptions(esConfigLoc, lastRunLoc);
+    jobOptions.rewindTo = rewindTo;
+    jobOptions.rewindEntry = rewindEntry;
+    jobOptions.daemon = daemon;
+    jobOptions.minPollInterval = minPollInterval;
+    jobOptions.maxPollInterval = maxPollInterval;
+    jobOptions.idsFile = idsFile;
+    jobOptions.idRange = idRange;
+    jobOptions.from = from;
+    jobOptions.to = to;
     validateJobOptions(jobOptions);
     return jobOptions;
   }
@@ -178,6 +365,17 @@ public class JobOptions {
           "job arguments error: specified configuration file " + configFile.getPath() + " not found");
     }
 
+    // check option: -p
+    if (jobOptions.getMinPollInterval() <= 0
+        || jobOptions.getMaxPollInterval() < jobOptions.getMinPollInterval()) {
+      throw new JobsException("job arguments error: poll interval "
+          + jobOptions.getMinPollInterval() + "," + jobOptions.getMaxPollInterval()
+          + " must be positive and ordered");
+    }
+
+    // check options: -i, -n, -f, -t
+    validateTargetedReindex(jobOptions);
+
     // check option: -l
     File timeFilesDir = new File(jobOptions.getLastRunLoc());
     if (createTimeFilesDirIfMissing(timeFilesDir) && LOGGER.isInfoEnabled()) {
@@ -190,6 +388,31 @@ public class JobOptions {
     return jobOptions;
   }
 
+  @SuppressFBWarnings("PATH_TRAVERSAL_IN") //Path cannot be controlled by the user
+  private static void validateTargetedReindex(JobOptions jobOptions) {
+    if (jobOptions.getTo() != null && jobOptions.getFrom() == null) {
+      throw new JobsException("job arguments error: --" + CMD_LINE_TO + " requires --"
+          + CMD_LINE_FROM);
+    }
+    if (!jobOptions.isTargetedReindex()) {
+      return;
+    }
+    if (jobOptions.isDaemon() || jobOptions.getRewindTo() != null
+        || jobOptions.getRewindEntry() != null) {
+      throw new JobsException(
+          "job arguments error: targeted reindex can't be combined with daemon mode or rewind");
+    }
+    if (jobOptions.getIdsFile() != null && !new File(jobOptions.getIdsFile()).isFile()) {
+      throw new JobsException(
+          "job arguments error: specified ids file " + jobOptions.getIdsFile() + " not found");
+    }
+    Long[] idRange = jobOptions.getIdRange();
+    if (idRange != null && idRange[0] > idRange[1]) {
+      throw new JobsException("job arguments error: id range " + idRange[0] + "," + idRange[1]
+          + " must be ordered");
+    }
+  }
+
   private static boolean createTimeFilesDirIfMissing(File timeFilesDir) {
     return !timeFilesDir.exists() && timeFilesDir.mkdir();
   }
@@ -8,6 +8,9 @@ public class MultiThreadConfiguration implements JobConfiguration {
   private int batchSize;
   private int elasticSearchBulkSize;
   private int readerThreadsCount;
+  private int fetchSize;
+  private int trackedIdentifiersCount = 100000;
+  private int readerChunkSize = 1;
 
   public int getBatchSize() {
     return batchSize;
@@ -33,4 +36,28 @@ public class MultiThreadConfiguration implements JobConfiguration {
     this.readerThreadsCount = readerThreadsCount;
   }
 
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  public void setFetchSize(int fetchSize) {
+    this.fetchSize = fetchSize;
+  }
+
+  public int getTrackedIdentifiersCount() {
+    return trackedIdentifiersCount;
+  }
+
+  public void setTrackedIdentifiersCount(int trackedIdentifiersCount) {
+    this.trackedIdentifiersCount = trackedIdentifiersCount;
+  }
+
+  public int getReaderChunkSize() {
+    return readerChunkSize;
+  }
+
+  public void setReaderChunkSize(int readerChunkSize) {
+    this.readerChunkSize = readerChunkSize;
+  }
+
 }
@@ -0,0 +1,56 @@
+package gov.ca.cwds.jobs.common.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+
+/**
+ * Token bucket budget of SQL statements per second for one data source. Full budget is used
+ * outside of the schedule windows.
+ *
+ * @author CWDS TPT-2
+ */
+public class RateLimitConfiguration {
+
+  private double statementsPerSecond;
+
+  @Valid
+  private List<RateLimitWindow> schedule = new ArrayList<>();
+
+  @JsonProperty
+  public double getStatementsPerSecond() {
+    return statementsPerSecond;
+  }
+
+  public void setStatementsPerSecond(double statementsPerSecond) {
+    this.statementsPerSecond = statementsPerSecond;
+  }
+
+  @JsonProperty
+  public List<RateLimitWindow> getSchedule() {
+    return schedule;
+  }
+
+  public void setSchedule(List<RateLimitWindow> schedule) {
+    this.schedule = schedule;
+  }
+
+  public boolean isEnabled() {
+    return statementsPerSecond > 0;
+  }
+
+  /**
+   * @return percent of the budget of the first window containing the time, 100 if there is none
+   */
+  public int getPercent(LocalTime time) {
+    for (RateLimitWindow window : schedule) {
+      if (window.contains(time)) {
+        return window.getPercent();
+      }
+    }
+    return 100;
+  }
+
+}
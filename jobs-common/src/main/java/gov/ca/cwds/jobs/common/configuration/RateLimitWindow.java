@@ -0,0 +1,60 @@
+package gov.ca.cwds.jobs.common.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalTime;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Time of day window [from, to) with reduced rate limit budget, may span midnight.
+ *
+ * @author CWDS TPT-2
+ */
+public class RateLimitWindow {
+
+  @NotNull
+  private LocalTime from;
+
+  @NotNull
+  private LocalTime to;
+
+  @Min(1)
+  @Max(100)
+  private int percent = 100;
+
+  @JsonProperty
+  public LocalTime getFrom() {
+    return from;
+  }
+
+  public void setFrom(LocalTime from) {
+    this.from = from;
+  }
+
+  @JsonProperty
+  public LocalTime getTo() {
+    return to;
+  }
+
+  public void setTo(LocalTime to) {
+    this.to = to;
+  }
+
+  @JsonProperty
+  public int getPercent() {
+    return percent;
+  }
+
+  public void setPercent(int percent) {
+    this.percent = percent;
+  }
+
+  public boolean contains(LocalTime time) {
+    if (from.isAfter(to)) {
+      return !time.isBefore(from) || time.isBefore(to);
+    }
+    return !time.isBefore(from) && time.isBefore(to);
+  }
+
+}
@@ -0,0 +1,82 @@
+package gov.ca.cwds.jobs.common.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.db.DataSourceFactory;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+/**
+ * Where the save point container is kept. A local file under the last run dir is the default,
+ * a database table or an Elasticsearch document let the job move between hosts.
+ *
+ * @author CWDS TPT-2
+ */
+public class SavePointStorageConfiguration {
+
+  public enum StorageType {
+    FILE, JDBC, ELASTICSEARCH
+  }
+
+  @NotNull
+  private StorageType type = StorageType.FILE;
+
+  /**
+   * Identifies the save point of the job in a shared table or index.
+   */
+  private String key;
+
+  @Valid
+  private DataSourceFactory dataSourceFactory;
+
+  @Pattern(regexp = "[A-Za-z0-9_.]+")
+  private String table = "JOB_SAVE_POINT";
+
+  private String index = "job_save_points";
+
+  @JsonProperty
+  public StorageType getType() {
+    return type;
+  }
+
+  public void setType(StorageType type) {
+    this.type = type;
+  }
+
+  @JsonProperty
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  @JsonProperty
+  public DataSourceFactory getDataSourceFactory() {
+    return dataSourceFactory;
+  }
+
+  public void setDataSourceFactory(DataSourceFactory dataSourceFactory) {
+    this.dataSourceFactory = dataSourceFactory;
+  }
+
+  @JsonProperty
+  public String getTable() {
+    return table;
+  }
+
+  public void setTable(String table) {
+    this.table = table;
+  }
+
+  @JsonProperty
+  public String getIndex() {
+    return index;
+  }
+
+  public void setIndex(String index) {
+    this.index = index;
+  }
+
+}
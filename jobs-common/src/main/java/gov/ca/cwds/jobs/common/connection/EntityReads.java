@@ -0,0 +1,50 @@
+package gov.ca.cwds.jobs.common.connection;
+
+import gov.ca.cwds.jobs.common.ratelimit.DataSourceRateLimiter;
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread as loading entities, so that the connections it opens are taken from
+ * the readers pool, or from read replicas if they are allowed. Replicas may lag behind the
+ * primary, so only the loads which don't depend on the latest changes are allowed to use them.
+ * The mark must be set before the unit of work starts,
+ * since the session acquires its connection when the transaction begins. For the same reason
+ * the rate limit permits of the statements already charged are taken before the mark is set.
+ *
+ * @author CWDS TPT-2
+ */
+public final class EntityReads {
+
+  private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+  private static final ThreadLocal<Boolean> FROM_REPLICAS = ThreadLocal.withInitial(() -> false);
+
+  private EntityReads() {
+  }
+
+  /**
+   * @param fromReplicas true if the entities may be loaded from read replicas
+   */
+  public static <T> T call(Supplier<T> supplier, boolean fromReplicas) {
+    DataSourceRateLimiter.awaitPermits();
+    boolean active = ACTIVE.get();
+    boolean replicas = FROM_REPLICAS.get();
+    ACTIVE.set(true);
+    FROM_REPLICAS.set(fromReplicas);
+    try {
+      return supplier.get();
+    } finally {
+      ACTIVE.set(active);
+      FROM_REPLICAS.set(replicas);
+    }
+  }
+
+  public static boolean isActive() {
+    return ACTIVE.get();
+  }
+
+  public static boolean isFromReplicas() {
+    return ACTIVE.get() && FROM_REPLICAS.get();
+  }
+
+}
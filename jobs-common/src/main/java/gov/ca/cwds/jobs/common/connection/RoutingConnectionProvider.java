@@ -0,0 +1,245 @@
+package gov.ca.cwds.jobs.common.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connection provider which gives connections of threads marked by {@link EntityReads} from the
+ * readers pool, or from the least loaded healthy read replica if the mark allows replicas, and
+ * all the other connections (identifiers, save points, finalizers) from the primary pool, so
+ * that they are never starved by readers. Replica failing to give a connection is skipped for
+ * the retry period, the readers pool is used if no replica is healthy. Every pool is served by
+ * its own instance of the configured connection provider.
+ *
+ * @author CWDS TPT-2
+ */
+public class RoutingConnectionProvider implements ConnectionProvider, Configurable,
+    Stoppable, ServiceRegistryAwareService {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(RoutingConnectionProvider.class);
+
+  public static final String PREFIX = "cwds.routing.";
+
+  public static final String CONNECTION_PROVIDER = PREFIX + "connection_provider_class";
+
+  public static final String REPLICAS_COUNT = PREFIX + "replicas_count";
+
+  public static final String RETRY_SECONDS = PREFIX + "retry_seconds";
+
+  /**
+   * Prefix of the readers pool properties overriding the primary ones, the readers pool exists
+   * only if there is at least one of them.
+   */
+  public static final String READERS_PREFIX = PREFIX + "readers.";
+
+  private transient ServiceRegistryImplementor serviceRegistry;
+
+  private transient Target primary;
+
+  private transient Target readers;
+
+  private final transient List<Target> replicas = new ArrayList<>();
+
+  private final transient Map<Connection, Target> leases = new ConcurrentHashMap<>();
+
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  private long retryMillis;
+
+  public static String replicaProperty(int replicaIndex, String property) {
+    return PREFIX + "replica." + replicaIndex + "." + property;
+  }
+
+  public static String readersProperty(String property) {
+    return READERS_PREFIX + property;
+  }
+
+  @Override
+  public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+    this.serviceRegistry = serviceRegistry;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void configure(Map configurationValues) {
+    Map<String, Object> primaryValues = new HashMap<>();
+    configurationValues.forEach((key, value) -> {
+      if (!String.valueOf(key).startsWith(PREFIX)) {
+        primaryValues.put(String.valueOf(key), value);
+      }
+    });
+    primaryValues.remove(AvailableSettings.CONNECTION_PROVIDER);
+    Object providerClassName = configurationValues.get(CONNECTION_PROVIDER);
+    Class<?> providerClass = providerClassName == null
+        ? DriverManagerConnectionProviderImpl.class
+        : serviceRegistry.getService(ClassLoaderService.class)
+            .classForName(providerClassName.toString());
+    retryMillis = TimeUnit.SECONDS.toMillis(
+        Long.parseLong(String.valueOf(configurationValues.getOrDefault(RETRY_SECONDS, "30"))));
+
+    primary = new Target("primary pool", createProvider(providerClass, primaryValues));
+    Map<String, Object> readersOverrides = overrides(configurationValues, READERS_PREFIX);
+    if (!readersOverrides.isEmpty()) {
+      Map<String, Object> readersValues = new HashMap<>(primaryValues);
+      readersValues.putAll(readersOverrides);
+      readers = new Target("readers pool", createProvider(providerClass, readersValues));
+    }
+    int count = Integer.parseInt(
+        String.valueOf(configurationValues.getOrDefault(REPLICAS_COUNT, "0")));
+    for (int i = 0; i < count; i++) {
+      Map<String, Object> replicaValues = new HashMap<>(primaryValues);
+      replicaValues.putAll(overrides(configurationValues, replicaProperty(i, "")));
+      replicas.add(new Target("replica " + i, createProvider(providerClass, replicaValues)));
+    }
+    LOGGER.info("Initial load reads entities from {} read replicas, {}", replicas.size(),
+        readers == null ? "primary pool is shared by readers" : "readers have their own pool");
+  }
+
+  private static Map<String, Object> overrides(Map<?, ?> configurationValues, String prefix) {
+    Map<String, Object> values = new HashMap<>();
+    configurationValues.forEach((key, value) -> {
+      if (String.valueOf(key).startsWith(prefix)) {
+        values.put(String.valueOf(key).substring(prefix.length()), value);
+      }
+    });
+    return values;
+  }
+
+  private ConnectionProvider createProvider(Class<?> providerClass, Map<String, Object> values) {
+    try {
+      ConnectionProvider provider = (ConnectionProvider) providerClass.newInstance();
+      if (provider instanceof ServiceRegistryAwareService) {
+        ((ServiceRegistryAwareService) provider).injectServices(serviceRegistry);
+      }
+      if (provider instanceof Configurable) {
+        ((Configurable) provider).configure(values);
+      }
+      return provider;
+    } catch (InstantiationException | IllegalAccessException e) {
+      throw new HibernateException("Can't create connection provider " + providerClass, e);
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!EntityReads.isActive()) {
+      return lease(primary);
+    }
+    Target replica;
+    while (EntityReads.isFromReplicas() && !replicas.isEmpty()
+        && (replica = pickReplica()) != null) {
+      try {
+        return lease(replica);
+      } catch (SQLException e) {
+        replica.unhealthyUntil = System.currentTimeMillis() + retryMillis;
+        LOGGER.warn("Can't get connection from {}, skipping it for {} ms", replica.name,
+            retryMillis, e);
+      }
+    }
+    return lease(readers != null ? readers : primary);
+  }
+
+  /**
+   * Healthy replica having the least active connections. Round robin start spreads replicas
+   * having the same load.
+   */
+  private Target pickReplica() {
+    long now = System.currentTimeMillis();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    Target result = null;
+    for (int i = 0; i < replicas.size(); i++) {
+      Target replica = replicas.get((start + i) % replicas.size());
+      if (replica.unhealthyUntil <= now
+          && (result == null || replica.active.get() < result.active.get())) {
+        result = replica;
+      }
+    }
+    return result;
+  }
+
+  private Connection lease(Target target) throws SQLException {
+    Connection connection = target.provider.getConnection();
+    target.active.incrementAndGet();
+    leases.put(connection, target);
+    return connection;
+  }
+
+  @Override
+  public void closeConnection(Connection connection) throws SQLException {
+    Target target = leases.remove(connection);
+    if (target == null) {
+      primary.provider.closeConnection(connection);
+      return;
+    }
+    target.active.decrementAndGet();
+    target.provider.closeConnection(connection);
+  }
+
+  @Override
+  public boolean supportsAggressiveRelease() {
+    return false;
+  }
+
+  @Override
+  public boolean isUnwrappableAs(Class unwrapType) {
+    return primary.provider.isUnwrappableAs(unwrapType);
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> unwrapType) {
+    return primary.provider.unwrap(unwrapType);
+  }
+
+  @Override
+  public void stop() {
+    List<Target> targets = new ArrayList<>(replicas);
+    if (readers != null) {
+      targets.add(readers);
+    }
+    targets.add(primary);
+    for (Target target : targets) {
+      if (target.provider instanceof Stoppable) {
+        ((Stoppable) target.provider).stop();
+      }
+    }
+  }
+
+  private static final class Target {
+
+    private final String name;
+
+    private final ConnectionProvider provider;
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private volatile long unhealthyUntil;
+
+    Target(String name, ConnectionProvider provider) {
+      this.name = name;
+      this.provider = provider;
+    }
+
+  }
+
+}
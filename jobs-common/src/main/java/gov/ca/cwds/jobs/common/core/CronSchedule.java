@@ -0,0 +1,129 @@
+package gov.ca.cwds.jobs.common.core;
+
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Five field cron expression: minute, hour, day of month, month and day of week (0 or 7 is
+ * Sunday). Fields take {@code *}, values, ranges, lists and steps such as {@code 0-30/10}. Like
+ * cron, a day matches either restricted day field when both are restricted.
+ *
+ * @author CWDS TPT-2
+ */
+final class CronSchedule {
+
+  private static final int MAX_YEARS_AHEAD = 5;
+
+  private final String expression;
+
+  private final BitSet minutes;
+
+  private final BitSet hours;
+
+  private final BitSet daysOfMonth;
+
+  private final BitSet months;
+
+  private final BitSet daysOfWeek;
+
+  private final boolean anyDayOfMonth;
+
+  private final boolean anyDayOfWeek;
+
+  CronSchedule(String expression) {
+    this.expression = expression;
+    String[] fields = expression.trim().split("\\s+");
+    if (fields.length != 5) {
+      throw new JobsException("Cron expression '" + expression + "' must have 5 fields");
+    }
+    try {
+      minutes = parse(fields[0], 0, 59);
+      hours = parse(fields[1], 0, 23);
+      daysOfMonth = parse(fields[2], 1, 31);
+      months = parse(fields[3], 1, 12);
+      daysOfWeek = parse(fields[4], 0, 7);
+    } catch (IllegalArgumentException e) {
+      throw new JobsException("Invalid cron expression '" + expression + "'", e);
+    }
+    if (daysOfWeek.get(7)) {
+      daysOfWeek.set(0);
+    }
+    anyDayOfMonth = "*".equals(fields[2]);
+    anyDayOfWeek = "*".equals(fields[4]);
+  }
+
+  /**
+   * Returns the first matching minute after the time.
+   */
+  LocalDateTime next(LocalDateTime after) {
+    LocalDateTime time = after.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+    int lastYear = time.getYear() + MAX_YEARS_AHEAD;
+    while (time.getYear() <= lastYear) {
+      if (!months.get(time.getMonthValue())) {
+        time = time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+      } else if (!matchesDay(time)) {
+        time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+      } else if (!hours.get(time.getHour())) {
+        time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+      } else if (!minutes.get(time.getMinute())) {
+        time = time.plusMinutes(1);
+      } else {
+        return time;
+      }
+    }
+    throw new JobsException("Cron expression '" + expression + "' never matches");
+  }
+
+  @Override
+  public String toString() {
+    return expression;
+  }
+
+  private boolean matchesDay(LocalDateTime time) {
+    boolean dayOfMonth = daysOfMonth.get(time.getDayOfMonth());
+    boolean dayOfWeek = daysOfWeek.get(time.getDayOfWeek().getValue() % 7);
+    if (anyDayOfMonth) {
+      return dayOfWeek;
+    }
+    if (anyDayOfWeek) {
+      return dayOfMonth;
+    }
+    return dayOfMonth || dayOfWeek;
+  }
+
+  private static BitSet parse(String field, int min, int max) {
+    BitSet values = new BitSet(max + 1);
+    for (String part : field.split(",")) {
+      String range = part;
+      int step = 1;
+      int slash = part.indexOf('/');
+      if (slash >= 0) {
+        range = part.substring(0, slash);
+        step = Integer.parseInt(part.substring(slash + 1));
+      }
+      int from;
+      int to;
+      int dash = range.indexOf('-');
+      if ("*".equals(range)) {
+        from = min;
+        to = max;
+      } else if (dash > 0) {
+        from = Integer.parseInt(range.substring(0, dash));
+        to = Integer.parseInt(range.substring(dash + 1));
+      } else {
+        from = Integer.parseInt(range);
+        to = slash >= 0 ? max : from;
+      }
+      if (from < min || to > max || from > to || step < 1) {
+        throw new IllegalArgumentException("Field '" + field + "' is out of " + min + "-" + max);
+      }
+      for (int value = from; value <= to; value += step) {
+        values.set(value);
+      }
+    }
+    return values;
+  }
+
+}
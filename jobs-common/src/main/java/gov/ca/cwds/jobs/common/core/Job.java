@@ -1,5 +1,7 @@
 package gov.ca.cwds.jobs.common.core;
 
+import gov.ca.cwds.jobs.common.exception.JobsException;
+
 /**
  * @author CWDS API Team
  */
@@ -11,6 +13,15 @@ public interface Job {
    */
   void run();
 
+  /**
+   * Processes the changes made since the save point, keeping resources open for the next poll.
+   *
+   * @return number of changed entities processed
+   */
+  default int poll() {
+    throw new JobsException(getClass().getSimpleName() + " can't run in daemon mode");
+  }
+
   default void close() {
   }
 
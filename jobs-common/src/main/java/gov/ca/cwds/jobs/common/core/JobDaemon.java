@@ -0,0 +1,151 @@
+package gov.ca.cwds.jobs.common.core;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import gov.ca.cwds.jobs.common.cache.DictionaryEntitiesCache;
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.inject.JobModule;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.common.savepoint.SavePointStore;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the incremental job warm and polls for changes. The poll interval is the minimal one
+ * while changes are flowing and doubles on every idle poll up to the maximal one. An initial load
+ * runs once as usual, the job is then built again for incremental load.
+ *
+ * <p>On JVM shutdown the daemon finishes the current poll, flushes the save point and closes the
+ * job before the JVM exits. The shutdown doesn't wait longer than {@link #STOP_TIMEOUT_SECONDS},
+ * save points of the committed batches are kept anyway.
+ *
+ * @author CWDS TPT-2
+ */
+final class JobDaemon {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobDaemon.class);
+
+  static final long STOP_TIMEOUT_SECONDS = 120;
+
+  private final JobModuleBuilder jobModuleBuilder;
+
+  private final JobOptions jobOptions;
+
+  private final CountDownLatch stopLatch = new CountDownLatch(1);
+
+  private final CountDownLatch stoppedLatch = new CountDownLatch(1);
+
+  private volatile Thread daemonThread;
+
+  JobDaemon(JobModuleBuilder jobModuleBuilder, JobOptions jobOptions) {
+    this.jobModuleBuilder = jobModuleBuilder;
+    this.jobOptions = jobOptions;
+  }
+
+  void run() {
+    daemonThread = Thread.currentThread();
+    Thread shutdownHook = new Thread(this::stop, "job-daemon-shutdown");
+    Runtime.getRuntime().addShutdownHook(shutdownHook);
+    try {
+      while (!isStopped()) {
+        JobModule jobModule = jobModuleBuilder.buildJobModule(jobOptions, true);
+        if (jobModule.getJobMode() == JobMode.INCREMENTAL_LOAD) {
+          poll(jobModule);
+        } else {
+          LOGGER.info("Daemon runs {} before polling for changes", jobModule.getJobMode());
+          JobRunner.run(jobModule);
+        }
+      }
+    } finally {
+      stoppedLatch.countDown();
+      removeShutdownHook(shutdownHook);
+    }
+  }
+
+  private void poll(JobModule jobModule) {
+    Job job = null;
+    try {
+      Injector injector = Guice.createInjector(jobModule);
+      job = injector.getInstance(Job.class);
+      LOGGER.info("Job daemon has been started");
+      long pollInterval = jobOptions.getMinPollInterval();
+      while (!isStopped()) {
+        int processed = job.poll();
+        evictSecondLevelCaches(injector);
+        pollInterval = nextPollInterval(pollInterval, processed);
+        LOGGER.info("{} changed entities processed, next poll in {} seconds", processed,
+            pollInterval);
+        awaitStop(pollInterval);
+      }
+      LOGGER.info("Job daemon has been stopped");
+    } finally {
+      if (job != null) {
+        job.close();
+      }
+      SavePointStore.close();
+    }
+  }
+
+  /**
+   * Minimal interval while changes are flowing, doubled on every idle poll up to the maximal one.
+   */
+  long nextPollInterval(long pollInterval, int processed) {
+    return processed > 0 ? jobOptions.getMinPollInterval()
+        : Math.min(pollInterval * 2, jobOptions.getMaxPollInterval());
+  }
+
+  /**
+   * Cached entities may change between polls, so every poll reads them again as a new job run
+   * would. Dictionaries are kept, they are warmed up once per session factory.
+   */
+  private static void evictSecondLevelCaches(Injector injector) {
+    injector.getAllBindings().values().stream()
+        .filter(binding -> binding.getKey().getTypeLiteral().getRawType() == SessionFactory.class)
+        .map(binding -> (SessionFactory) binding.getProvider().get())
+        .distinct()
+        .forEach(DictionaryEntitiesCache::evictNonDictionaryRegions);
+  }
+
+  /**
+   * Stops polling and waits for the current poll to finish, unless the daemon stops itself.
+   */
+  void stop() {
+    LOGGER.info("Stopping job daemon");
+    stopLatch.countDown();
+    if (Thread.currentThread() == daemonThread) {
+      return;
+    }
+    try {
+      if (!stoppedLatch.await(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Job daemon hasn't stopped in {} seconds", STOP_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void removeShutdownHook(Thread shutdownHook) {
+    try {
+      Runtime.getRuntime().removeShutdownHook(shutdownHook);
+    } catch (IllegalStateException e) {
+      // the JVM is shutting down already, the hook is running
+    }
+  }
+
+  private boolean isStopped() {
+    return stopLatch.getCount() == 0;
+  }
+
+  private void awaitStop(long seconds) {
+    try {
+      stopLatch.await(seconds, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stopLatch.countDown();
+    }
+  }
+
+}
@@ -0,0 +1,206 @@
+package gov.ca.cwds.jobs.common.core;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import gov.ca.cwds.jobs.common.configuration.HostedJobConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobHostConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.elastic.SharedElasticsearchClients;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs several jobs in one JVM on cron schedules. Jobs share the Elasticsearch clients and a
+ * budget of entity reader threads, each run gets its own {@link JobScope} and every job keeps its
+ * save point in the host last run dir under the job name. A job whose previous run is still in
+ * progress skips the trigger. On shutdown running jobs get {@link #STOP_TIMEOUT_SECONDS} to
+ * finish before they are interrupted.
+ *
+ * <p>Usage: {@code java gov.ca.cwds.jobs.common.core.JobHost -c host.yaml -l <last run dir>}
+ * with the builders of the hosted jobs on the classpath.
+ *
+ * @author CWDS TPT-2
+ */
+public final class JobHost {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobHost.class);
+
+  static final long STOP_TIMEOUT_SECONDS = 120;
+
+  private final List<HostedJob> jobs = new ArrayList<>();
+
+  private final Semaphore readerPermits;
+
+  private final SharedElasticsearchClients sharedClients = new SharedElasticsearchClients();
+
+  private final ScheduledExecutorService scheduler = Executors
+      .newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "job-host-scheduler"));
+
+  private final CountDownLatch stoppedLatch = new CountDownLatch(1);
+
+  JobHost(JobHostConfiguration configuration, String lastRunDir) {
+    readerPermits = new Semaphore(configuration.getReaderThreadsBudget());
+    Set<String> names = new HashSet<>();
+    for (HostedJobConfiguration jobConfiguration : configuration.getJobs()) {
+      if (!names.add(jobConfiguration.getName())) {
+        throw new JobsException("Job name " + jobConfiguration.getName() + " is not unique");
+      }
+      jobs.add(new HostedJob(jobConfiguration, lastRunDir));
+    }
+  }
+
+  public static void main(String[] args) {
+    JobOptions jobOptions = JobOptions.parseCommandLine(args);
+    JobHostConfiguration configuration = JobConfiguration
+        .getJobsConfiguration(JobHostConfiguration.class, jobOptions.getConfigFileLocation());
+    new JobHost(configuration, jobOptions.getLastRunLoc()).run();
+  }
+
+  void run() {
+    Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "job-host-shutdown"));
+    jobs.forEach(this::schedule);
+    LOGGER.info("Job host has been started with {} jobs", jobs.size());
+    try {
+      stoppedLatch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stop();
+    }
+  }
+
+  private void schedule(HostedJob job) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime nextRun = job.schedule.next(now);
+    LOGGER.info("Next run of job {} is at {}", job.name, nextRun);
+    scheduler.schedule(() -> trigger(job), Duration.between(now, nextRun).toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Runs the job now unless its previous run is still in progress.
+   *
+   * @return true if the run has been started
+   */
+  boolean trigger(String jobName) {
+    return jobs.stream().filter(job -> job.name.equals(jobName)).findFirst()
+        .map(this::start)
+        .orElseThrow(() -> new JobsException("Job " + jobName + " is not hosted"));
+  }
+
+  private void trigger(HostedJob job) {
+    start(job);
+    schedule(job);
+  }
+
+  private boolean start(HostedJob job) {
+    if (!job.running.compareAndSet(false, true)) {
+      LOGGER.warn("Job {} is still running, the run is skipped", job.name);
+      return false;
+    }
+    try {
+      job.executor.execute(() -> runJob(job));
+      return true;
+    } catch (RejectedExecutionException e) {
+      LOGGER.info("Job host is stopping, job {} is not started", job.name);
+      job.running.set(false);
+      return false;
+    }
+  }
+
+  private void runJob(HostedJob job) {
+    try {
+      LOGGER.info("Job {} has been started", job.name);
+      new JobScope(job.name, readerPermits, sharedClients)
+          .run(() -> JobRunner.runJob(job.jobModuleBuilder, job.getArgs()));
+      LOGGER.info("Job {} has been finished", job.name);
+    } catch (RuntimeException e) {
+      LOGGER.error("Job {} has failed", job.name, e);
+    } finally {
+      job.running.set(false);
+    }
+  }
+
+  void stop() {
+    if (stoppedLatch.getCount() == 0) {
+      return;
+    }
+    LOGGER.info("Stopping job host");
+    scheduler.shutdownNow();
+    for (HostedJob job : jobs) {
+      job.executor.shutdown();
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STOP_TIMEOUT_SECONDS);
+    try {
+      for (HostedJob job : jobs) {
+        if (!job.executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          LOGGER.warn("Job {} hasn't finished in {} seconds, it is interrupted", job.name,
+              STOP_TIMEOUT_SECONDS);
+          job.executor.shutdownNow();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      sharedClients.close();
+      stoppedLatch.countDown();
+    }
+  }
+
+  private static final class HostedJob {
+
+    private final String name;
+
+    private final CronSchedule schedule;
+
+    private final JobModuleBuilder jobModuleBuilder;
+
+    private final String config;
+
+    private final String lastRunDir;
+
+    private final ExecutorService executor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN") //Path cannot be controlled by the user
+    private HostedJob(HostedJobConfiguration configuration, String hostLastRunDir) {
+      name = configuration.getName();
+      schedule = new CronSchedule(configuration.getSchedule());
+      jobModuleBuilder = createBuilder(configuration.getBuilder());
+      config = configuration.getConfig();
+      lastRunDir = Paths.get(hostLastRunDir, name).toString();
+      executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, name));
+    }
+
+    private String[] getArgs() {
+      return new String[]{"--" + JobOptions.CMD_LINE_ES_CONFIG, config,
+          "--" + JobOptions.CMD_LINE_LAST_RUN_FILE, lastRunDir};
+    }
+
+    private static JobModuleBuilder createBuilder(String className) {
+      try {
+        return Class.forName(className).asSubclass(JobModuleBuilder.class).newInstance();
+      } catch (ReflectiveOperationException | ClassCastException e) {
+        throw new JobsException("Can't create job module builder " + className, e);
+      }
+    }
+
+  }
+
+}
@@ -22,6 +22,8 @@ public class JobImpl<E, S extends SavePoint> implements Job {
   @Inject
   private JobPreparator jobPreparator;
 
+  private boolean initialized;
+
   @Override
   public void run() {
     try {
@@ -37,6 +39,16 @@ public class JobImpl<E, S extends SavePoint> implements Job {
     }
   }
 
+  @Override
+  public int poll() {
+    if (!initialized) {
+      jobPreparator.run();
+      batchProcessor.init();
+      initialized = true;
+    }
+    return batchProcessor.processBatches();
+  }
+
   @Override
   public void close() {
     batchProcessor.destroy();
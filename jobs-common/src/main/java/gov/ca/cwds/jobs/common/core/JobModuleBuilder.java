@@ -1,5 +1,6 @@
 package gov.ca.cwds.jobs.common.core;
 
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
 import gov.ca.cwds.jobs.common.inject.JobModule;
 
 /**
@@ -7,6 +8,10 @@ import gov.ca.cwds.jobs.common.inject.JobModule;
  */
 public interface JobModuleBuilder {
 
-  JobModule buildJobModule(String[] args, boolean elasticSearchModule);
+  default JobModule buildJobModule(String[] args, boolean elasticSearchModule) {
+    return buildJobModule(JobOptions.parseCommandLine(args), elasticSearchModule);
+  }
+
+  JobModule buildJobModule(JobOptions jobOptions, boolean elasticSearchModule);
 
 }
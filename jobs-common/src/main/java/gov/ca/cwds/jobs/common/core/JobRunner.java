@@ -1,7 +1,9 @@
 package gov.ca.cwds.jobs.common.core;
 
 import com.google.inject.Guice;
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
 import gov.ca.cwds.jobs.common.inject.JobModule;
+import gov.ca.cwds.jobs.common.savepoint.SavePointStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +17,33 @@ public final class JobRunner {
   private JobRunner() {
   }
 
+  /**
+   * Runs the job once, or as a daemon polling for changes if requested on the command line. The
+   * process exits with status 1 if the job fails, threads left by the failed job don't keep it
+   * alive.
+   */
+  @SuppressWarnings({"squid:S1147", "findbugs:DM_EXIT"}) // the job's process must end on failure
+  public static void run(JobModuleBuilder jobModuleBuilder, String[] args) {
+    try {
+      runJob(jobModuleBuilder, args);
+    } catch (RuntimeException e) {
+      LOGGER.error("Job has failed", e);
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Same as {@link #run(JobModuleBuilder, String[])}, but a failure is thrown to the caller.
+   */
+  static void runJob(JobModuleBuilder jobModuleBuilder, String[] args) {
+    JobOptions jobOptions = JobOptions.parseCommandLine(args);
+    if (jobOptions.isDaemon()) {
+      new JobDaemon(jobModuleBuilder, jobOptions).run();
+    } else {
+      run(jobModuleBuilder.buildJobModule(jobOptions, true));
+    }
+  }
+
   public static void run(JobModule mainModule) {
     Job job = null;
     try {
@@ -26,6 +55,7 @@ public final class JobRunner {
       if (job != null) {
         job.close();
       }
+      SavePointStore.close();
     }
   }
 
@@ -0,0 +1,86 @@
+package gov.ca.cwds.jobs.common.core;
+
+import gov.ca.cwds.jobs.common.elastic.SharedElasticsearchClients;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * State of one job run that used to be static: counters, the exception flag and the save point
+ * stores. A scope is inherited by the threads the job creates, so several jobs can share a JVM.
+ * Jobs running alone use the default scope.
+ *
+ * @author CWDS TPT-2
+ */
+public final class JobScope {
+
+  private static final JobScope DEFAULT_SCOPE = new JobScope("default", null, null);
+
+  private static final InheritableThreadLocal<JobScope> CURRENT_SCOPE =
+      new InheritableThreadLocal<>();
+
+  private final String name;
+
+  private final Semaphore readerPermits;
+
+  private final SharedElasticsearchClients sharedClients;
+
+  private final Map<Class<?>, Object> attributes = new HashMap<>();
+
+  /**
+   * @param name job name
+   * @param readerPermits entity reads budget shared with other jobs, null if unlimited
+   * @param sharedClients Elasticsearch clients shared with other jobs, null if not shared
+   */
+  public JobScope(String name, Semaphore readerPermits,
+      SharedElasticsearchClients sharedClients) {
+    this.name = name;
+    this.readerPermits = readerPermits;
+    this.sharedClients = sharedClients;
+  }
+
+  public static JobScope current() {
+    JobScope scope = CURRENT_SCOPE.get();
+    return scope == null ? DEFAULT_SCOPE : scope;
+  }
+
+  /**
+   * Runs the action in this scope on the current thread.
+   */
+  public void run(Runnable action) {
+    JobScope previousScope = CURRENT_SCOPE.get();
+    CURRENT_SCOPE.set(this);
+    try {
+      action.run();
+    } finally {
+      if (previousScope == null) {
+        CURRENT_SCOPE.remove();
+      } else {
+        CURRENT_SCOPE.set(previousScope);
+      }
+    }
+  }
+
+  /**
+   * Returns the scope's instance of the owner's state, created on first use.
+   */
+  public synchronized <T> T getAttribute(Class<?> owner, Supplier<T> factory) {
+    @SuppressWarnings("unchecked")
+    T attribute = (T) attributes.computeIfAbsent(owner, key -> factory.get());
+    return attribute;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Semaphore getReaderPermits() {
+    return readerPermits;
+  }
+
+  public SharedElasticsearchClients getSharedClients() {
+    return sharedClients;
+  }
+
+}
@@ -24,4 +24,11 @@ public abstract class CustomDao {
   protected Session currentSession() {
     return sessionFactory.getCurrentSession();
   }
+
+  /**
+   * Detaches everything loaded so far, bounds memory of a session shared by many entities.
+   */
+  public void clearSession() {
+    currentSession().clear();
+  }
 }
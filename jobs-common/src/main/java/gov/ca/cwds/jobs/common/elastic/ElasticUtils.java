@@ -1,5 +1,6 @@
 package gov.ca.cwds.jobs.common.elastic;
 
+import gov.ca.cwds.jobs.common.core.JobScope;
 import gov.ca.cwds.rest.api.ApiException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
@@ -7,6 +8,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import org.elasticsearch.client.Client;
 import org.elasticsearch.client.transport.TransportClient;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.transport.InetSocketTransportAddress;
@@ -23,6 +25,15 @@ public final class ElasticUtils {
 
   private ElasticUtils() {}
 
+  /**
+   * Returns the client shared by the jobs of the JVM if the job runs in a host, a new client
+   * otherwise. Closing a shared client has no effect.
+   */
+  public static Client getOrCreateESClient(ElasticsearchConfiguration config) {
+    SharedElasticsearchClients sharedClients = JobScope.current().getSharedClients();
+    return sharedClients == null ? createAndConfigureESClient(config) : sharedClients.get(config);
+  }
+
   public static TransportClient createAndConfigureESClient(ElasticsearchConfiguration config) {
     TransportClient client = null;
 
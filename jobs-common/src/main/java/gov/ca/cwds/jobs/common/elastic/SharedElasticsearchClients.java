@@ -0,0 +1,41 @@
+package gov.ca.cwds.jobs.common.elastic;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.elasticsearch.client.Client;
+import org.elasticsearch.client.FilterClient;
+import org.elasticsearch.client.transport.TransportClient;
+
+/**
+ * Elasticsearch clients shared by the jobs of one JVM, one client per cluster connection. Jobs
+ * get a view of the client that ignores close, the clients are closed with the host.
+ *
+ * @author CWDS TPT-2
+ */
+public final class SharedElasticsearchClients {
+
+  private final Map<String, TransportClient> clients = new HashMap<>();
+
+  public synchronized Client get(ElasticsearchConfiguration config) {
+    TransportClient client = clients
+        .computeIfAbsent(getConnectionKey(config), key -> ElasticUtils
+            .createAndConfigureESClient(config));
+    return new FilterClient(client) {
+      @Override
+      public void close() {
+        // closed by the host
+      }
+    };
+  }
+
+  public synchronized void close() {
+    clients.values().forEach(TransportClient::close);
+    clients.clear();
+  }
+
+  private static String getConnectionKey(ElasticsearchConfiguration config) {
+    return config.getElasticsearchCluster() + '|' + config.getElasticsearchHost() + ':'
+        + config.getElasticsearchPort() + '|' + config.getNodes() + '|' + config.getUser();
+  }
+
+}
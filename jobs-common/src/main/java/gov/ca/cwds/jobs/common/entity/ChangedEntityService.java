@@ -1,6 +1,8 @@
 package gov.ca.cwds.jobs.common.entity;
 
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * This service uses target API to load target entity by identifier.
@@ -18,4 +20,25 @@ public interface ChangedEntityService<E> {
    */
   E loadEntity(ChangedEntityIdentifier identifier);
 
+  /**
+   * Loads entities for the chunk of identifiers. Implementations may override it to read the
+   * whole chunk with set-based queries.
+   *
+   * @return entities in the order of identifiers
+   */
+  default List<E> loadEntities(List<ChangedEntityIdentifier> identifiers) {
+    return identifiers.stream().map(this::loadEntity).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates entity for the deleted record without reading the source, only identifier is
+   * required to delete the document from the index.
+   *
+   * @return entity carrying the identifier and delete operation or null if the entity has to be
+   * loaded by {@link #loadEntity(ChangedEntityIdentifier)}
+   */
+  default E createDeletedEntity(ChangedEntityIdentifier identifier) {
+    return null;
+  }
+
 }
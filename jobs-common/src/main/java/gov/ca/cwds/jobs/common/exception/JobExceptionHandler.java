@@ -1,5 +1,6 @@
 package gov.ca.cwds.jobs.common.exception;
 
+import gov.ca.cwds.jobs.common.core.JobScope;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,15 +13,20 @@ public class JobExceptionHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobExceptionHandler.class);
 
-  private static AtomicBoolean exceptionHappened = new AtomicBoolean(false);
-
   private JobExceptionHandler() {
     // utility class
   }
 
+  /**
+   * Exception flag of the job of the current {@link JobScope}.
+   */
+  private static AtomicBoolean exceptionHappened() {
+    return JobScope.current().getAttribute(JobExceptionHandler.class, AtomicBoolean::new);
+  }
+
   public static void handleException(String message, Throwable e) {
     LOGGER.error(message, e);
-    exceptionHappened.set(true);
+    exceptionHappened().set(true);
   }
 
   public static void handleException(Throwable e) {
@@ -28,10 +34,10 @@ public class JobExceptionHandler {
   }
 
   public static boolean isExceptionHappened() {
-    return exceptionHappened.get();
+    return exceptionHappened().get();
   }
 
   public static void reset() {
-    exceptionHappened.set(false);
+    exceptionHappened().set(false);
   }
 }
@@ -3,11 +3,10 @@ package gov.ca.cwds.jobs.common.identifier;
 import gov.ca.cwds.data.persistence.PersistentObject;
 import gov.ca.cwds.jobs.common.RecordChangeOperation;
 import gov.ca.cwds.jobs.common.savepoint.SavePoint;
+import java.util.Objects;
 import javax.persistence.Id;
 import javax.persistence.MappedSuperclass;
 import javax.persistence.Transient;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 /**
  * Created by Alexander Serbin on 3/5/2018.
@@ -69,18 +68,27 @@ public abstract class ChangedEntityIdentifier<S extends SavePoint> implements
 
   @Override
   public boolean equals(Object o) {
-    return EqualsBuilder.reflectionEquals(this, o);
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ChangedEntityIdentifier<?> that = (ChangedEntityIdentifier<?>) o;
+    return Objects.equals(getId(), that.getId())
+        && getRecordChangeOperation() == that.getRecordChangeOperation()
+        && Objects.equals(getSavePoint(), that.getSavePoint());
   }
 
   @Override
   public int hashCode() {
-    return HashCodeBuilder.reflectionHashCode(this);
+    return Objects.hash(getId(), getRecordChangeOperation(), getSavePoint());
   }
 
   @Override
   public String toString() {
-    return "id=" + id + ", recordChangeOperation=" + recordChangeOperation +
-        ", savePoint=" + savePoint + "\n";
+    return "id=" + getId() + ", recordChangeOperation=" + getRecordChangeOperation() +
+        ", savePoint=" + getSavePoint() + "\n";
   }
 
 }
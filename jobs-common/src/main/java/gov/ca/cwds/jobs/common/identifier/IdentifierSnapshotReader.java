@@ -0,0 +1,143 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+/**
+ * Reads identifiers from the snapshot file written by {@link IdentifierSnapshotWriter}. The file
+ * is memory mapped by windows, so reading does not depend on the heap size.
+ *
+ * @author CWDS TPT-2
+ */
+public class IdentifierSnapshotReader implements Closeable {
+
+  private static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+  private static final int HEADER_SIZE = Long.BYTES + Byte.BYTES + Short.BYTES;
+
+  private static final int MAX_RECORD_SIZE = HEADER_SIZE + 0xFFFF;
+
+  private static final RecordChangeOperation[] OPERATIONS = RecordChangeOperation.values();
+
+  private final FileChannel channel;
+
+  private final long fileSize;
+
+  private MappedByteBuffer window;
+
+  private long windowOffset;
+
+  public IdentifierSnapshotReader(Path file) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    this.fileSize = channel.size();
+    map(0);
+  }
+
+  /**
+   * @return up to maxCount next identifiers, empty list at the end of the file
+   */
+  public LocalDateTimeIdentifiers read(int maxCount) {
+    LocalDateTimeIdentifiers identifiers = new LocalDateTimeIdentifiers(maxCount);
+    while (identifiers.size() < maxCount && hasNext()) {
+      long epochNanos = window.getLong();
+      byte operation = window.get();
+      identifiers.add(readId(), LocalDateTimeIdentifiers.fromEpochNanos(epochNanos),
+          operation == IdentifierSnapshotWriter.NO_OPERATION ? null : OPERATIONS[operation]);
+    }
+    return identifiers;
+  }
+
+  /**
+   * Positions the reader right after the save point. Records with the save point timestamp are
+   * scanned for the save point identifier, if it is not found reading starts from the first of
+   * them.
+   */
+  public void skipTo(TimestampSavePoint<LocalDateTime> savePoint) {
+    if (savePoint == null || savePoint.getTimestamp() == null) {
+      return;
+    }
+    long savePointNanos = LocalDateTimeIdentifiers.toEpochNanos(savePoint.getTimestamp());
+    String savePointId = savePoint.getIdentifier();
+    long sameTimestampOffset = -1;
+    while (hasNext()) {
+      long recordOffset = getOffset();
+      long epochNanos = window.getLong();
+      window.get();
+      if (epochNanos > savePointNanos) {
+        seek(sameTimestampOffset >= 0 ? sameTimestampOffset : recordOffset);
+        return;
+      }
+      if (epochNanos < savePointNanos || savePointId == null) {
+        skipId();
+        continue;
+      }
+      if (sameTimestampOffset < 0) {
+        sameTimestampOffset = recordOffset;
+      }
+      if (savePointId.equals(readId())) {
+        return;
+      }
+    }
+    if (sameTimestampOffset >= 0) {
+      seek(sameTimestampOffset);
+    }
+  }
+
+  public long getOffset() {
+    return windowOffset + window.position();
+  }
+
+  private boolean hasNext() {
+    if (getOffset() >= fileSize) {
+      return false;
+    }
+    if (window.remaining() < MAX_RECORD_SIZE && window.limit() < fileSize - windowOffset) {
+      map(getOffset());
+    }
+    return true;
+  }
+
+  private String readId() {
+    byte[] id = new byte[Short.toUnsignedInt(window.getShort())];
+    window.get(id);
+    return new String(id, StandardCharsets.UTF_8);
+  }
+
+  private void skipId() {
+    int length = Short.toUnsignedInt(window.getShort());
+    window.position(window.position() + length);
+  }
+
+  private void seek(long offset) {
+    if (offset >= windowOffset && offset <= windowOffset + window.limit()) {
+      window.position((int) (offset - windowOffset));
+    } else {
+      map(offset);
+    }
+  }
+
+  private void map(long offset) {
+    try {
+      window = channel.map(MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, fileSize - offset));
+      windowOffset = offset;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+}
@@ -0,0 +1,74 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+
+/**
+ * Writes identifiers to the snapshot file. Every record is the timestamp as epoch nanoseconds
+ * (long), operation code (byte), id length (unsigned short) and UTF-8 id bytes. Records are
+ * written to a temporary file which replaces the snapshot only on {@link #complete()}, so an
+ * existing snapshot file is always complete.
+ *
+ * @author CWDS TPT-2
+ */
+public class IdentifierSnapshotWriter implements Closeable {
+
+  static final byte NO_OPERATION = -1;
+
+  private final Path file;
+
+  private final Path tempFile;
+
+  private final DataOutputStream output;
+
+  private long count;
+
+  public IdentifierSnapshotWriter(Path file) throws IOException {
+    this.file = file;
+    this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)));
+  }
+
+  public void add(ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> identifier) {
+    RecordChangeOperation recordChangeOperation = identifier.getRecordChangeOperation();
+    byte[] id = identifier.getId().getBytes(StandardCharsets.UTF_8);
+    try {
+      output.writeLong(
+          LocalDateTimeIdentifiers.toEpochNanos(identifier.getSavePoint().getTimestamp()));
+      output.writeByte(
+          recordChangeOperation == null ? NO_OPERATION : recordChangeOperation.ordinal());
+      output.writeShort(id.length);
+      output.write(id);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    count++;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public void complete() throws IOException {
+    output.close();
+    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    output.close();
+    Files.deleteIfExists(tempFile);
+  }
+
+}
@@ -0,0 +1,22 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.util.List;
+
+/**
+ * Identifiers service which is able to read the next portion of identifiers ordered by
+ * (timestamp, identifier) in one query, starting right after the given save point.
+ *
+ * @author CWDS TPT-2
+ */
+public interface KeysetChangedEntitiesIdentifiersService<T> {
+
+  /**
+   * @param savePoint last processed (timestamp, identifier) pair. If the identifier is empty all
+   * the entities having the save point timestamp are treated as processed
+   * @return not more than batch size identifiers ordered by timestamp and identifier
+   */
+  List<ChangedEntityIdentifier<TimestampSavePoint<T>>> getIdentifiersAfter(
+      TimestampSavePoint<T> savePoint);
+
+}
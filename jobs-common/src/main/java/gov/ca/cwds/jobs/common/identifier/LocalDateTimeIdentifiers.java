@@ -0,0 +1,171 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Columnar batch of identifiers: parallel arrays of ids, timestamps as epoch nanoseconds (UTC
+ * based, which covers years 1677 - 2262) and operation codes. Elements are lightweight views
+ * created on access, so the batch itself holds no per-identifier objects except id strings.
+ *
+ * @author CWDS TPT-2
+ */
+public class LocalDateTimeIdentifiers extends
+    AbstractList<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> implements
+    RandomAccess {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+  private static final byte NO_OPERATION = -1;
+
+  private static final RecordChangeOperation[] OPERATIONS = RecordChangeOperation.values();
+
+  private String[] ids;
+
+  private long[] timestamps;
+
+  private byte[] operations;
+
+  private int size;
+
+  public LocalDateTimeIdentifiers() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LocalDateTimeIdentifiers(int capacity) {
+    int initialCapacity = Math.max(capacity, 1);
+    ids = new String[initialCapacity];
+    timestamps = new long[initialCapacity];
+    operations = new byte[initialCapacity];
+  }
+
+  @Override
+  public boolean add(ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> identifier) {
+    TimestampSavePoint<LocalDateTime> savePoint = identifier.getSavePoint();
+    add(identifier.getId(), savePoint == null ? null : savePoint.getTimestamp(),
+        identifier.getRecordChangeOperation());
+    return true;
+  }
+
+  public void add(String id, LocalDateTime timestamp,
+      RecordChangeOperation recordChangeOperation) {
+    if (size == ids.length) {
+      int capacity = size + (size >> 1) + 1;
+      ids = Arrays.copyOf(ids, capacity);
+      timestamps = Arrays.copyOf(timestamps, capacity);
+      operations = Arrays.copyOf(operations, capacity);
+    }
+    ids[size] = id;
+    timestamps[size] = toEpochNanos(timestamp);
+    operations[size] = recordChangeOperation == null
+        ? NO_OPERATION : (byte) recordChangeOperation.ordinal();
+    size++;
+    modCount++;
+  }
+
+  @Override
+  public ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> get(int index) {
+    checkIndex(index);
+    return new IdentifierView(ids[index], getRecordChangeOperation(index), timestamps[index]);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  public String getId(int index) {
+    checkIndex(index);
+    return ids[index];
+  }
+
+  public LocalDateTime getTimestamp(int index) {
+    checkIndex(index);
+    return fromEpochNanos(timestamps[index]);
+  }
+
+  public RecordChangeOperation getRecordChangeOperation(int index) {
+    checkIndex(index);
+    return operations[index] == NO_OPERATION ? null : OPERATIONS[operations[index]];
+  }
+
+  /**
+   * Compares (timestamp, id) keys of two elements without creating views.
+   */
+  public int compare(int index, int otherIndex) {
+    checkIndex(index);
+    checkIndex(otherIndex);
+    int result = Long.compare(timestamps[index], timestamps[otherIndex]);
+    return result != 0 ? result : ids[index].compareTo(ids[otherIndex]);
+  }
+
+  /**
+   * Keyset save point of the element, the batch is resumed right after it.
+   */
+  public TimestampSavePoint<LocalDateTime> getSavePoint(int index) {
+    return new LocalDateTimeSavePoint(getTimestamp(index), getId(index));
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  static long toEpochNanos(LocalDateTime timestamp) {
+    if (timestamp == null) {
+      return NO_TIMESTAMP;
+    }
+    return Math.addExact(
+        Math.multiplyExact(timestamp.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L),
+        timestamp.getNano());
+  }
+
+  static LocalDateTime fromEpochNanos(long epochNanos) {
+    if (epochNanos == NO_TIMESTAMP) {
+      return null;
+    }
+    return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+        (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+  }
+
+  private static final class IdentifierView extends
+      ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> {
+
+    private final transient long epochNanos;
+
+    IdentifierView(String id, RecordChangeOperation recordChangeOperation, long epochNanos) {
+      super(id, recordChangeOperation, null);
+      this.epochNanos = epochNanos;
+    }
+
+    @Override
+    public TimestampSavePoint<LocalDateTime> getSavePoint() {
+      return new LocalDateTimeSavePoint(fromEpochNanos(epochNanos));
+    }
+
+    @Override
+    public int compareTo(ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> o) {
+      if (o instanceof IdentifierView) {
+        return Long.compare(epochNanos, ((IdentifierView) o).epochNanos);
+      }
+      return getSavePoint().compareTo(o.getSavePoint());
+    }
+
+    @Override
+    public Serializable getPrimaryKey() {
+      return getId();
+    }
+
+  }
+
+}
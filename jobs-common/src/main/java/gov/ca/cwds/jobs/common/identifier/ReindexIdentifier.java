@@ -0,0 +1,29 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.savepoint.SavePoint;
+import java.io.Serializable;
+
+/**
+ * Identifier of the entity targeted by reindex. It has no save point, the entity is loaded and
+ * written as updated.
+ *
+ * @author CWDS TPT-2
+ */
+public class ReindexIdentifier<S extends SavePoint> extends ChangedEntityIdentifier<S> {
+
+  public ReindexIdentifier(String id) {
+    super(id, RecordChangeOperation.U, null);
+  }
+
+  @Override
+  public int compareTo(ChangedEntityIdentifier<S> o) {
+    return getId().compareTo(o.getId());
+  }
+
+  @Override
+  public Serializable getPrimaryKey() {
+    return getId();
+  }
+
+}
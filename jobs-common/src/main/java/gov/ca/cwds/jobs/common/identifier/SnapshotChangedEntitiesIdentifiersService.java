@@ -0,0 +1,23 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.util.function.Consumer;
+
+/**
+ * Keyset identifiers service which is also able to stream all the remaining identifiers in one
+ * query, used to take an identifier snapshot for initial load.
+ *
+ * @author CWDS TPT-2
+ */
+public interface SnapshotChangedEntitiesIdentifiersService<T> extends
+    KeysetChangedEntitiesIdentifiersService<T> {
+
+  /**
+   * @param savePoint last processed (timestamp, identifier) pair, see {@link
+   * #getIdentifiersAfter(TimestampSavePoint)}
+   * @param consumer receives identifiers ordered by timestamp and identifier
+   */
+  void forEachIdentifierAfter(TimestampSavePoint<T> savePoint,
+      Consumer<ChangedEntityIdentifier<TimestampSavePoint<T>>> consumer);
+
+}
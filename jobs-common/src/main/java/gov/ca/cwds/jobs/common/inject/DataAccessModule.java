@@ -1,33 +1,37 @@
 package gov.ca.cwds.jobs.common.inject;
 
 import com.google.inject.AbstractModule;
+import gov.ca.cwds.jobs.common.cache.DictionaryEntitiesCache;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.util.SessionFactoryParameters;
 import gov.ca.cwds.jobs.common.util.SessionFactoryUtil;
 import io.dropwizard.db.DataSourceFactory;
 import java.util.List;
 import org.hibernate.SessionFactory;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Created by Alexander Serbin on 3/18/2019
  */
 public abstract class DataAccessModule extends AbstractModule {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(DataAccessModule.class);
-
   private SessionFactory sessionFactory;
 
-  @SuppressWarnings({"squid:S1147", "findbugs:DM_EXIT"}) // suppressing "Exit methods should not be called" since we really need it here
   public DataAccessModule(DataSourceFactory dataSourceFactory,
       String dataSourceName, List<Class<?>> entityClasses) {
+    this(new SessionFactoryParameters(dataSourceFactory, dataSourceName, entityClasses));
+  }
+
+  /**
+   * Dictionaries given by the parameters are warmed up once the session factory is built.
+   */
+  public DataAccessModule(SessionFactoryParameters parameters) {
     try {
-      sessionFactory = SessionFactoryUtil
-          .buildSessionFactory(dataSourceFactory, dataSourceName, entityClasses);
+      sessionFactory = SessionFactoryUtil.buildSessionFactory(parameters);
+      DictionaryEntitiesCache.warmUp(sessionFactory, parameters.getDataSourceName(),
+          parameters.getDictionaryClasses());
     } catch (Exception e) {
-      LOGGER.error(String.format("Couldn't build session factory %s", dataSourceName), e);
-      //This is workaround to address hanging. Temporary solution that needs to be replaced
-      //by permanent one
-      System.exit(1);
+      throw new JobsException(
+          String.format("Couldn't build session factory %s", parameters.getDataSourceName()), e);
     }
   }
 
@@ -1,7 +1,5 @@
 package gov.ca.cwds.jobs.common.inject;
 
-import static gov.ca.cwds.jobs.common.util.SavePointUtil.extractProperty;
-
 import com.google.inject.AbstractModule;
 import gov.ca.cwds.jobs.common.elastic.ElasticApiWrapper;
 import gov.ca.cwds.jobs.common.elastic.ElasticUtils;
@@ -28,7 +26,7 @@ public class ElasticSearchModule extends AbstractModule {
       JobMode jobMode, SavePointContainerService savePointContainerService) {
     this.configuration = configuration;
     this.client = ElasticUtils
-        .createAndConfigureESClient(configuration); //must be closed when the job done
+        .getOrCreateESClient(configuration); //must be closed when the job done
     ElasticApiWrapper elasticApiWrapper = new ElasticApiWrapper();
     elasticApiWrapper.setClient(client);
     ElasticsearchService service = new ElasticsearchService();
@@ -43,7 +41,7 @@ public class ElasticSearchModule extends AbstractModule {
         indexName = service.getExistingIndex();
         break;
       case INITIAL_RESUME:
-        indexName = extractProperty(savePointContainerService.getSavePointFile(), "indexName");
+        indexName = savePointContainerService.readProperty("indexName");
         break;
       default:
         throw new IllegalStateException("Unknown job mode !!!");
@@ -1,4 +1,4 @@
-package gov.ca.cwds.jobs.cals.facility.cws.inject;
+package gov.ca.cwds.jobs.common.inject;
 
 import com.google.inject.BindingAnnotation;
 import java.lang.annotation.ElementType;
@@ -7,12 +7,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Created by Alexander Serbin on 3/12/2018.
+ * JDBC fetch size used for streaming reads. Zero means driver default.
+ *
+ * @author CWDS TPT-2
  */
-
 @BindingAnnotation
 @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
-public @interface CwsGetIdentifiersBetweenTimestampsQuery {
+public @interface FetchSize {
 
 }
@@ -2,6 +2,8 @@ package gov.ca.cwds.jobs.common.inject;
 
 import com.google.inject.AbstractModule;
 import gov.ca.cwds.jobs.common.core.JobPreparator;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -17,6 +19,10 @@ public class JobModule extends AbstractModule {
 
   private List<AbstractModule> modules = new ArrayList<>();
 
+  private JobMode jobMode;
+
+  private ReindexTarget reindexTarget = new ReindexTarget();
+
   public JobModule(String lastRunDir) {
     this.lastRunDir = lastRunDir;
   }
@@ -25,10 +31,28 @@ public class JobModule extends AbstractModule {
     this.jobPreparator = jobPreparator;
   }
 
+  /**
+   * Job mode the modules are built for, null if unknown.
+   */
+  public JobMode getJobMode() {
+    return jobMode;
+  }
+
+  public void setJobMode(JobMode jobMode) {
+    this.jobMode = jobMode;
+  }
+
+  public void setReindexTarget(ReindexTarget reindexTarget) {
+    this.reindexTarget = reindexTarget;
+  }
+
   @Override
   protected void configure() {
     bindConstant().annotatedWith(LastRunDir.class).to(lastRunDir);
     bind(JobPreparator.class).toInstance(jobPreparator);
+    bind(ReindexTarget.class).toInstance(reindexTarget);
+    bindConstant().annotatedWith(ReplicaReads.class)
+        .to(jobMode == JobMode.INITIAL_LOAD || jobMode == JobMode.INITIAL_RESUME);
     modules.forEach(this::install);
   }
 
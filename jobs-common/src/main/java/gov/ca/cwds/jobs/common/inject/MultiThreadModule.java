@@ -3,12 +3,16 @@ package gov.ca.cwds.jobs.common.inject;
 import com.google.inject.AbstractModule;
 import gov.ca.cwds.jobs.common.batch.JobBatchSize;
 import gov.ca.cwds.jobs.common.configuration.MultiThreadConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Created by Alexander Serbin on 10/12/2018
  */
 public class MultiThreadModule extends AbstractModule {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultiThreadModule.class);
+
   private MultiThreadConfiguration configuration;
 
   public MultiThreadModule(MultiThreadConfiguration configuration) {
@@ -17,12 +21,32 @@ public class MultiThreadModule extends AbstractModule {
 
   @Override
   protected void configure() {
+    warnInconsistentSettings();
     bindConstant().annotatedWith(JobBatchSize.class)
         .to(configuration.getBatchSize());
     bindConstant().annotatedWith(ElasticsearchBulkSize.class)
         .to(configuration.getElasticSearchBulkSize());
     bindConstant().annotatedWith(ReaderThreadsCount.class)
         .to(configuration.getReaderThreadsCount());
+    bindConstant().annotatedWith(FetchSize.class)
+        .to(configuration.getFetchSize());
+    bindConstant().annotatedWith(TrackedIdentifiersCount.class)
+        .to(configuration.getTrackedIdentifiersCount());
+    bindConstant().annotatedWith(ReaderChunkSize.class)
+        .to(configuration.getReaderChunkSize());
+  }
+
+  private void warnInconsistentSettings() {
+    int readersCapacity =
+        configuration.getReaderThreadsCount() * configuration.getReaderChunkSize();
+    if (configuration.getBatchSize() < readersCapacity) {
+      LOGGER.warn("batchSize = {} is less than readerThreadsCount * readerChunkSize = {}, "
+          + "some readers are idle", configuration.getBatchSize(), readersCapacity);
+    }
+    if (configuration.getFetchSize() > configuration.getBatchSize()) {
+      LOGGER.warn("fetchSize = {} is greater than batchSize = {}", configuration.getFetchSize(),
+          configuration.getBatchSize());
+    }
   }
 
 }
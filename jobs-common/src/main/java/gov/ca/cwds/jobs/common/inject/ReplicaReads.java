@@ -0,0 +1,20 @@
+package gov.ca.cwds.jobs.common.inject;
+
+import com.google.inject.BindingAnnotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * True if entities may be loaded from read replicas. Only initial load reads from them, the
+ * changes processed by incremental load may not have reached a lagging replica yet.
+ *
+ * @author CWDS TPT-2
+ */
+@BindingAnnotation
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaReads {
+
+}
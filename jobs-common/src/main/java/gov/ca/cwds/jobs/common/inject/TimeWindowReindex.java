@@ -0,0 +1,21 @@
+package gov.ca.cwds.jobs.common.inject;
+
+import com.google.inject.BindingAnnotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Iterator over the identifiers changed within the targeted reindex time window and the keyset
+ * identifiers service it reads from. Bound by the jobs supporting reindex by time window, the
+ * service must return every change in the window, already processed ones included.
+ *
+ * @author CWDS TPT-2
+ */
+@BindingAnnotation
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeWindowReindex {
+
+}
@@ -0,0 +1,33 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import com.google.inject.Inject;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.savepoint.SavePointService;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Iterates over (timestamp, identifier) keyset issuing one limited query per batch.
+ *
+ * @author CWDS TPT-2
+ */
+public class KeysetJobBatchIterator<T> implements JobBatchIterator<TimestampSavePoint<T>> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KeysetJobBatchIterator.class);
+
+  @Inject
+  private SavePointService<TimestampSavePoint<T>> savePointService;
+
+  @Inject
+  private KeysetChangedEntitiesIdentifiersService<T> identifiersService;
+
+  @Override
+  public JobBatch<TimestampSavePoint<T>> getNextPortion() {
+    TimestampSavePoint<T> previousSavePoint = savePointService.loadSavePoint();
+    LOGGER.info("Getting next portion after {}", previousSavePoint);
+    return new JobBatch<>(identifiersService.getIdentifiersAfter(previousSavePoint));
+  }
+
+}
@@ -1,11 +0,0 @@
-package gov.ca.cwds.jobs.common.iterator;
-
-import java.time.LocalDateTime;
-
-/**
- * Created by Alexander Serbin on 10/15/2018
- */
-public class LocalDateTimeJobBatchIterator
-    extends TimestampJobBatchIterator<LocalDateTime> {
-
-}
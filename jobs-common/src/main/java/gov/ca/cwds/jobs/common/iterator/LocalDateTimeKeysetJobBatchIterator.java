@@ -0,0 +1,10 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author CWDS TPT-2
+ */
+public class LocalDateTimeKeysetJobBatchIterator extends KeysetJobBatchIterator<LocalDateTime> {
+
+}
@@ -0,0 +1,109 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.batch.JobBatchSize;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.identifier.IdentifierSnapshotReader;
+import gov.ca.cwds.jobs.common.identifier.IdentifierSnapshotWriter;
+import gov.ca.cwds.jobs.common.identifier.SnapshotChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.inject.LastRunDir;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.common.mode.JobModeService;
+import gov.ca.cwds.jobs.common.savepoint.SavePointService;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Takes all the identifiers of initial load in one query into a local snapshot file and then
+ * reads batches from that file. Initial resume reuses the snapshot of the interrupted run and
+ * continues right after the save point, the snapshot is removed when it is read to the end.
+ *
+ * @author CWDS TPT-2
+ */
+@Singleton
+public class LocalDateTimeSnapshotJobBatchIterator implements
+    JobBatchIterator<TimestampSavePoint<LocalDateTime>> {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(LocalDateTimeSnapshotJobBatchIterator.class);
+
+  static final String SNAPSHOT_FILENAME = "identifiers.snapshot";
+
+  @Inject
+  private SavePointService<TimestampSavePoint<LocalDateTime>> savePointService;
+
+  @Inject
+  private SnapshotChangedEntitiesIdentifiersService<LocalDateTime> identifiersService;
+
+  @Inject
+  private JobModeService jobModeService;
+
+  @Inject
+  @LastRunDir
+  private String lastRunDir;
+
+  @Inject
+  @JobBatchSize
+  private int batchSize;
+
+  private IdentifierSnapshotReader reader;
+
+  @Override
+  public JobBatch<TimestampSavePoint<LocalDateTime>> getNextPortion() {
+    try {
+      if (reader == null) {
+        reader = openSnapshot();
+      }
+      JobBatch<TimestampSavePoint<LocalDateTime>> batch = new JobBatch<>(reader.read(batchSize));
+      if (batch.isEmpty()) {
+        LOGGER.info("Identifier snapshot is read to the end");
+        reader.close();
+        reader = null;
+        Files.deleteIfExists(getSnapshotFile());
+      }
+      return batch;
+    } catch (IOException e) {
+      throw new JobsException("Can't read identifier snapshot", e);
+    }
+  }
+
+  private IdentifierSnapshotReader openSnapshot() throws IOException {
+    Path snapshotFile = getSnapshotFile();
+    TimestampSavePoint<LocalDateTime> savePoint = savePointService.loadSavePoint();
+    if (jobModeService.getCurrentJobMode() == JobMode.INITIAL_LOAD
+        || !Files.exists(snapshotFile)) {
+      writeSnapshot(snapshotFile, savePoint);
+    } else {
+      LOGGER.info("Resuming from identifier snapshot {}", snapshotFile);
+    }
+    IdentifierSnapshotReader snapshotReader = new IdentifierSnapshotReader(snapshotFile);
+    snapshotReader.skipTo(savePoint);
+    LOGGER.info("Reading identifier snapshot after {} from offset {}", savePoint,
+        snapshotReader.getOffset());
+    return snapshotReader;
+  }
+
+  private void writeSnapshot(Path snapshotFile, TimestampSavePoint<LocalDateTime> savePoint)
+      throws IOException {
+    LOGGER.info("Taking identifier snapshot after {} to {}", savePoint, snapshotFile);
+    Files.createDirectories(snapshotFile.getParent());
+    try (IdentifierSnapshotWriter writer = new IdentifierSnapshotWriter(snapshotFile)) {
+      identifiersService.forEachIdentifierAfter(savePoint, writer::add);
+      writer.complete();
+      LOGGER.info("Identifier snapshot has {} identifiers", writer.getCount());
+    }
+  }
+
+  private Path getSnapshotFile() {
+    return Paths.get(lastRunDir, SNAPSHOT_FILENAME);
+  }
+
+}
@@ -0,0 +1,84 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import com.google.inject.Inject;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.inject.TimeWindowReindex;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Iterates over the (timestamp, identifier) keyset within the targeted reindex time window. The
+ * position is kept in memory, so the save point is left as is.
+ *
+ * @author CWDS TPT-2
+ */
+public class LocalDateTimeWindowJobBatchIterator implements
+    JobBatchIterator<TimestampSavePoint<LocalDateTime>> {
+
+  private static final Logger LOGGER = LoggerFactory
+      .getLogger(LocalDateTimeWindowJobBatchIterator.class);
+
+  @Inject
+  private ReindexTarget reindexTarget;
+
+  @Inject
+  @TimeWindowReindex
+  private KeysetChangedEntitiesIdentifiersService<LocalDateTime> identifiersService;
+
+  private TimestampSavePoint<LocalDateTime> position;
+
+  private boolean exhausted;
+
+  @Override
+  public void init() {
+    // empty identifier makes the entities changed exactly at the window start included
+    position = new LocalDateTimeSavePoint(reindexTarget.getFrom(), "");
+    exhausted = false;
+  }
+
+  @Override
+  public JobBatch<TimestampSavePoint<LocalDateTime>> getNextPortion() {
+    if (exhausted) {
+      return new JobBatch<>(Collections.emptyList());
+    }
+    LOGGER.info("Getting next portion of the time window after {}", position);
+    List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> identifiers =
+        identifiersService.getIdentifiersAfter(position);
+    int size = getSizeWithinWindow(identifiers);
+    if (size < identifiers.size()) {
+      identifiers = identifiers.subList(0, size);
+      exhausted = true;
+    }
+    if (identifiers.isEmpty()) {
+      exhausted = true;
+    } else {
+      ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> last =
+          identifiers.get(identifiers.size() - 1);
+      position = new LocalDateTimeSavePoint(last.getSavePoint().getTimestamp(), last.getId());
+    }
+    return new JobBatch<>(identifiers);
+  }
+
+  private int getSizeWithinWindow(
+      List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> identifiers) {
+    LocalDateTime to = reindexTarget.getTo();
+    if (to == null) {
+      return identifiers.size();
+    }
+    int size = 0;
+    while (size < identifiers.size()
+        && identifiers.get(size).getSavePoint().getTimestamp().isBefore(to)) {
+      size++;
+    }
+    return size;
+  }
+
+}
@@ -0,0 +1,61 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import com.google.inject.Inject;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.batch.JobBatchSize;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.ReindexIdentifier;
+import gov.ca.cwds.jobs.common.inject.TimeWindowReindex;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
+import gov.ca.cwds.jobs.common.savepoint.SavePoint;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Iterates over the entities targeted by reindex in batches of the job batch size. The save
+ * point is neither read nor changed.
+ *
+ * @author CWDS TPT-2
+ */
+public class ReindexJobBatchIterator<S extends SavePoint> implements JobBatchIterator<S> {
+
+  @Inject
+  private ReindexTarget reindexTarget;
+
+  @Inject
+  @JobBatchSize
+  private int batchSize;
+
+  @Inject(optional = true)
+  @TimeWindowReindex
+  private JobBatchIterator<S> timeWindowIterator;
+
+  private Iterator<String> ids;
+
+  @Override
+  public void init() {
+    if (reindexTarget.isTimeWindow()) {
+      if (timeWindowIterator == null) {
+        throw new JobsException("The job doesn't support reindex by time window");
+      }
+      timeWindowIterator.init();
+    } else {
+      ids = reindexTarget.getIds();
+    }
+  }
+
+  @Override
+  public JobBatch<S> getNextPortion() {
+    if (reindexTarget.isTimeWindow()) {
+      return timeWindowIterator.getNextPortion();
+    }
+    List<ChangedEntityIdentifier<S>> identifiers = new ArrayList<>(batchSize);
+    while (ids.hasNext() && identifiers.size() < batchSize) {
+      identifiers.add(new ReindexIdentifier<>(ids.next()));
+    }
+    return new JobBatch<>(identifiers);
+  }
+
+}
@@ -3,7 +3,6 @@ package gov.ca.cwds.jobs.common.mode;
 import static gov.ca.cwds.jobs.common.mode.JobMode.INCREMENTAL_LOAD;
 import static gov.ca.cwds.jobs.common.mode.JobMode.INITIAL_LOAD;
 import static gov.ca.cwds.jobs.common.mode.JobMode.INITIAL_RESUME;
-import static gov.ca.cwds.jobs.common.util.SavePointUtil.extractProperty;
 
 import com.google.inject.Inject;
 import gov.ca.cwds.jobs.common.inject.PrimaryContainerService;
@@ -36,7 +35,7 @@ public abstract class AbstractJobModeService<S extends SavePoint> implements
   }
 
   private JobMode extractJobMode() {
-    String jobMode = extractProperty(savePointContainerService.getSavePointFile(), "jobMode");
+    String jobMode = savePointContainerService.readProperty("jobMode");
     switch (jobMode) {
       case "INITIAL_RESUME": case "INITIAL_LOAD":
         LOG.info(CURRENT_JOB_MODE_IS, INITIAL_RESUME);
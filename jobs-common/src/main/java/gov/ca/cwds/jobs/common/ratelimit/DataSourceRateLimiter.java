@@ -0,0 +1,123 @@
+package gov.ca.cwds.jobs.common.ratelimit;
+
+import com.google.common.util.concurrent.RateLimiter;
+import gov.ca.cwds.jobs.common.configuration.RateLimitConfiguration;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Token bucket limiting SQL statements of one data source, following the time of day schedule.
+ * Statements are charged as they are prepared and paid for before the next unit of work, a burst
+ * within one unit of work slows down the following ones. Time spent waiting for permits is
+ * accumulated per data source, it is not a part of the database time.
+ *
+ * @author CWDS TPT-2
+ */
+public class DataSourceRateLimiter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceRateLimiter.class);
+
+  private static final Map<String, DataSourceRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+  private final String dataSourceName;
+
+  private final RateLimitConfiguration configuration;
+
+  private final RateLimiter rateLimiter;
+
+  private volatile int percent;
+
+  private final LongAdder statementsCount = new LongAdder();
+
+  private final LongAdder waitNanos = new LongAdder();
+
+  private final AtomicLong owedStatements = new AtomicLong();
+
+  DataSourceRateLimiter(String dataSourceName, RateLimitConfiguration configuration,
+      LocalTime time) {
+    this.dataSourceName = dataSourceName;
+    this.configuration = configuration;
+    this.percent = configuration.getPercent(time);
+    this.rateLimiter = RateLimiter.create(getRate(percent));
+  }
+
+  /**
+   * @return limiter of the data source, shared by all the session factories of the data source
+   * name, e.g. by the jobs hosted in one JVM. The configuration of the first one is used.
+   */
+  public static DataSourceRateLimiter register(String dataSourceName,
+      RateLimitConfiguration configuration) {
+    return LIMITERS.computeIfAbsent(dataSourceName, name -> {
+      DataSourceRateLimiter limiter =
+          new DataSourceRateLimiter(name, configuration, LocalTime.now());
+      LOGGER.info("{} is limited to {} statements per second", name,
+          limiter.rateLimiter.getRate());
+      return limiter;
+    });
+  }
+
+  /**
+   * Counts the statement without waiting, since the session already holds a connection. The
+   * permits are taken by {@link #awaitPermits()} before the next unit of work.
+   */
+  public void charge() {
+    owedStatements.incrementAndGet();
+  }
+
+  /**
+   * Waits for the permits of the statements charged to every data source since the last call.
+   * Called before a unit of work opens its session, so that no connection is held while waiting.
+   */
+  public static void awaitPermits() {
+    LIMITERS.values().forEach(limiter -> limiter.awaitPermits(LocalTime.now()));
+  }
+
+  void awaitPermits(LocalTime time) {
+    long owed = owedStatements.getAndSet(0);
+    if (owed > 0) {
+      acquire((int) Math.min(owed, Integer.MAX_VALUE), time);
+    }
+  }
+
+  void acquire(int permits, LocalTime time) {
+    int currentPercent = configuration.getPercent(time);
+    if (currentPercent != percent) {
+      synchronized (this) {
+        if (currentPercent != percent) {
+          percent = currentPercent;
+          rateLimiter.setRate(getRate(currentPercent));
+          LOGGER.info("{} rate limit is switched to {}% ({} statements per second)",
+              dataSourceName, currentPercent, rateLimiter.getRate());
+        }
+      }
+    }
+    double waitSeconds = rateLimiter.acquire(permits);
+    statementsCount.add(permits);
+    waitNanos.add((long) (waitSeconds * TimeUnit.SECONDS.toNanos(1)));
+  }
+
+  public long getWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum());
+  }
+
+  public long getStatementsCount() {
+    return statementsCount.sum();
+  }
+
+  private double getRate(int ratePercent) {
+    return configuration.getStatementsPerSecond() * ratePercent / 100;
+  }
+
+  public static void printWaitTime() {
+    LIMITERS.values().forEach(limiter -> LOGGER
+        .info("{} rate limiter wait time - {} ms for {} statements", limiter.dataSourceName,
+            limiter.getWaitMillis(), limiter.getStatementsCount()));
+  }
+
+}
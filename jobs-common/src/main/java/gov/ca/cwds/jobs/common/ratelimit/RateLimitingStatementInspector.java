@@ -0,0 +1,27 @@
+package gov.ca.cwds.jobs.common.ratelimit;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Charges every statement of the session factory to its rate limiter. The permits are taken
+ * before the next unit of work, not here, since the session already holds a connection.
+ *
+ * @author CWDS TPT-2
+ */
+public class RateLimitingStatementInspector implements StatementInspector {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient DataSourceRateLimiter rateLimiter;
+
+  public RateLimitingStatementInspector(DataSourceRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    rateLimiter.charge();
+    return sql;
+  }
+
+}
@@ -0,0 +1,156 @@
+package gov.ca.cwds.jobs.common.reindex;
+
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entities a targeted reindex run pushes through the job instead of the changes after the save
+ * point: listed ids, a numeric id range or a change time window. The save point is left as is.
+ * Targeted reindex writes to the index the alias points to, so it needs a completed initial
+ * load.
+ *
+ * @author CWDS TPT-2
+ */
+public class ReindexTarget {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReindexTarget.class);
+
+  private static final DateTimeFormatter TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final List<String> ids;
+
+  private final Long[] idRange;
+
+  private final LocalDateTime from;
+
+  private final LocalDateTime to;
+
+  /**
+   * Nothing is targeted, the job processes the changes after the save point.
+   */
+  public ReindexTarget() {
+    this(null, null, null, null);
+  }
+
+  ReindexTarget(List<String> ids, Long[] idRange, LocalDateTime from, LocalDateTime to) {
+    this.ids = ids;
+    this.idRange = idRange;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * @param jobOptions job options, nothing is targeted if no reindex option is given
+   * @param jobMode current job mode
+   * @return entities to reindex
+   * @throws JobsException if the ids file can't be read, the time window is malformed or the
+   * initial load isn't completed yet
+   */
+  public static ReindexTarget of(JobOptions jobOptions, JobMode jobMode) {
+    if (!jobOptions.isTargetedReindex()) {
+      return new ReindexTarget();
+    }
+    if (jobMode != JobMode.INCREMENTAL_LOAD) {
+      throw new JobsException(
+          "Targeted reindex requires completed initial load, current job mode is " + jobMode);
+    }
+    ReindexTarget target = new ReindexTarget(
+        jobOptions.getIdsFile() == null ? null : readIds(jobOptions.getIdsFile()),
+        jobOptions.getIdRange(), parseTime(jobOptions.getFrom()), parseTime(jobOptions.getTo()));
+    LOGGER.info("Targeted reindex of {}, save point is left unchanged", target);
+    return target;
+  }
+
+  public boolean isEnabled() {
+    return ids != null || idRange != null || from != null;
+  }
+
+  /**
+   * @return true if the entities changed within the time window are targeted
+   */
+  public boolean isTimeWindow() {
+    return from != null;
+  }
+
+  /**
+   * @return targeted ids, empty if the time window is targeted
+   */
+  public Iterator<String> getIds() {
+    if (ids != null) {
+      return ids.iterator();
+    }
+    if (idRange != null) {
+      return LongStream.rangeClosed(idRange[0], idRange[1]).mapToObj(String::valueOf)
+          .iterator();
+    }
+    return Collections.emptyIterator();
+  }
+
+  /**
+   * @return start of the time window, inclusive
+   */
+  public LocalDateTime getFrom() {
+    return from;
+  }
+
+  /**
+   * @return end of the time window, exclusive, null if not bounded
+   */
+  public LocalDateTime getTo() {
+    return to;
+  }
+
+  @Override
+  public String toString() {
+    if (ids != null) {
+      return ids.size() + " listed ids";
+    }
+    if (idRange != null) {
+      return "ids " + idRange[0] + ".." + idRange[1];
+    }
+    if (from != null) {
+      return "changes from " + from + (to == null ? "" : " to " + to);
+    }
+    return "nothing";
+  }
+
+  private static List<String> readIds(String idsFile) {
+    try {
+      return Files.readAllLines(Paths.get(idsFile), StandardCharsets.UTF_8).stream()
+          .map(String::trim)
+          .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+          .distinct()
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new JobsException("Can't read ids file " + idsFile, e);
+    }
+  }
+
+  private static LocalDateTime parseTime(String time) {
+    if (time == null) {
+      return null;
+    }
+    try {
+      return LocalDateTime.parse(time, TIME_FORMAT);
+    } catch (DateTimeParseException e) {
+      throw new JobsException("Reindex time " + time + " is not yyyy-MM-dd HH:mm:ss", e);
+    }
+  }
+
+}
@@ -0,0 +1,108 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.ResourceAlreadyExistsException;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.index.IndexRequestBuilder;
+import org.elasticsearch.client.Client;
+import org.elasticsearch.common.xcontent.XContentType;
+import org.elasticsearch.index.engine.VersionConflictEngineException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Save point kept as a document of a small metadata index, one document per job key. Stores
+ * use the document version, so a save point changed by another worker is never overwritten.
+ *
+ * @author CWDS TPT-2
+ */
+final class ElasticsearchSavePointStore extends SavePointStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchSavePointStore.class);
+
+  private static final String TYPE = "savepoint";
+
+  private static final String CONTENT = "content";
+
+  private static final String UPDATED = "updated";
+
+  private static final String MAPPING = "{\"" + TYPE + "\":{\"dynamic\":false,\"properties\":{"
+      + "\"" + CONTENT + "\":{\"type\":\"text\",\"index\":false},"
+      + "\"" + UPDATED + "\":{\"type\":\"date\"}}}}";
+
+  private final Client client;
+
+  private final String index;
+
+  private final String key;
+
+  private Long version;
+
+  ElasticsearchSavePointStore(Client client, String index, String key) {
+    this.client = client;
+    this.index = index;
+    this.key = key;
+    createIndexIfMissing();
+  }
+
+  @Override
+  protected String load() throws IOException {
+    try {
+      GetResponse response = client.prepareGet(index, TYPE, key).get();
+      if (!response.isExists()) {
+        version = null;
+        return null;
+      }
+      version = response.getVersion();
+      return (String) response.getSourceAsMap().get(CONTENT);
+    } catch (ElasticsearchException e) {
+      throw new IOException("Can't load save point " + getLocation(), e);
+    }
+  }
+
+  @Override
+  protected void store(String newContent) throws IOException {
+    Map<String, Object> source = new HashMap<>();
+    source.put(CONTENT, newContent);
+    source.put(UPDATED, Instant.now().toString());
+    IndexRequestBuilder request = client.prepareIndex(index, TYPE, key).setSource(source);
+    if (version == null) {
+      request.setCreate(true);
+    } else {
+      request.setVersion(version);
+    }
+    try {
+      version = request.get().getVersion();
+    } catch (VersionConflictEngineException e) {
+      throw new JobsException("Save point " + getLocation() + " has been changed by another "
+          + "worker since version " + version, e);
+    } catch (ElasticsearchException e) {
+      throw new IOException("Can't store save point " + getLocation(), e);
+    }
+  }
+
+  @Override
+  protected String getLocation() {
+    return index + "/" + TYPE + "/" + key;
+  }
+
+  private void createIndexIfMissing() {
+    if (client.admin().indices().prepareExists(index).get().isExists()) {
+      return;
+    }
+    try {
+      LOG.info("Creating save point index {}", index);
+      client.admin().indices().prepareCreate(index)
+          .addMapping(TYPE, MAPPING, XContentType.JSON)
+          .get();
+    } catch (ResourceAlreadyExistsException e) {
+      LOG.info("Save point index {} has been created by another worker", index);
+    }
+  }
+
+}
@@ -35,6 +35,11 @@ public class IndexAwareSavePointContainerService<S extends SavePoint> implements
     return savePointContainerService.readSavePointContainer(savePointContainerClass);
   }
 
+  @Override
+  public String readProperty(String propertyName) {
+    return savePointContainerService.readProperty(propertyName);
+  }
+
   @Override
   public void writeSavePointContainer(SavePointContainer<? extends S> savePointContainer) {
     savePointContainer.setIndexName(indexName);
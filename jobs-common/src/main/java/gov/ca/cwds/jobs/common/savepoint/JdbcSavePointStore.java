@@ -0,0 +1,150 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Save point kept as a row of a shared table, one row per job key. Every store increments the
+ * row version and only succeeds if the version is the one seen last, so two workers can't
+ * overwrite each other's progress.
+ *
+ * @author CWDS TPT-2
+ */
+final class JdbcSavePointStore extends SavePointStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcSavePointStore.class);
+
+  private static final String CREATE_TABLE = "create table %s (ID varchar(255) not null "
+      + "primary key, VERSION bigint not null, CONTENT varchar(4000) not null, "
+      + "UPDATED timestamp not null)";
+
+  private static final String CHECK_TABLE = "select count(*) from %s where 1 = 0";
+
+  private static final String SELECT = "select CONTENT, VERSION from %s where ID = ?";
+
+  private static final String INSERT =
+      "insert into %s (ID, VERSION, CONTENT, UPDATED) values (?, ?, ?, ?)";
+
+  private static final String UPDATE =
+      "update %s set VERSION = ?, CONTENT = ?, UPDATED = ? where ID = ? and VERSION = ?";
+
+  private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+  private final DataSource dataSource;
+
+  private final String table;
+
+  private final String key;
+
+  private Long version;
+
+  JdbcSavePointStore(DataSource dataSource, String table, String key) {
+    this.dataSource = dataSource;
+    this.table = table;
+    this.key = key;
+    createTableIfMissing();
+  }
+
+  @Override
+  protected String load() throws IOException {
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(sql(SELECT))) {
+      statement.setString(1, key);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (resultSet.next()) {
+          version = resultSet.getLong(2);
+          return resultSet.getString(1);
+        }
+        version = null;
+        return null;
+      }
+    } catch (SQLException e) {
+      throw new IOException("Can't load save point " + getLocation(), e);
+    }
+  }
+
+  @Override
+  protected void store(String newContent) throws IOException {
+    long newVersion = version == null ? 1 : version + 1;
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    try (Connection connection = dataSource.getConnection()) {
+      if (version == null) {
+        insert(connection, newVersion, newContent, now);
+      } else {
+        update(connection, newVersion, newContent, now);
+      }
+    } catch (SQLException e) {
+      throw new IOException("Can't store save point " + getLocation(), e);
+    }
+    version = newVersion;
+  }
+
+  @Override
+  protected String getLocation() {
+    return table + "/" + key;
+  }
+
+  private void insert(Connection connection, long newVersion, String newContent, Timestamp now)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql(INSERT))) {
+      statement.setString(1, key);
+      statement.setLong(2, newVersion);
+      statement.setString(3, newContent);
+      statement.setTimestamp(4, now);
+      statement.executeUpdate();
+    } catch (SQLException e) {
+      if (e.getSQLState() != null
+          && e.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+        throw conflict();
+      }
+      throw e;
+    }
+  }
+
+  private void update(Connection connection, long newVersion, String newContent, Timestamp now)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql(UPDATE))) {
+      statement.setLong(1, newVersion);
+      statement.setString(2, newContent);
+      statement.setTimestamp(3, now);
+      statement.setString(4, key);
+      statement.setLong(5, version);
+      if (statement.executeUpdate() == 0) {
+        throw conflict();
+      }
+    }
+  }
+
+  private JobsException conflict() {
+    return new JobsException("Save point " + getLocation() + " has been changed by another "
+        + "worker since version " + version);
+  }
+
+  private void createTableIfMissing() {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      try {
+        statement.executeQuery(sql(CHECK_TABLE)).close();
+      } catch (SQLException e) {
+        LOG.info("Creating save point table {}", table);
+        statement.executeUpdate(sql(CREATE_TABLE));
+      }
+    } catch (SQLException e) {
+      throw new JobsException("Can't create save point table " + table, e);
+    }
+  }
+
+  private String sql(String template) {
+    return String.format(template, table);
+  }
+
+}
@@ -15,6 +15,10 @@ public class LocalDateTimeSavePoint extends TimestampSavePoint<LocalDateTime> {
     super(timestamp);
   }
 
+  public LocalDateTimeSavePoint(LocalDateTime timestamp, String identifier) {
+    super(timestamp, identifier);
+  }
+
   @Override
   public int compareTo(TimestampSavePoint<LocalDateTime> o) {
     if (o.getTimestamp() == null) {
@@ -1,10 +1,14 @@
 package gov.ca.cwds.jobs.common.savepoint;
 
 import com.google.inject.Inject;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.LocalDateTimeIdentifiers;
 import gov.ca.cwds.jobs.common.inject.PrimaryContainerService;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.mode.LocalDateTimeJobModeService;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +28,25 @@ public class LocalDateTimeSavePointService extends
   @PrimaryContainerService
   private SavePointContainerService<TimestampSavePoint<LocalDateTime>> savePointContainerService;
 
+  /**
+   * Save point keeps the identifier of the last entity in the batch, so that the rest of entities
+   * having the same timestamp is not lost on resume.
+   */
+  @Override
+  public TimestampSavePoint<LocalDateTime> defineSavepoint(
+      JobBatch<TimestampSavePoint<LocalDateTime>> jobBatch) {
+    List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> changedEntityIdentifiers =
+        jobBatch.getChangedEntityIdentifiers();
+    if (changedEntityIdentifiers instanceof LocalDateTimeIdentifiers) {
+      return ((LocalDateTimeIdentifiers) changedEntityIdentifiers)
+          .getSavePoint(changedEntityIdentifiers.size() - 1);
+    }
+    ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> lastIdentifier =
+        changedEntityIdentifiers.get(changedEntityIdentifiers.size() - 1);
+    return new LocalDateTimeSavePoint(lastIdentifier.getSavePoint().getTimestamp(),
+        lastIdentifier.getId());
+  }
+
   @Override
   public void saveSavePoint(TimestampSavePoint<LocalDateTime> savePoint) {
     if (savePoint.getTimestamp() != null) {
@@ -0,0 +1,155 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists batch save points on a background thread, so the next batch doesn't wait for the
+ * save point storage. A committed save point is visible to reads at once, save points committed
+ * while the previous one is still being written are coalesced and only the latest one is stored.
+ * {@link #flush()} blocks until the latest save point is stored, a failed store is rethrown by
+ * the next commit or flush.
+ *
+ * @author CWDS TPT-2
+ */
+@Singleton
+public class SavePointCommitter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SavePointCommitter.class);
+
+  @Inject
+  private SavePointJournal savePointJournal;
+
+  private ExecutorService executorService;
+
+  private final Set<SavePointStore> pendingStores = new LinkedHashSet<>();
+
+  private int pendingDocuments;
+
+  private boolean drainScheduled;
+
+  private Exception failure;
+
+  /**
+   * Runs the save point write in memory and schedules storing it.
+   *
+   * @param save writes the save point
+   * @param documents number of documents in the batch of the save point
+   */
+  public void commit(Runnable save, int documents) {
+    synchronized (this) {
+      checkFailure();
+    }
+    Set<SavePointStore> stores = SavePointStore.deferWrites(save);
+    synchronized (this) {
+      pendingStores.addAll(stores);
+      pendingDocuments += documents;
+      scheduleDrain();
+    }
+  }
+
+  /**
+   * Waits until the latest committed save point is persisted.
+   */
+  public void flush() {
+    try {
+      getExecutorService().submit(this::drain).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JobsException("Interrupted while flushing save point", e);
+    } catch (ExecutionException e) {
+      throw new JobsException("Can't flush save point", e.getCause());
+    }
+    synchronized (this) {
+      checkFailure();
+    }
+  }
+
+  /**
+   * Flushes the latest save point and stops the committer thread.
+   */
+  public void close() {
+    try {
+      flush();
+    } catch (JobsException e) {
+      LOGGER.error("Save point has not been persisted on shutdown", e);
+    } finally {
+      synchronized (this) {
+        if (executorService != null) {
+          executorService.shutdown();
+          executorService = null;
+        }
+      }
+    }
+  }
+
+  private void scheduleDrain() {
+    if (!drainScheduled) {
+      drainScheduled = true;
+      getExecutorService().execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    List<SavePointStore> stores;
+    int documents;
+    synchronized (this) {
+      stores = new ArrayList<>(pendingStores);
+      documents = pendingDocuments;
+      pendingStores.clear();
+      pendingDocuments = 0;
+      drainScheduled = false;
+    }
+    if (stores.isEmpty()) {
+      return;
+    }
+    try {
+      String container = null;
+      for (SavePointStore store : stores) {
+        String persisted = store.persist();
+        if (persisted != null) {
+          container = persisted;
+        }
+      }
+      if (container != null) {
+        savePointJournal.record(documents, container);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Save point has not been persisted", e);
+      synchronized (this) {
+        failure = e;
+      }
+    }
+  }
+
+  private void checkFailure() {
+    if (failure != null) {
+      Exception e = failure;
+      failure = null;
+      throw new JobsException("Save point has not been persisted", e);
+    }
+  }
+
+  private synchronized ExecutorService getExecutorService() {
+    if (executorService == null) {
+      executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "savepoint-committer");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return executorService;
+  }
+
+}
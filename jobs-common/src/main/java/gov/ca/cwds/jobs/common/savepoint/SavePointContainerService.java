@@ -1,5 +1,6 @@
 package gov.ca.cwds.jobs.common.savepoint;
 
+import gov.ca.cwds.jobs.common.util.SavePointUtil;
 import java.nio.file.Path;
 
 /**
@@ -17,4 +18,11 @@ public interface SavePointContainerService<S extends SavePoint> {
 
   void writeSavePointContainer(SavePointContainer<? extends S> savePointContainer);
 
+  /**
+   * Reads a top level property of the stored save point container, e.g. jobMode or indexName.
+   */
+  default String readProperty(String propertyName) {
+    return SavePointUtil.extractProperty(getSavePointFile(), propertyName);
+  }
+
 }
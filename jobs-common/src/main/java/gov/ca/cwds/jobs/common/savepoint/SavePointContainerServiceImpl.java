@@ -6,15 +6,12 @@ import com.google.inject.Inject;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import gov.ca.cwds.jobs.common.inject.LastRunDir;
 import gov.ca.cwds.rest.api.ApiException;
-import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +23,7 @@ public abstract class SavePointContainerServiceImpl<S extends SavePoint> impleme
 
   private static final Logger LOG = LoggerFactory.getLogger(SavePointContainerServiceImpl.class);
 
-  private static final String TIMESTAMP_FILENAME = "LastJobRun.time";
+  static final String TIMESTAMP_FILENAME = "LastJobRun.time";
 
   private String outputDir;
   private static final ObjectMapper mapper = new ObjectMapper();
@@ -42,20 +39,41 @@ public abstract class SavePointContainerServiceImpl<S extends SavePoint> impleme
 
   @Override
   public boolean savePointContainerExists() {
-    return getSavePointFile().toFile().exists();
+    try {
+      return getStore().exists();
+    } catch (IOException e) {
+      throw new ApiException("Can't get save point container", e);
+    }
   }
 
   @Override
   public SavePointContainer<? extends S> readSavePointContainer(
       Class<? extends SavePointContainer<? extends S>> savePointContainerClass) {
-    try (Reader reader = Files.newBufferedReader(getSavePointFile())) {
-      return mapper.readValue(IOUtils.toString(reader), savePointContainerClass);
+    try {
+      return getStore().read(savePointContainerClass,
+          content -> mapper.readValue(content, savePointContainerClass));
     } catch (IOException e) {
       LOG.error(e.getMessage(), e);
       throw new ApiException("Can't get save point container", e);
     }
   }
 
+  @Override
+  public String readProperty(String propertyName) {
+    String propertyValue;
+    try {
+      propertyValue = getStore().getProperty(propertyName);
+    } catch (IOException | JSONException e) {
+      throw new IllegalStateException(String.format("Unable to extract property %s ", propertyName),
+          e);
+    }
+    if (StringUtils.isEmpty(propertyValue)) {
+      throw new IllegalStateException(
+          String.format("Requested property %s is unexpectedly empty ", propertyName));
+    }
+    return propertyValue;
+  }
+
   @SuppressFBWarnings("PATH_TRAVERSAL_IN") //Path cannot be controlled by the user
   @Override
   public Path getSavePointFile() {
@@ -68,20 +86,15 @@ public abstract class SavePointContainerServiceImpl<S extends SavePoint> impleme
     Objects.requireNonNull(savePointContainer.getSavePoint());
     try {
       String fileContent = mapper.writeValueAsString(savePointContainer);
-      File file = getSavePointFile().toFile();
-      if (savePointContainerExists()) {
-        FileUtils.forceDelete(file);
-      }
-      if (file.createNewFile()) {
-        FileUtils.writeStringToFile(file, fileContent, "UTF-8");
-        LOG.info("Save point container {}", fileContent);
-        LOG.info("Save point container has been saved");
-      } else {
-        throw new ApiException(
-            "Can't create the file " + getSavePointFile().normalize().toString());
-      }
+      getStore().write(fileContent);
+      LOG.info("Save point container {}", fileContent);
+      LOG.info("Save point container has been saved");
     } catch (IOException e) {
       throw new ApiException("Can't write save point container ", e);
     }
   }
+
+  private SavePointStore getStore() {
+    return SavePointStore.of(getSavePointFile());
+  }
 }
@@ -0,0 +1,138 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Save point kept in a local file and persisted atomically: the content is written to a temp
+ * file, forced to disk and renamed over the save point file.
+ *
+ * <p>The loaded content stays current as long as the file attributes are the same as after the
+ * last load or store, so a file replaced by someone else is loaded again.
+ *
+ * @author CWDS TPT-2
+ */
+final class SavePointFileStore extends SavePointStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SavePointFileStore.class);
+
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path file;
+
+  private FileState fileState;
+
+  SavePointFileStore(Path file) {
+    this.file = file;
+  }
+
+  @Override
+  protected boolean isCurrent() throws IOException {
+    return Objects.equals(fileState, FileState.of(file));
+  }
+
+  @Override
+  protected String load() throws IOException {
+    fileState = FileState.of(file);
+    if (fileState == null) {
+      return null;
+    }
+    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+  }
+
+  @Override
+  protected void store(String newContent) throws IOException {
+    Path tempFile = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+    try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.wrap(newContent.getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    try {
+      Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      LOG.warn("Atomic move is not supported for {}, replacing the file", file);
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+    forceDirectory();
+    fileState = FileState.of(file);
+  }
+
+  @Override
+  protected String getLocation() {
+    return file.toString();
+  }
+
+  private void forceDirectory() {
+    Path directory = file.getParent();
+    if (directory == null) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // directories can't be opened for sync on some platforms, the rename is still atomic
+      LOG.debug("Can't sync directory {}", directory, e);
+    }
+  }
+
+  private static final class FileState {
+
+    private final Object fileKey;
+
+    private final long lastModified;
+
+    private final long size;
+
+    private FileState(BasicFileAttributes attributes) {
+      this.fileKey = attributes.fileKey();
+      this.lastModified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+      this.size = attributes.size();
+    }
+
+    static FileState of(Path file) throws IOException {
+      try {
+        return new FileState(Files.readAttributes(file, BasicFileAttributes.class));
+      } catch (NoSuchFileException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      FileState fileState = (FileState) o;
+      return lastModified == fileState.lastModified && size == fileState.size
+          && Objects.equals(fileKey, fileState.fileKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(fileKey, lastModified, size);
+    }
+
+  }
+
+}
@@ -0,0 +1,315 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.inject.LastRunDir;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of committed batch save points, one JSON line per batch with the wall
+ * clock time, the number of documents and the save point container. A job can be rewound to any
+ * journal entry, the replay then goes through the normal job mode and iterator.
+ *
+ * <p>Entries older than a day are compacted to the last one per hour once the journal grows
+ * over {@link #MAX_ENTRIES}. If it is still over {@link #LOW_WATERMARK} then, the oldest entries
+ * are dropped, so the journal isn't rewritten on every batch. The journal stays in the last run
+ * dir whatever the save point storage is.
+ *
+ * @author CWDS TPT-2
+ */
+@Singleton
+public class SavePointJournal {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SavePointJournal.class);
+
+  static final String JOURNAL_FILENAME = "LastJobRun.journal";
+
+  static final int MAX_ENTRIES = 10000;
+
+  static final int LOW_WATERMARK = MAX_ENTRIES / 2;
+
+  private static final DateTimeFormatter REWIND_TIME_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  static {
+    mapper.registerModule(new JavaTimeModule());
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  private final String outputDir;
+
+  private List<Entry> entries;
+
+  private LocalDateTime lastRecordTime = LocalDateTime.now();
+
+  @Inject
+  public SavePointJournal(@LastRunDir String outputDir) {
+    this.outputDir = outputDir;
+  }
+
+  /**
+   * Starts timing the batches of a run, so that the time between daemon polls doesn't count.
+   */
+  public synchronized void startRun() {
+    lastRecordTime = LocalDateTime.now();
+  }
+
+  /**
+   * Appends the save point just committed, its throughput is logged along with the average one
+   * of the last day.
+   *
+   * @param container save point container content as it has been persisted
+   */
+  public synchronized void record(int documents, String container) {
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      List<Entry> journal = getEntries();
+      Entry entry = new Entry();
+      entry.setSequence(journal.isEmpty() ? 1 : journal.get(journal.size() - 1).getSequence() + 1);
+      entry.setTime(now);
+      entry.setDocuments(documents);
+      entry.setSeconds(Duration.between(lastRecordTime, now).toMillis() / 1000d);
+      entry.setContainer(mapper.readTree(container));
+      append(entry);
+      journal.add(entry);
+      lastRecordTime = now;
+      logThroughput(entry, journal);
+      if (journal.size() > MAX_ENTRIES) {
+        compact();
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Can't record save point in the journal {}", getJournalFile(), e);
+    }
+  }
+
+  /**
+   * Replaces the current save point with the journal entry requested in the job options, the
+   * request is cleared so that a daemon doesn't rewind again.
+   *
+   * @return true if the job has been rewound
+   */
+  public synchronized boolean rewind(JobOptions jobOptions) {
+    Optional<Entry> entry;
+    if (jobOptions.getRewindEntry() != null) {
+      entry = findEntry(jobOptions.getRewindEntry());
+    } else if (jobOptions.getRewindTo() != null) {
+      entry = findEntry(parseRewindTime(jobOptions.getRewindTo()));
+    } else {
+      return false;
+    }
+    Entry rewindEntry = entry.orElseThrow(() -> new JobsException(
+        "Save point journal " + getJournalFile() + " has no entry to rewind to"));
+    try {
+      SavePointStore.of(getSavePointFile())
+          .write(mapper.writeValueAsString(rewindEntry.getContainer()));
+    } catch (IOException e) {
+      throw new JobsException("Can't rewind save point", e);
+    }
+    LOGGER.info("Save point has been rewound to journal entry #{} committed at {}: {}",
+        rewindEntry.getSequence(), rewindEntry.getTime(), rewindEntry.getContainer());
+    jobOptions.clearRewind();
+    return true;
+  }
+
+  private static LocalDateTime parseRewindTime(String rewindTo) {
+    try {
+      return LocalDateTime.parse(rewindTo, REWIND_TIME_FORMAT);
+    } catch (DateTimeParseException e) {
+      throw new JobsException("Rewind time " + rewindTo + " is not yyyy-MM-dd HH:mm:ss", e);
+    }
+  }
+
+  public synchronized Optional<Entry> findEntry(long sequence) {
+    return getEntries().stream().filter(e -> e.getSequence() == sequence).findFirst();
+  }
+
+  /**
+   * Finds the last save point committed at or before the time.
+   */
+  public synchronized Optional<Entry> findEntry(LocalDateTime time) {
+    Entry found = null;
+    for (Entry entry : getEntries()) {
+      if (!entry.getTime().isAfter(time)) {
+        found = entry;
+      }
+    }
+    return Optional.ofNullable(found);
+  }
+
+  public synchronized List<Entry> getEntries() {
+    if (entries == null) {
+      entries = readEntries();
+    }
+    return entries;
+  }
+
+  private List<Entry> readEntries() {
+    List<Entry> result = new ArrayList<>();
+    Path journalFile = getJournalFile();
+    if (!journalFile.toFile().exists()) {
+      return result;
+    }
+    try {
+      for (String line : Files.readAllLines(journalFile, StandardCharsets.UTF_8)) {
+        if (!line.isEmpty()) {
+          result.add(mapper.readValue(line, Entry.class));
+        }
+      }
+    } catch (IOException e) {
+      // a line torn by a crash is the last one, entries before it are still good
+      LOGGER.warn("Save point journal {} is read up to entry #{}", journalFile,
+          result.isEmpty() ? 0 : result.get(result.size() - 1).getSequence(), e);
+    }
+    return result;
+  }
+
+  private void append(Entry entry) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(getJournalFile(), StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      writer.write(toLine(entry));
+    }
+  }
+
+  private void compact() throws IOException {
+    LocalDateTime dayAgo = LocalDateTime.now().minusDays(1);
+    List<Entry> compacted = new ArrayList<>();
+    for (int i = 0; i < entries.size(); i++) {
+      Entry entry = entries.get(i);
+      boolean lastInHour = i == entries.size() - 1 || !entries.get(i + 1).getTime()
+          .truncatedTo(ChronoUnit.HOURS).equals(entry.getTime().truncatedTo(ChronoUnit.HOURS));
+      if (entry.getTime().isAfter(dayAgo) || lastInHour) {
+        compacted.add(entry);
+      }
+    }
+    if (compacted.size() > LOW_WATERMARK) {
+      compacted = new ArrayList<>(
+          compacted.subList(compacted.size() - LOW_WATERMARK, compacted.size()));
+    }
+    Path tempFile = getJournalFile().resolveSibling(JOURNAL_FILENAME + ".tmp");
+    try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+      for (Entry entry : compacted) {
+        writer.write(toLine(entry));
+      }
+    }
+    Files.move(tempFile, getJournalFile(), StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+    LOGGER.info("Save point journal has been compacted from {} to {} entries", entries.size(),
+        compacted.size());
+    entries = compacted;
+  }
+
+  private static String toLine(Entry entry) throws JsonProcessingException {
+    return mapper.writeValueAsString(entry) + System.lineSeparator();
+  }
+
+  private static void logThroughput(Entry entry, List<Entry> journal) {
+    LocalDateTime dayAgo = entry.getTime().minusDays(1);
+    long documents = 0;
+    double seconds = 0;
+    for (Entry e : journal) {
+      if (e.getTime().isAfter(dayAgo)) {
+        documents += e.getDocuments();
+        seconds += e.getSeconds();
+      }
+    }
+    if (entry.getSeconds() > 0 && seconds > 0 && LOGGER.isInfoEnabled()) {
+      LOGGER.info("Batch throughput {} documents/s, last day average {} documents/s",
+          Math.round(entry.getDocuments() / entry.getSeconds()), Math.round(documents / seconds));
+    }
+  }
+
+  @SuppressFBWarnings("PATH_TRAVERSAL_IN") //Path cannot be controlled by the user
+  private Path getJournalFile() {
+    return Paths.get(outputDir, JOURNAL_FILENAME).normalize().toAbsolutePath();
+  }
+
+  @SuppressFBWarnings("PATH_TRAVERSAL_IN") //Path cannot be controlled by the user
+  private Path getSavePointFile() {
+    return Paths.get(outputDir, SavePointContainerServiceImpl.TIMESTAMP_FILENAME).normalize()
+        .toAbsolutePath();
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Entry {
+
+    private long sequence;
+
+    private LocalDateTime time;
+
+    private int documents;
+
+    private double seconds;
+
+    private JsonNode container;
+
+    public long getSequence() {
+      return sequence;
+    }
+
+    public void setSequence(long sequence) {
+      this.sequence = sequence;
+    }
+
+    public LocalDateTime getTime() {
+      return time;
+    }
+
+    public void setTime(LocalDateTime time) {
+      this.time = time;
+    }
+
+    public int getDocuments() {
+      return documents;
+    }
+
+    public void setDocuments(int documents) {
+      this.documents = documents;
+    }
+
+    public double getSeconds() {
+      return seconds;
+    }
+
+    public void setSeconds(double seconds) {
+      this.seconds = seconds;
+    }
+
+    public JsonNode getContainer() {
+      return container;
+    }
+
+    public void setContainer(JsonNode container) {
+      this.container = container;
+    }
+
+  }
+
+}
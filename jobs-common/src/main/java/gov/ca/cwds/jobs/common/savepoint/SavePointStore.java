@@ -0,0 +1,289 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import com.codahale.metrics.MetricRegistry;
+import gov.ca.cwds.jobs.common.configuration.SavePointStorageConfiguration;
+import gov.ca.cwds.jobs.common.configuration.SavePointStorageConfiguration.StorageType;
+import gov.ca.cwds.jobs.common.core.JobScope;
+import gov.ca.cwds.jobs.common.elastic.ElasticUtils;
+import gov.ca.cwds.jobs.common.elastic.ElasticsearchConfiguration;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import io.dropwizard.db.ManagedDataSource;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.elasticsearch.client.Client;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the current save point container in memory on top of a storage backend: content is
+ * loaded once and later reads, parsed containers and top level properties are served from memory
+ * until the next write.
+ *
+ * <p>Stores are shared per save point file within the {@link JobScope} and are available before
+ * the injector is created, since the job mode is defined from the save point. The backend is
+ * chosen by {@link #configure(SavePointStorageConfiguration, ElasticsearchConfiguration)}, the
+ * local file is used by default.
+ *
+ * <p>Writes made within {@link #deferWrites(Runnable)} are only kept in memory, the caller
+ * persists them later from another thread.
+ *
+ * @author CWDS TPT-2
+ */
+public abstract class SavePointStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SavePointStore.class);
+
+  private static final ThreadLocal<Set<SavePointStore>> DEFERRED_STORES = new ThreadLocal<>();
+
+  private boolean loaded;
+
+  private String content;
+
+  private JSONObject properties;
+
+  private final Map<Class<?>, Object> containers = new HashMap<>();
+
+  private final Object storeLock = new Object();
+
+  private String pendingContent;
+
+  private boolean storing;
+
+  /**
+   * Chooses the backend for all save points of the job, must be called before the first use.
+   */
+  public static synchronized void configure(SavePointStorageConfiguration configuration,
+      ElasticsearchConfiguration elasticsearch) {
+    close();
+    if (configuration != null && configuration.getType() != StorageType.FILE
+        && StringUtils.isEmpty(configuration.getKey())) {
+      throw new JobsException("Save point storage key is required for "
+          + configuration.getType() + " storage");
+    }
+    Storage storage = getStorage();
+    storage.storageConfiguration = configuration;
+    storage.elasticsearchConfiguration = elasticsearch;
+    LOG.info("Save point storage is {}", storage.getStorageType());
+  }
+
+  /**
+   * Forgets loaded save points and releases backend connections, they are created again on
+   * the next use.
+   */
+  public static synchronized void close() {
+    Storage storage = getStorage();
+    storage.stores.clear();
+    if (storage.dataSource != null) {
+      try {
+        storage.dataSource.stop();
+      } catch (Exception e) {
+        LOG.warn("Can't close save point data source", e);
+      }
+      storage.dataSource = null;
+    }
+    if (storage.client != null) {
+      storage.client.close();
+      storage.client = null;
+    }
+  }
+
+  static synchronized SavePointStore of(Path file) {
+    Storage storage = getStorage();
+    return storage.stores.computeIfAbsent(file, storage::create);
+  }
+
+  private static Storage getStorage() {
+    return JobScope.current().getAttribute(SavePointStore.class, Storage::new);
+  }
+
+  /**
+   * Runs the action keeping its writes in memory only, they are visible to reads right away.
+   *
+   * @return stores to {@link #persist()}
+   */
+  static Set<SavePointStore> deferWrites(Runnable action) {
+    Set<SavePointStore> deferredStores = new LinkedHashSet<>();
+    DEFERRED_STORES.set(deferredStores);
+    try {
+      action.run();
+    } finally {
+      DEFERRED_STORES.remove();
+    }
+    return deferredStores;
+  }
+
+  synchronized boolean exists() throws IOException {
+    return read() != null;
+  }
+
+  /**
+   * Returns the stored content or null if there is no save point yet.
+   */
+  synchronized String read() throws IOException {
+    if (pendingContent == null && !storing && (!loaded || !isCurrent())) {
+      clear();
+      content = load();
+      loaded = true;
+    }
+    return content;
+  }
+
+  /**
+   * Returns the container parsed from the content, parsing happens once per write.
+   */
+  synchronized <T> T read(Class<T> containerClass, Parser<T> parser) throws IOException {
+    String currentContent = getExistingContent();
+    Object container = containers.get(containerClass);
+    if (container == null) {
+      container = parser.parse(currentContent);
+      containers.put(containerClass, container);
+    }
+    return containerClass.cast(container);
+  }
+
+  synchronized String getProperty(String propertyName) throws IOException {
+    String currentContent = getExistingContent();
+    if (properties == null) {
+      properties = new JSONObject(currentContent);
+    }
+    return properties.getString(propertyName);
+  }
+
+  void write(String newContent) throws IOException {
+    stage(newContent);
+    Set<SavePointStore> deferredStores = DEFERRED_STORES.get();
+    if (deferredStores == null) {
+      persist();
+    } else {
+      deferredStores.add(this);
+    }
+  }
+
+  /**
+   * Stores the latest written content unless it is stored already. Stores of the same save point
+   * never overlap, reads are served from memory meanwhile.
+   *
+   * @return the content stored, null if there was nothing to store
+   */
+  String persist() throws IOException {
+    synchronized (storeLock) {
+      String newContent;
+      synchronized (this) {
+        newContent = pendingContent;
+        if (newContent == null) {
+          return null;
+        }
+        pendingContent = null;
+        storing = true;
+      }
+      try {
+        store(newContent);
+      } finally {
+        synchronized (this) {
+          storing = false;
+        }
+      }
+      return newContent;
+    }
+  }
+
+  private synchronized void stage(String newContent) throws IOException {
+    if (!loaded) {
+      read();
+    }
+    clear();
+    content = newContent;
+    loaded = true;
+    pendingContent = newContent;
+  }
+
+  /**
+   * Tells whether the content loaded or written last is still the stored one.
+   */
+  protected boolean isCurrent() throws IOException {
+    return true;
+  }
+
+  /**
+   * Loads the stored content, null if there is none.
+   */
+  protected abstract String load() throws IOException;
+
+  /**
+   * Replaces the stored content, the backend may reject it if it was changed since the last load
+   * or store.
+   */
+  protected abstract void store(String newContent) throws IOException;
+
+  protected abstract String getLocation();
+
+  private String getExistingContent() throws IOException {
+    String currentContent = read();
+    if (currentContent == null) {
+      throw new NoSuchFileException(getLocation());
+    }
+    return currentContent;
+  }
+
+  private void clear() {
+    loaded = false;
+    content = null;
+    properties = null;
+    containers.clear();
+  }
+
+  /**
+   * Save point storage of the job scope.
+   */
+  private static final class Storage {
+
+    private final Map<Path, SavePointStore> stores = new HashMap<>();
+
+    private SavePointStorageConfiguration storageConfiguration;
+
+    private ElasticsearchConfiguration elasticsearchConfiguration;
+
+    private ManagedDataSource dataSource;
+
+    private Client client;
+
+    private SavePointStore create(Path file) {
+      switch (getStorageType()) {
+        case JDBC:
+          if (dataSource == null) {
+            dataSource = storageConfiguration.getDataSourceFactory()
+                .build(new MetricRegistry(), "savePointStorage");
+          }
+          return new JdbcSavePointStore(dataSource, storageConfiguration.getTable(),
+              storageConfiguration.getKey());
+        case ELASTICSEARCH:
+          if (client == null) {
+            client = ElasticUtils.getOrCreateESClient(elasticsearchConfiguration);
+          }
+          return new ElasticsearchSavePointStore(client, storageConfiguration.getIndex(),
+              storageConfiguration.getKey());
+        default:
+          return new SavePointFileStore(file);
+      }
+    }
+
+    private StorageType getStorageType() {
+      return storageConfiguration == null ? StorageType.FILE : storageConfiguration.getType();
+    }
+
+  }
+
+  interface Parser<T> {
+
+    T parse(String content) throws IOException;
+
+  }
+
+}
@@ -1,5 +1,7 @@
 package gov.ca.cwds.jobs.common.savepoint;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -11,6 +13,13 @@ public abstract class TimestampSavePoint<T> implements SavePoint,
 
   private T timestamp;
 
+  /**
+   * Identifier of the last processed entity having this timestamp. Empty when all the entities
+   * with this timestamp have been processed.
+   */
+  @JsonInclude(Include.NON_NULL)
+  private String identifier;
+
   public TimestampSavePoint() {
   }
 
@@ -18,6 +27,11 @@ public abstract class TimestampSavePoint<T> implements SavePoint,
     this.timestamp = timestamp;
   }
 
+  public TimestampSavePoint(T timestamp, String identifier) {
+    this(timestamp);
+    this.identifier = identifier;
+  }
+
   public T getTimestamp() {
     return timestamp;
   }
@@ -26,6 +40,14 @@ public abstract class TimestampSavePoint<T> implements SavePoint,
     this.timestamp = timestamp;
   }
 
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  public void setIdentifier(String identifier) {
+    this.identifier = identifier;
+  }
+
   @Override
   public boolean equals(Object o) {
     return EqualsBuilder.reflectionEquals(this, o);
@@ -38,7 +60,10 @@ public abstract class TimestampSavePoint<T> implements SavePoint,
 
   @Override
   public String toString() {
-    return timestamp != null ? timestamp.toString() : "Empty timestamp";
+    if (timestamp == null) {
+      return "Empty timestamp";
+    }
+    return identifier != null ? timestamp + ", identifier " + identifier : timestamp.toString();
   }
 
 }
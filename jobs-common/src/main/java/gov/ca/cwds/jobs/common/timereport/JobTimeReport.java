@@ -1,5 +1,6 @@
 package gov.ca.cwds.jobs.common.timereport;
 
+import gov.ca.cwds.jobs.common.ratelimit.DataSourceRateLimiter;
 import gov.ca.cwds.jobs.common.util.TimeSpentUtil;
 import java.time.LocalDateTime;
 
@@ -17,6 +18,7 @@ public class JobTimeReport {
 
   public void printTimeSpent() {
     TimeSpentUtil.printTimeSpent("Overall batch processing", jobStartTime);
+    DataSourceRateLimiter.printWaitTime();
   }
 
   public float getCompletionPercent() {
@@ -1,27 +1,33 @@
 package gov.ca.cwds.jobs.common.util;
 
+import gov.ca.cwds.jobs.common.core.JobScope;
 import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Counts entities passed to the writer by the job of the current {@link JobScope}.
+ */
 public final class ConsumerCounter {
 
-  private static AtomicInteger counter = new AtomicInteger(0);
-
   private ConsumerCounter() {
   }
 
+  private static AtomicInteger counter() {
+    return JobScope.current().getAttribute(ConsumerCounter.class, AtomicInteger::new);
+  }
+
   public static void incrementCounter() {
-    counter.incrementAndGet();
+    counter().incrementAndGet();
   }
 
   public static void addToCounter(int bulkAmount) {
-    counter.addAndGet(bulkAmount);
+    counter().addAndGet(bulkAmount);
   }
 
   public static int getCounter() {
-    return counter.get();
+    return counter().get();
   }
 
   public static void reset() {
-    counter.set(0);
+    counter().set(0);
   }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package gov.ca.cwds.jobs.common.util;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+
+/**
+ * Reads query results through forward-only cursor with the given JDBC fetch size.
+ * {@link #forEach(Query, int, Consumer)} streams: rows reach the consumer as they are scrolled,
+ * e.g. the identifiers snapshot writer of initial load. {@link #collect(Query, int, Collection)}
+ * materializes the whole result, so it is meant for queries bounded by max results (a batch),
+ * where fetch size only limits what the driver buffers per round trip.
+ *
+ * @author CWDS TPT-2
+ */
+public final class ScrollableResultsUtil {
+
+  private ScrollableResultsUtil() {
+  }
+
+  /**
+   * Passes rows to the consumer one by one while the cursor is scrolled.
+   *
+   * @param fetchSize JDBC fetch size, not positive value means driver default
+   */
+  @SuppressWarnings("unchecked")
+  public static <R> void forEach(Query<R> query, int fetchSize, Consumer<R> consumer) {
+    if (fetchSize > 0) {
+      query.setFetchSize(fetchSize);
+    }
+    ScrollableResults results = query.setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+    try {
+      while (results.next()) {
+        consumer.accept((R) results.get(0));
+      }
+    } finally {
+      results.close();
+    }
+  }
+
+  /**
+   * Adds all rows to the given collection, e.g. to a compact columnar one. The whole result is
+   * materialized, the query should be bounded by max results. Rows are expected to be of the
+   * collection's element type, as queries created from HQL are untyped.
+   */
+  @SuppressWarnings("unchecked")
+  public static <C extends Collection<?>> C collect(Query<?> query, int fetchSize, C result) {
+    Collection<Object> rows = (Collection<Object>) result;
+    forEach(query, fetchSize, rows::add);
+    return result;
+  }
+
+}
@@ -0,0 +1,117 @@
+package gov.ca.cwds.jobs.common.util;
+
+import io.dropwizard.db.DataSourceFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.hibernate.cfg.Configuration;
+
+/**
+ * What a job session factory is built from: the data source and its entities, the entities
+ * cached read-only and the threads the connection pools are sized for.
+ *
+ * @author CWDS TPT-2
+ */
+public class SessionFactoryParameters {
+
+  private final DataSourceFactory dataSourceFactory;
+
+  private final String dataSourceName;
+
+  private final List<Class<?>> entityClasses;
+
+  private List<Class<?>> dictionaryClasses = Collections.emptyList();
+
+  private List<Class<?>> sharedEntityClasses = Collections.emptyList();
+
+  private int readerThreadsCount;
+
+  private int primaryThreadsCount;
+
+  private Function<Configuration, Configuration> configurer = configuration -> configuration;
+
+  public SessionFactoryParameters(DataSourceFactory dataSourceFactory, String dataSourceName,
+      List<Class<?>> entityClasses) {
+    this.dataSourceFactory = dataSourceFactory;
+    this.dataSourceName = dataSourceName;
+    this.entityClasses = entityClasses;
+  }
+
+  /**
+   * @param dictionaryClasses entities cached read-only and warmed up if second-level cache is
+   * enabled for the data source
+   */
+  public SessionFactoryParameters withDictionaryClasses(List<Class<?>> dictionaryClasses) {
+    this.dictionaryClasses = dictionaryClasses;
+    return this;
+  }
+
+  /**
+   * @param sharedEntityClasses entities referenced by many records, cached read-only in bounded
+   * regions if second-level cache is enabled for the data source
+   */
+  public SessionFactoryParameters withSharedEntityClasses(List<Class<?>> sharedEntityClasses) {
+    this.sharedEntityClasses = sharedEntityClasses;
+    return this;
+  }
+
+  /**
+   * @param readerThreadsCount reader threads count the connection pools are sized from, 0 if
+   * entities are not loaded from the data source
+   */
+  public SessionFactoryParameters withReaderThreadsCount(int readerThreadsCount) {
+    this.readerThreadsCount = readerThreadsCount;
+    return this;
+  }
+
+  /**
+   * @param primaryThreadsCount threads querying the primary data source at the same time apart
+   * from dictionary warm-up, the primary pool is sized from it
+   */
+  public SessionFactoryParameters withPrimaryThreadsCount(int primaryThreadsCount) {
+    this.primaryThreadsCount = primaryThreadsCount;
+    return this;
+  }
+
+  /**
+   * @param configurer applied to the configuration after the entity classes are added
+   */
+  public SessionFactoryParameters withConfiguration(
+      Function<Configuration, Configuration> configurer) {
+    this.configurer = configurer;
+    return this;
+  }
+
+  public DataSourceFactory getDataSourceFactory() {
+    return dataSourceFactory;
+  }
+
+  public String getDataSourceName() {
+    return dataSourceName;
+  }
+
+  public List<Class<?>> getEntityClasses() {
+    return entityClasses;
+  }
+
+  public List<Class<?>> getDictionaryClasses() {
+    return dictionaryClasses;
+  }
+
+  public List<Class<?>> getSharedEntityClasses() {
+    return sharedEntityClasses;
+  }
+
+  public int getReaderThreadsCount() {
+    return readerThreadsCount;
+  }
+
+  public int getPrimaryThreadsCount() {
+    return primaryThreadsCount;
+  }
+
+  public Function<Configuration, Configuration> getConfigurer() {
+    return configurer;
+  }
+
+}
@@ -1,49 +1,216 @@
 package gov.ca.cwds.jobs.common.util;
 
+import gov.ca.cwds.jobs.common.cache.DictionaryEntitiesCache;
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
+import gov.ca.cwds.jobs.common.configuration.RateLimitConfiguration;
+import gov.ca.cwds.jobs.common.connection.RoutingConnectionProvider;
+import gov.ca.cwds.jobs.common.ratelimit.DataSourceRateLimiter;
+import gov.ca.cwds.jobs.common.ratelimit.RateLimitingStatementInspector;
 import io.dropwizard.db.DataSourceFactory;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import org.apache.commons.lang3.Validate;
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.service.ServiceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Created by Alexander Serbin on 3/2/2018.
  */
 public final class SessionFactoryUtil {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(SessionFactoryUtil.class);
+
+  private static final String DB2_DRIVER = "com.ibm.db2.jcc.DB2Driver";
+
+  private static final String HIKARI_CONNECTION_PROVIDER =
+      "org.hibernate.hikaricp.internal.HikariCPConnectionProvider";
+
+  /**
+   * JCC statement cache size, passed to the driver through HikariCP data source properties.
+   */
+  private static final String DB2_MAX_STATEMENTS = "hibernate.hikari.dataSource.maxStatements";
+
+  private static final String HIKARI_MAXIMUM_POOL_SIZE = "hibernate.hikari.maximumPoolSize";
+
+  private static final String HIKARI_MINIMUM_IDLE = "hibernate.hikari.minimumIdle";
+
+  /**
+   * Least connections of the primary pool when readers have their own pool.
+   */
+  static final int MIN_PRIMARY_POOL_SIZE = 2;
+
   private SessionFactoryUtil() {
   }
 
+  /**
+   * Bulk read profile applied to every job data source. Properties set for the data source in
+   * the job configuration take precedence. Read-only sessions (no snapshots, no dirty checking,
+   * FlushMode.MANUAL) are requested per unit of work with {@code @UnitOfWork(readOnly = true)}.
+   */
+  static Map<String, String> bulkReadProfile(Map<String, String> dataSourceProperties) {
+    Map<String, String> profile = new HashMap<>();
+    profile.put(AvailableSettings.STATEMENT_FETCH_SIZE, "1000");
+    profile.put(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "50");
+    if (DB2_DRIVER.equals(dataSourceProperties.get(AvailableSettings.DRIVER))
+        && HIKARI_CONNECTION_PROVIDER
+        .equals(dataSourceProperties.get(AvailableSettings.CONNECTION_PROVIDER))) {
+      profile.put(DB2_MAX_STATEMENTS, "100");
+    }
+    profile.putAll(dataSourceProperties);
+    return profile;
+  }
+
+  /**
+   * Routes connections through {@link RoutingConnectionProvider} when read replicas are
+   * configured for the data source or when its HikariCP pool is used by reader threads. Then
+   * readers get their own pool (and replica pools) sized by reader threads count, while the
+   * primary pool keeps connections for identifiers, save points and finalizers. Replica
+   * properties override the derived ones.
+   *
+   * @param readerThreadsCount reader threads count, 0 if the data source is not read by readers
+   * @param primaryThreadsCount threads querying the primary pool at the same time, e.g. initial
+   * load ranges or dictionary warm-up
+   */
+  static Map<String, String> connectionRouting(String dataSourceName,
+      DataSourceFactory dataSourceFactory, Map<String, String> properties,
+      int readerThreadsCount, int primaryThreadsCount) {
+    List<DataSourceFactory> replicas = dataSourceFactory instanceof JobDataSourceFactory
+        ? ((JobDataSourceFactory) dataSourceFactory).getReplicas() : Collections.emptyList();
+    boolean readersPool = readerThreadsCount > 0
+        && HIKARI_CONNECTION_PROVIDER.equals(properties.get(AvailableSettings.CONNECTION_PROVIDER));
+    if (replicas.isEmpty() && !readersPool) {
+      return properties;
+    }
+    Map<String, String> routing = new HashMap<>(properties);
+    String connectionProvider = routing.remove(AvailableSettings.CONNECTION_PROVIDER);
+    if (connectionProvider != null) {
+      routing.put(RoutingConnectionProvider.CONNECTION_PROVIDER, connectionProvider);
+    }
+    routing.put(AvailableSettings.CONNECTION_PROVIDER, RoutingConnectionProvider.class.getName());
+
+    Map<String, String> readersPoolSize = new HashMap<>();
+    if (readersPool) {
+      int primaryPoolSize = primaryPoolSize(dataSourceFactory, primaryThreadsCount);
+      warnInconsistentPoolSize(dataSourceName, properties, readerThreadsCount, primaryPoolSize);
+      String minimumIdle = properties.get(HIKARI_MINIMUM_IDLE);
+      readersPoolSize.put(HIKARI_MAXIMUM_POOL_SIZE, String.valueOf(readerThreadsCount));
+      readersPoolSize.put(HIKARI_MINIMUM_IDLE, minimumIdle == null
+          ? String.valueOf(readerThreadsCount)
+          : String.valueOf(Math.min(Integer.parseInt(minimumIdle), readerThreadsCount)));
+      readersPoolSize.forEach((key, value) -> routing
+          .put(RoutingConnectionProvider.readersProperty(key), value));
+      routing.put(HIKARI_MAXIMUM_POOL_SIZE, String.valueOf(primaryPoolSize));
+      routing.put(HIKARI_MINIMUM_IDLE, "1");
+      LOGGER.info("{} pools: {} connections for readers, {} for identifiers and save points",
+          dataSourceName, readerThreadsCount, primaryPoolSize);
+    }
+
+    if (!replicas.isEmpty()) {
+      routing.put(RoutingConnectionProvider.REPLICAS_COUNT, String.valueOf(replicas.size()));
+      routing.put(RoutingConnectionProvider.RETRY_SECONDS,
+          String.valueOf(((JobDataSourceFactory) dataSourceFactory).getReplicaRetrySeconds()));
+      for (int i = 0; i < replicas.size(); i++) {
+        Map<String, String> replicaProperties = new HashMap<>(readersPoolSize);
+        replicaProperties.putAll(replicas.get(i).getProperties());
+        for (Map.Entry<String, String> property : replicaProperties.entrySet()) {
+          routing.put(RoutingConnectionProvider.replicaProperty(i, property.getKey()),
+              property.getValue());
+        }
+      }
+    }
+    return routing;
+  }
+
+  /**
+   * Primary pool size given for the data source, otherwise the primary threads count but not less
+   * than {@link #MIN_PRIMARY_POOL_SIZE}.
+   */
+  static int primaryPoolSize(DataSourceFactory dataSourceFactory, int primaryThreadsCount) {
+    if (dataSourceFactory instanceof JobDataSourceFactory
+        && ((JobDataSourceFactory) dataSourceFactory).getPrimaryPoolSize() != null) {
+      return ((JobDataSourceFactory) dataSourceFactory).getPrimaryPoolSize();
+    }
+    return Math.max(MIN_PRIMARY_POOL_SIZE, primaryThreadsCount);
+  }
+
+  private static void warnInconsistentPoolSize(String dataSourceName,
+      Map<String, String> properties, int readerThreadsCount, int primaryPoolSize) {
+    String maximumPoolSize = properties.get(HIKARI_MAXIMUM_POOL_SIZE);
+    if (maximumPoolSize != null
+        && Integer.parseInt(maximumPoolSize) != readerThreadsCount + primaryPoolSize) {
+      LOGGER.warn("{} {} = {} doesn't match readerThreadsCount = {}, it is ignored, pools are "
+              + "sized from readerThreadsCount", dataSourceName, HIKARI_MAXIMUM_POOL_SIZE,
+          maximumPoolSize, readerThreadsCount);
+    }
+    String minimumIdle = properties.get(HIKARI_MINIMUM_IDLE);
+    if (minimumIdle != null && Integer.parseInt(minimumIdle) > readerThreadsCount) {
+      LOGGER.warn("{} {} = {} is greater than readerThreadsCount = {}", dataSourceName,
+          HIKARI_MINIMUM_IDLE, minimumIdle, readerThreadsCount);
+    }
+  }
+
   public static SessionFactory buildSessionFactory(DataSourceFactory dataSourceFactory,
       String dataSourceName,
       List<Class<?>> entityClasses,
       Function<Configuration, Configuration> function) {
+    return buildSessionFactory(
+        new SessionFactoryParameters(dataSourceFactory, dataSourceName, entityClasses)
+            .withConfiguration(function));
+  }
+
+  public static SessionFactory buildSessionFactory(DataSourceFactory dataSourceFactory,
+      String dataSourceName,
+      List<Class<?>> entityClasses) {
+    return buildSessionFactory(
+        new SessionFactoryParameters(dataSourceFactory, dataSourceName, entityClasses));
+  }
+
+  /**
+   * Dictionary and shared entities are cached read-only if second-level cache is enabled for the
+   * data source, the primary pool is sized for the dictionary warm-up as well.
+   */
+  public static SessionFactory buildSessionFactory(SessionFactoryParameters parameters) {
+    DataSourceFactory dataSourceFactory = parameters.getDataSourceFactory();
+    String dataSourceName = parameters.getDataSourceName();
     Validate.notNull(dataSourceFactory,
         String.format("%s data source configuration is empty", dataSourceName));
     Configuration configuration = new Configuration();
-    for (Map.Entry<String, String> property : dataSourceFactory.getProperties().entrySet()) {
+    Map<String, String> properties = connectionRouting(dataSourceName, dataSourceFactory,
+        bulkReadProfile(dataSourceFactory.getProperties()), parameters.getReaderThreadsCount(),
+        Math.max(parameters.getPrimaryThreadsCount(),
+            DictionaryEntitiesCache.warmUpThreadsCount(parameters.getDictionaryClasses())));
+    properties.putAll(DictionaryEntitiesCache.readOnlyCacheSettings(properties,
+        parameters.getDictionaryClasses(), parameters.getSharedEntityClasses()));
+    for (Map.Entry<String, String> property : properties.entrySet()) {
       configuration.setProperty(property.getKey(), property.getValue());
     }
     configuration.setProperty("hibernate.current_session_context_class", "managed");
 
-    ServiceRegistry serviceRegistry
-        = new StandardServiceRegistryBuilder()
-        .applySettings(configuration.getProperties()).build();
+    StandardServiceRegistryBuilder serviceRegistryBuilder = new StandardServiceRegistryBuilder()
+        .applySettings(configuration.getProperties());
+    if (dataSourceFactory instanceof JobDataSourceFactory) {
+      RateLimitConfiguration rateLimit = ((JobDataSourceFactory) dataSourceFactory).getRateLimit();
+      if (rateLimit != null && rateLimit.isEnabled()) {
+        serviceRegistryBuilder.applySetting(AvailableSettings.STATEMENT_INSPECTOR,
+            new RateLimitingStatementInspector(
+                DataSourceRateLimiter.register(dataSourceName, rateLimit)));
+      }
+    }
+    ServiceRegistry serviceRegistry = serviceRegistryBuilder.build();
 
-    entityClasses.forEach(configuration::addAnnotatedClass);
-    function.apply(configuration);
+    parameters.getEntityClasses().forEach(configuration::addAnnotatedClass);
+    parameters.getConfigurer().apply(configuration);
+    DictionaryEntitiesCache.readOnlyCache(dataSourceName, parameters.getDictionaryClasses(),
+        parameters.getSharedEntityClasses()).apply(configuration);
     return configuration.buildSessionFactory(serviceRegistry);
   }
 
-  public static SessionFactory buildSessionFactory(DataSourceFactory dataSourceFactory,
-      String dataSourceName,
-      List<Class<?>> entityClasses) {
-    Function<Configuration, Configuration> emptyFunction = configuration -> configuration;
-    return buildSessionFactory(dataSourceFactory, dataSourceName, entityClasses, emptyFunction);
-  }
-
 }
\ No newline at end of file
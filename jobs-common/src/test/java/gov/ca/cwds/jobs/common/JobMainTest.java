@@ -167,7 +167,8 @@ public class JobMainTest {
   @Test
   public void testCase12RestoreAfterCrashTest() throws IOException {
     try {
-      runCrashJob();
+      runCrashJob("testcase12", "database_structure.xml",
+          "testcases/testcase12/test_case_12.xml");
     } catch (JobsException e) {
       assertEquals("java.lang.RuntimeException: Broken entity!!!", e.getCause().getMessage());
       assertEquals(1, TestEntityWriter.getItems().size());
@@ -188,9 +189,32 @@ public class JobMainTest {
     assertEquals(INCREMENTAL_LOAD, savePointContainer.getJobMode());
   }
 
-  private void runCrashJob() {
+  @Test
+  public void testCase13RestoreAfterCrashWithinTimestampTest() throws IOException {
+    try {
+      runCrashJob("testcase13", "database_structure.xml",
+          "testcases/testcase13/test_case_13.xml");
+    } catch (JobsException e) {
+      assertEquals("java.lang.RuntimeException: Broken entity!!!", e.getCause().getMessage());
+      assertEquals(1, TestEntityWriter.getItems().size());
+      LocalDateTimeSavePointContainer savePointContainer = getSavePointContainer();
+      assertEquals(LocalDateTime.of(2018, 5, 6, 2, 3, 45),
+          savePointContainer.getSavePoint().getTimestamp());
+      assertEquals("a", savePointContainer.getSavePoint().getIdentifier());
+      assertEquals(INITIAL_LOAD, savePointContainer.getJobMode());
+    }
+    TestEntityWriter.reset();
+    runInitialJob("testcase13");
+    assertEquals(2, TestEntityWriter.getItems().size());
+    LocalDateTimeSavePointContainer savePointContainer = getSavePointContainer();
+    assertEquals(LocalDateTime.of(2018, 5, 6, 2, 3, 45),
+        savePointContainer.getSavePoint().getTimestamp());
+    assertEquals(INCREMENTAL_LOAD, savePointContainer.getJobMode());
+  }
+
+  private void runCrashJob(String testCase, String... scripts) {
     TestJobConfiguration configuration = JobConfiguration
-        .getJobsConfiguration(TestJobConfiguration.class, getConfigFilePath("testcase12"));
+        .getJobsConfiguration(TestJobConfiguration.class, getConfigFilePath(testCase));
     String runDir = lastRunDirHelper.getSavepointContainerFolder().toString();
     JobModule jobModule = new JobModule(runDir);
     TestCustomModule customModule = new TestCustomModule(configuration, runDir);
@@ -198,10 +222,7 @@ public class JobMainTest {
     jobModule.addModules(customModule,
         new MultiThreadModule(configuration.getMultiThread()),
         new TestDataAccessModule());
-    jobModule.setJobPreparator(
-        new TestJobPreparator(getConfigFilePath("testcase12"),
-            "database_structure.xml",
-            "testcases/testcase12/test_case_12.xml"));
+    jobModule.setJobPreparator(new TestJobPreparator(getConfigFilePath(testCase), scripts));
 
     JobRunner.run(jobModule);
   }
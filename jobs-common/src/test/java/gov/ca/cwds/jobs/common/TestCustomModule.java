@@ -9,7 +9,7 @@ import gov.ca.cwds.jobs.common.core.Job;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
 import gov.ca.cwds.jobs.common.entity.TestEntity;
 import gov.ca.cwds.jobs.common.entity.TestEntityService;
-import gov.ca.cwds.jobs.common.identifier.ChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
 import gov.ca.cwds.jobs.common.inject.BaseContainerService;
 import gov.ca.cwds.jobs.common.inject.IndexName;
 import gov.ca.cwds.jobs.common.inject.PrimaryContainerService;
@@ -18,7 +18,7 @@ import gov.ca.cwds.jobs.common.inject.TestEntityServiceProvider;
 import gov.ca.cwds.jobs.common.inject.TestIdentifiersServiceProvider;
 import gov.ca.cwds.jobs.common.inject.TestSessionFactory;
 import gov.ca.cwds.jobs.common.iterator.JobBatchIterator;
-import gov.ca.cwds.jobs.common.iterator.LocalDateTimeJobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.LocalDateTimeKeysetJobBatchIterator;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.mode.JobModeFinalizer;
 import gov.ca.cwds.jobs.common.mode.LocalDateTimeJobModeFinalizer;
@@ -62,7 +62,7 @@ public class TestCustomModule extends AbstractModule {
     }).toInstance(configuration);
     bind(Job.class).to(TestJobImpl.class);
     bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
-    }).to(LocalDateTimeJobBatchIterator.class);
+    }).to(LocalDateTimeKeysetJobBatchIterator.class);
     switch (getCurrentJobMode(runDir)) {
       case INITIAL_RESUME: case INITIAL_LOAD:
         bind(JobModeFinalizer.class).annotatedWith(PrimaryFinalizer.class)
@@ -88,7 +88,7 @@ public class TestCustomModule extends AbstractModule {
         new TypeLiteral<SavePointContainerService<TimestampSavePoint<LocalDateTime>>>() {
         }).annotatedWith(PrimaryContainerService.class)
         .to(SavePointContainerServiceDecorator.class);
-    bind(new TypeLiteral<ChangedEntitiesIdentifiersService<LocalDateTime>>() {
+    bind(new TypeLiteral<KeysetChangedEntitiesIdentifiersService<LocalDateTime>>() {
     }).toProvider(TestIdentifiersServiceProvider.class);
   }
 
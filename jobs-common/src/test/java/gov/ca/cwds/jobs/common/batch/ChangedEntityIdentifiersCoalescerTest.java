@@ -0,0 +1,74 @@
+package gov.ca.cwds.jobs.common.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.TestJobIdentifier;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChangedEntityIdentifiersCoalescerTest {
+
+  private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2018, 10, 1, 12, 0);
+
+  private ChangedEntityIdentifiersCoalescer<TimestampSavePoint<LocalDateTime>> coalescer;
+
+  @Before
+  public void init() {
+    coalescer = new ChangedEntityIdentifiersCoalescer<>();
+    coalescer.setTrackedIdentifiersCount(10);
+  }
+
+  @Test
+  public void batchWithoutDuplicatesIsNotChanged() {
+    List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> batch = Arrays.asList(
+        new TestJobIdentifier("1", TIMESTAMP), new TestJobIdentifier("2", TIMESTAMP));
+    assertSame(batch, coalescer.coalesce(batch));
+  }
+
+  @Test
+  public void latestIdentifierIsKeptWithinBatch() {
+    TestJobIdentifier latest = new TestJobIdentifier("1", TIMESTAMP.plusMinutes(2));
+    List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> result = coalescer
+        .coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP),
+            new TestJobIdentifier("2", TIMESTAMP.plusMinutes(1)), latest));
+    assertEquals(2, result.size());
+    assertEquals("2", result.get(0).getId());
+    assertSame(latest, result.get(1));
+  }
+
+  @Test
+  public void identifierNotNewerThanInPreviousBatchIsSkipped() {
+    coalescer.coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP.plusMinutes(1)),
+        new TestJobIdentifier("2", TIMESTAMP.plusMinutes(1))));
+    List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> result = coalescer
+        .coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP),
+            new TestJobIdentifier("2", TIMESTAMP.plusMinutes(1)),
+            new TestJobIdentifier("3", TIMESTAMP)));
+    assertEquals(1, result.size());
+    assertEquals("3", result.get(0).getId());
+  }
+
+  @Test
+  public void identifierNewerThanInPreviousBatchIsLoaded() {
+    coalescer.coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP)));
+    TestJobIdentifier newer = new TestJobIdentifier("1", TIMESTAMP.plusMinutes(1));
+    assertSame(newer, coalescer.coalesce(Arrays.asList(newer)).get(0));
+    assertEquals(0,
+        coalescer.coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP))).size());
+  }
+
+  @Test
+  public void identifierIsLoadedAgainWithoutTracking() {
+    coalescer.setTrackedIdentifiersCount(0);
+    coalescer.coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP)));
+    assertEquals(1,
+        coalescer.coalesce(Arrays.asList(new TestJobIdentifier("1", TIMESTAMP))).size());
+  }
+
+}
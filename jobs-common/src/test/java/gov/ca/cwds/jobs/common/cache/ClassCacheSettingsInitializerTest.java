@@ -0,0 +1,65 @@
+package gov.ca.cwds.jobs.common.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.entity.TestEntity;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.boot.CacheRegionDefinition;
+import org.hibernate.boot.CacheRegionDefinition.CacheRegionType;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ClassCacheSettingsInitializerTest {
+
+  @Test
+  public void testDictionaryRegionIsApplied() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+    Map<String, String> settings = DictionaryEntitiesCache.readOnlyCacheSettings(properties,
+        Collections.singletonList(TestEntity.class), Collections.emptyList());
+    assertEquals("true", settings.get(AvailableSettings.GENERATE_STATISTICS));
+
+    MetadataBuilder metadataBuilder = mock(MetadataBuilder.class);
+    new ClassCacheSettingsInitializer().contribute(metadataBuilder, mockServiceRegistry(settings));
+
+    ArgumentCaptor<CacheRegionDefinition> definition =
+        ArgumentCaptor.forClass(CacheRegionDefinition.class);
+    verify(metadataBuilder).applyCacheRegionDefinition(definition.capture());
+    assertEquals(CacheRegionType.ENTITY, definition.getValue().getRegionType());
+    assertEquals(TestEntity.class.getName(), definition.getValue().getRole());
+    assertEquals("read-only", definition.getValue().getUsage());
+    assertEquals(TestEntity.class.getName(), definition.getValue().getRegion());
+  }
+
+  @Test
+  public void testNothingIsCachedWithoutSecondLevelCache() {
+    Map<String, String> settings = DictionaryEntitiesCache.readOnlyCacheSettings(new HashMap<>(),
+        Collections.singletonList(TestEntity.class), Collections.emptyList());
+    assertTrue(settings.isEmpty());
+
+    MetadataBuilder metadataBuilder = mock(MetadataBuilder.class);
+    new ClassCacheSettingsInitializer().contribute(metadataBuilder, mockServiceRegistry(settings));
+    verify(metadataBuilder, never()).applyCacheRegionDefinition(any(CacheRegionDefinition.class));
+  }
+
+  private static StandardServiceRegistry mockServiceRegistry(Map<String, String> settings) {
+    ConfigurationService configurationService = mock(ConfigurationService.class);
+    when(configurationService.getSettings()).thenReturn(settings);
+    StandardServiceRegistry serviceRegistry = mock(StandardServiceRegistry.class);
+    when(serviceRegistry.getService(ConfigurationService.class)).thenReturn(configurationService);
+    return serviceRegistry;
+  }
+
+}
@@ -0,0 +1,69 @@
+package gov.ca.cwds.jobs.common.cache;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.entity.TestEntity;
+import gov.ca.cwds.jobs.common.identifier.TestJobIdentifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.metamodel.EntityType;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.Test;
+
+public class DictionaryEntitiesCacheTest {
+
+  @Test
+  public void testDictionaryRegionIsNotEvicted() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+    Map<String, Object> settings = new HashMap<>(DictionaryEntitiesCache.readOnlyCacheSettings(
+        properties, Collections.singletonList(TestEntity.class),
+        Collections.singletonList(TestJobIdentifier.class)));
+    Cache cache = mock(Cache.class);
+
+    DictionaryEntitiesCache.evictNonDictionaryRegions(mockSessionFactory(settings, cache));
+
+    verify(cache, never()).evictEntityRegion(TestEntity.class.getName());
+    verify(cache).evictEntityRegion(TestJobIdentifier.class.getName());
+    verify(cache).evictCollectionRegions();
+    verify(cache).evictQueryRegions();
+  }
+
+  @Test
+  public void testAllRegionsAreEvictedWithoutDictionaries() {
+    Cache cache = mock(Cache.class);
+
+    DictionaryEntitiesCache.evictNonDictionaryRegions(mockSessionFactory(new HashMap<>(), cache));
+
+    verify(cache).evictEntityRegion(TestEntity.class.getName());
+    verify(cache).evictEntityRegion(TestJobIdentifier.class.getName());
+  }
+
+  private static SessionFactory mockSessionFactory(Map<String, Object> settings, Cache cache) {
+    Set<EntityType<?>> entities = new HashSet<>(
+        Arrays.asList(entityType(TestEntity.class), entityType(TestJobIdentifier.class)));
+    SessionFactory sessionFactory = mock(SessionFactory.class, RETURNS_DEEP_STUBS);
+    when(sessionFactory.getProperties()).thenReturn(settings);
+    when(sessionFactory.getCache()).thenReturn(cache);
+    when(sessionFactory.getMetamodel().getEntities()).thenReturn(entities);
+    return sessionFactory;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static EntityType<?> entityType(Class entityClass) {
+    EntityType entityType = mock(EntityType.class);
+    when(entityType.getJavaType()).thenReturn(entityClass);
+    return entityType;
+  }
+
+}
@@ -0,0 +1,200 @@
+package gov.ca.cwds.jobs.common.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RoutingConnectionProviderTest {
+
+  private static final String PRIMARY = "jdbc:primary";
+
+  private static final String READERS = "readers";
+
+  private static final String REPLICA_0 = "jdbc:replica0";
+
+  private static final String REPLICA_1 = "jdbc:replica1";
+
+  private RoutingConnectionProvider provider;
+
+  @Before
+  public void init() {
+    TestConnectionProvider.reset();
+  }
+
+  @After
+  public void stop() {
+    provider.stop();
+  }
+
+  @Test
+  public void testOtherConnectionsAreFromPrimary() throws SQLException {
+    provider = createProvider(true);
+    assertEquals(PRIMARY, TestConnectionProvider.sourceOf(provider.getConnection()));
+  }
+
+  @Test
+  public void testIncrementalReadsAreFromReadersPool() {
+    provider = createProvider(true);
+    assertEquals(READERS, TestConnectionProvider.sourceOf(entityReadConnection(false)));
+  }
+
+  @Test
+  public void testInitialReadsAreFromLeastLoadedReplicas() {
+    provider = createProvider(true);
+    Set<String> sources = new HashSet<>();
+    sources.add(TestConnectionProvider.sourceOf(entityReadConnection(true)));
+    sources.add(TestConnectionProvider.sourceOf(entityReadConnection(true)));
+    assertEquals(new HashSet<>(Arrays.asList(REPLICA_0, REPLICA_1)), sources);
+  }
+
+  @Test
+  public void testUnhealthyReplicaIsSkipped() {
+    provider = createProvider(true);
+    TestConnectionProvider.FAILING.add(REPLICA_0);
+    for (int i = 0; i < 3; i++) {
+      Connection connection = entityReadConnection(true);
+      assertEquals(REPLICA_1, TestConnectionProvider.sourceOf(connection));
+      closeConnection(connection);
+    }
+    assertEquals(1, TestConnectionProvider.ATTEMPTS.get(REPLICA_0).intValue());
+  }
+
+  @Test
+  public void testReadersPoolIsUsedIfNoReplicaIsHealthy() {
+    provider = createProvider(true);
+    TestConnectionProvider.FAILING.addAll(Arrays.asList(REPLICA_0, REPLICA_1));
+    assertEquals(READERS, TestConnectionProvider.sourceOf(entityReadConnection(true)));
+  }
+
+  @Test
+  public void testPrimaryIsUsedIfNoReplicaIsHealthyWithoutReadersPool() {
+    provider = createProvider(false);
+    TestConnectionProvider.FAILING.addAll(Arrays.asList(REPLICA_0, REPLICA_1));
+    assertEquals(PRIMARY, TestConnectionProvider.sourceOf(entityReadConnection(true)));
+  }
+
+  private Connection entityReadConnection(boolean fromReplicas) {
+    return EntityReads.call(() -> {
+      try {
+        return provider.getConnection();
+      } catch (SQLException e) {
+        throw new IllegalStateException(e);
+      }
+    }, fromReplicas);
+  }
+
+  private void closeConnection(Connection connection) {
+    try {
+      provider.closeConnection(connection);
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static RoutingConnectionProvider createProvider(boolean readersPool) {
+    ClassLoaderService classLoaderService = mock(ClassLoaderService.class);
+    doReturn(TestConnectionProvider.class).when(classLoaderService).classForName(anyString());
+    ServiceRegistryImplementor serviceRegistry = mock(ServiceRegistryImplementor.class);
+    when(serviceRegistry.getService(ClassLoaderService.class)).thenReturn(classLoaderService);
+
+    Map<String, String> values = new HashMap<>();
+    values.put(AvailableSettings.URL, PRIMARY);
+    values.put(RoutingConnectionProvider.CONNECTION_PROVIDER,
+        TestConnectionProvider.class.getName());
+    values.put(RoutingConnectionProvider.RETRY_SECONDS, "60");
+    values.put(RoutingConnectionProvider.REPLICAS_COUNT, "2");
+    values.put(RoutingConnectionProvider.replicaProperty(0, AvailableSettings.URL), REPLICA_0);
+    values.put(RoutingConnectionProvider.replicaProperty(1, AvailableSettings.URL), REPLICA_1);
+    if (readersPool) {
+      values.put(RoutingConnectionProvider.readersProperty(TestConnectionProvider.POOL), READERS);
+    }
+    RoutingConnectionProvider provider = new RoutingConnectionProvider();
+    provider.injectServices(serviceRegistry);
+    provider.configure(values);
+    return provider;
+  }
+
+  /**
+   * Gives mocked connections, remembering the pool or the URL each one came from.
+   */
+  public static class TestConnectionProvider implements ConnectionProvider, Configurable {
+
+    static final String POOL = "pool";
+
+    static final Set<String> FAILING = ConcurrentHashMap.newKeySet();
+
+    static final Map<String, Integer> ATTEMPTS = new ConcurrentHashMap<>();
+
+    private static final Map<Connection, String> SOURCES = new ConcurrentHashMap<>();
+
+    private String source;
+
+    static void reset() {
+      FAILING.clear();
+      ATTEMPTS.clear();
+      SOURCES.clear();
+    }
+
+    static String sourceOf(Connection connection) {
+      return SOURCES.get(connection);
+    }
+
+    @Override
+    public void configure(Map configurationValues) {
+      Object pool = configurationValues.get(POOL);
+      source = String.valueOf(pool == null ? configurationValues.get(AvailableSettings.URL) : pool);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      ATTEMPTS.merge(source, 1, Integer::sum);
+      if (FAILING.contains(source)) {
+        throw new SQLException("Can't connect to " + source);
+      }
+      Connection connection = mock(Connection.class);
+      SOURCES.put(connection, source);
+      return connection;
+    }
+
+    @Override
+    public void closeConnection(Connection connection) {
+      SOURCES.remove(connection);
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+      return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class unwrapType) {
+      return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+      return null;
+    }
+
+  }
+
+}
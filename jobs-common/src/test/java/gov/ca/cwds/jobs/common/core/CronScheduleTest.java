@@ -0,0 +1,45 @@
+package gov.ca.cwds.jobs.common.core;
+
+import static org.junit.Assert.assertEquals;
+
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.time.LocalDateTime;
+import org.junit.Test;
+
+public class CronScheduleTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2019, 3, 15, 10, 7, 30);
+
+  @Test
+  public void testEveryFifteenMinutes() {
+    assertEquals(LocalDateTime.of(2019, 3, 15, 10, 15),
+        new CronSchedule("*/15 * * * *").next(NOW));
+    assertEquals(LocalDateTime.of(2019, 3, 15, 11, 0),
+        new CronSchedule("*/15 * * * *").next(LocalDateTime.of(2019, 3, 15, 10, 45)));
+  }
+
+  @Test
+  public void testDailyAndWeekly() {
+    assertEquals(LocalDateTime.of(2019, 3, 16, 2, 30),
+        new CronSchedule("30 2 * * *").next(NOW));
+    // 2019-03-18 is Monday
+    assertEquals(LocalDateTime.of(2019, 3, 18, 0, 0),
+        new CronSchedule("0 0 * * 1-5").next(LocalDateTime.of(2019, 3, 16, 0, 0)));
+    assertEquals(LocalDateTime.of(2019, 3, 17, 6, 0),
+        new CronSchedule("0 6 * * 7").next(NOW));
+  }
+
+  @Test
+  public void testMonthly() {
+    assertEquals(LocalDateTime.of(2019, 4, 1, 0, 5),
+        new CronSchedule("5 0 1 * *").next(NOW));
+    assertEquals(LocalDateTime.of(2020, 2, 29, 0, 0),
+        new CronSchedule("0 0 29 2 *").next(NOW));
+  }
+
+  @Test(expected = JobsException.class)
+  public void testInvalidExpression() {
+    new CronSchedule("61 * * * *");
+  }
+
+}
@@ -0,0 +1,76 @@
+package gov.ca.cwds.jobs.common.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.inject.AbstractModule;
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.inject.JobModule;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class JobDaemonTest {
+
+  @Test
+  public void testPollIntervalBackoff() {
+    JobDaemon daemon = new JobDaemon(mock(JobModuleBuilder.class), mockJobOptions(10, 300));
+    assertEquals(20, daemon.nextPollInterval(10, 0));
+    assertEquals(160, daemon.nextPollInterval(80, 0));
+    assertEquals(300, daemon.nextPollInterval(160, 0));
+    assertEquals(300, daemon.nextPollInterval(300, 0));
+    assertEquals(10, daemon.nextPollInterval(300, 5));
+  }
+
+  @Test
+  public void testInitialLoadIsFollowedByPolling() {
+    JobOptions jobOptions = mockJobOptions(0, 0);
+    JobModuleBuilder jobModuleBuilder = mock(JobModuleBuilder.class);
+    JobDaemon daemon = new JobDaemon(jobModuleBuilder, jobOptions);
+
+    Job initialJob = mock(Job.class);
+    Job incrementalJob = mock(Job.class);
+    AtomicInteger polls = new AtomicInteger();
+    when(incrementalJob.poll()).thenAnswer(invocation -> {
+      if (polls.incrementAndGet() == 3) {
+        daemon.stop();
+      }
+      return 1;
+    });
+    when(jobModuleBuilder.buildJobModule(any(JobOptions.class), anyBoolean()))
+        .thenReturn(jobModule(JobMode.INITIAL_LOAD, initialJob),
+            jobModule(JobMode.INCREMENTAL_LOAD, incrementalJob));
+
+    daemon.run();
+
+    verify(initialJob).run();
+    verify(incrementalJob, times(3)).poll();
+    verify(incrementalJob).close();
+    verify(jobModuleBuilder, times(2)).buildJobModule(jobOptions, true);
+  }
+
+  private static JobOptions mockJobOptions(long minPollInterval, long maxPollInterval) {
+    JobOptions jobOptions = mock(JobOptions.class);
+    when(jobOptions.getMinPollInterval()).thenReturn(minPollInterval);
+    when(jobOptions.getMaxPollInterval()).thenReturn(maxPollInterval);
+    return jobOptions;
+  }
+
+  private static JobModule jobModule(JobMode jobMode, Job job) {
+    JobModule jobModule = new JobModule("");
+    jobModule.setJobMode(jobMode);
+    jobModule.addModule(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(Job.class).toInstance(job);
+      }
+    });
+    return jobModule;
+  }
+
+}
@@ -0,0 +1,167 @@
+package gov.ca.cwds.jobs.common.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.inject.AbstractModule;
+import gov.ca.cwds.jobs.common.configuration.HostedJobConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobHostConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.inject.JobModule;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JobHostTest {
+
+  private static final Map<String, JobScope> SCOPES = new ConcurrentHashMap<>();
+
+  private static final Map<String, Object> ATTRIBUTES = new ConcurrentHashMap<>();
+
+  private static final AtomicInteger RUNS = new AtomicInteger();
+
+  private static final AtomicInteger FINISHED_RUNS = new AtomicInteger();
+
+  private static CountDownLatch started;
+
+  private static CountDownLatch released;
+
+  private Path hostDir;
+
+  @Before
+  public void setUp() throws IOException {
+    hostDir = Files.createTempDirectory("job-host");
+    SCOPES.clear();
+    ATTRIBUTES.clear();
+    RUNS.set(0);
+    FINISHED_RUNS.set(0);
+    released = new CountDownLatch(1);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    released.countDown();
+    FileUtils.deleteDirectory(hostDir.toFile());
+  }
+
+  @Test
+  public void testRunIsSkippedWhilePreviousRunIsInProgress() throws Exception {
+    started = new CountDownLatch(1);
+    JobHost jobHost = createJobHost("a");
+    assertTrue(jobHost.trigger("a"));
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    assertFalse(jobHost.trigger("a"));
+
+    released.countDown();
+    jobHost.stop();
+    assertEquals(1, RUNS.get());
+    assertEquals(1, FINISHED_RUNS.get());
+  }
+
+  @Test
+  public void testEachRunHasOwnScope() throws Exception {
+    started = new CountDownLatch(2);
+    JobHost jobHost = createJobHost("a", "b");
+    assertTrue(jobHost.trigger("a"));
+    assertTrue(jobHost.trigger("b"));
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    assertEquals("a", SCOPES.get("a").getName());
+    assertEquals("b", SCOPES.get("b").getName());
+    assertNotSame(ATTRIBUTES.get("a"), ATTRIBUTES.get("b"));
+    assertSame(SCOPES.get("a").getReaderPermits(), SCOPES.get("b").getReaderPermits());
+    assertSame(SCOPES.get("a").getSharedClients(), SCOPES.get("b").getSharedClients());
+
+    released.countDown();
+    jobHost.stop();
+  }
+
+  @Test
+  public void testStopWaitsForRunningJob() throws Exception {
+    started = new CountDownLatch(1);
+    JobHost jobHost = createJobHost("a");
+    assertTrue(jobHost.trigger("a"));
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    Thread stopThread = new Thread(jobHost::stop);
+    stopThread.start();
+    stopThread.join(200);
+    assertTrue(stopThread.isAlive());
+
+    released.countDown();
+    stopThread.join(TimeUnit.SECONDS.toMillis(10));
+    assertFalse(stopThread.isAlive());
+    assertEquals(1, FINISHED_RUNS.get());
+    assertFalse(jobHost.trigger("a"));
+    assertEquals(1, RUNS.get());
+  }
+
+  private JobHost createJobHost(String... names) throws IOException {
+    Path config = Files.createFile(hostDir.resolve("job.yaml"));
+    List<HostedJobConfiguration> jobs = new ArrayList<>();
+    for (String name : names) {
+      HostedJobConfiguration job = new HostedJobConfiguration();
+      job.setName(name);
+      job.setBuilder(TestJobModuleBuilder.class.getName());
+      job.setConfig(config.toString());
+      job.setSchedule("0 0 1 1 *");
+      jobs.add(job);
+    }
+    JobHostConfiguration configuration = new JobHostConfiguration();
+    configuration.setReaderThreadsBudget(4);
+    configuration.setJobs(jobs);
+    return new JobHost(configuration, hostDir.toString());
+  }
+
+  public static class TestJobModuleBuilder implements JobModuleBuilder {
+
+    @Override
+    public JobModule buildJobModule(JobOptions jobOptions, boolean elasticSearchModule) {
+      JobModule jobModule = new JobModule(jobOptions.getLastRunLoc());
+      jobModule.setJobMode(JobMode.INCREMENTAL_LOAD);
+      jobModule.addModule(new AbstractModule() {
+        @Override
+        protected void configure() {
+          bind(Job.class).to(TestJob.class);
+        }
+      });
+      return jobModule;
+    }
+
+  }
+
+  static class TestJob implements Job {
+
+    @Override
+    public void run() {
+      JobScope scope = JobScope.current();
+      SCOPES.put(scope.getName(), scope);
+      ATTRIBUTES.put(scope.getName(), scope.getAttribute(JobHostTest.class, Object::new));
+      RUNS.incrementAndGet();
+      started.countDown();
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      FINISHED_RUNS.incrementAndGet();
+    }
+
+  }
+
+}
@@ -0,0 +1,83 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IdentifierSnapshotTest {
+
+  private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2018, 3, 5, 10, 15, 30);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path file;
+
+  @Before
+  public void writeSnapshot() throws IOException {
+    file = folder.getRoot().toPath().resolve("identifiers.snapshot");
+    LocalDateTimeIdentifiers identifiers = new LocalDateTimeIdentifiers();
+    identifiers.add("a", TIMESTAMP, RecordChangeOperation.I);
+    identifiers.add("b", TIMESTAMP, null);
+    identifiers.add("c", TIMESTAMP, RecordChangeOperation.U);
+    identifiers.add("d", TIMESTAMP.plusSeconds(1), RecordChangeOperation.D);
+    try (IdentifierSnapshotWriter writer = new IdentifierSnapshotWriter(file)) {
+      identifiers.forEach(writer::add);
+      writer.complete();
+      assertEquals(4, writer.getCount());
+    }
+    assertFalse(Files.exists(file.resolveSibling("identifiers.snapshot.tmp")));
+  }
+
+  @Test
+  public void testReadByBatches() throws IOException {
+    try (IdentifierSnapshotReader reader = new IdentifierSnapshotReader(file)) {
+      LocalDateTimeIdentifiers batch = reader.read(3);
+      assertEquals(3, batch.size());
+      assertEquals("a", batch.getId(0));
+      assertNull(batch.getRecordChangeOperation(1));
+      batch = reader.read(3);
+      assertEquals(1, batch.size());
+      assertEquals(TIMESTAMP.plusSeconds(1), batch.getTimestamp(0));
+      assertEquals(RecordChangeOperation.D, batch.getRecordChangeOperation(0));
+      assertTrue(reader.read(3).isEmpty());
+    }
+  }
+
+  @Test
+  public void testSkipToKey() throws IOException {
+    try (IdentifierSnapshotReader reader = new IdentifierSnapshotReader(file)) {
+      reader.skipTo(new LocalDateTimeSavePoint(TIMESTAMP, "b"));
+      assertEquals("c", reader.read(1).getId(0));
+    }
+  }
+
+  @Test
+  public void testSkipToTimestamp() throws IOException {
+    try (IdentifierSnapshotReader reader = new IdentifierSnapshotReader(file)) {
+      reader.skipTo(new LocalDateTimeSavePoint(TIMESTAMP));
+      assertEquals("d", reader.read(1).getId(0));
+    }
+  }
+
+  @Test
+  public void testSkipToUnknownKey() throws IOException {
+    try (IdentifierSnapshotReader reader = new IdentifierSnapshotReader(file)) {
+      reader.skipTo(new LocalDateTimeSavePoint(TIMESTAMP, "x"));
+      assertEquals(4, reader.read(10).size());
+    }
+  }
+
+}
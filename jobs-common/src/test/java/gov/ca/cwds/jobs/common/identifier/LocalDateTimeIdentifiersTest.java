@@ -0,0 +1,63 @@
+package gov.ca.cwds.jobs.common.identifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.time.LocalDateTime;
+import org.junit.Test;
+
+public class LocalDateTimeIdentifiersTest {
+
+  private static final LocalDateTime TIMESTAMP =
+      LocalDateTime.of(2018, 3, 5, 10, 15, 30, 123456789);
+
+  @Test
+  public void testAddAndGet() {
+    LocalDateTimeIdentifiers identifiers = new LocalDateTimeIdentifiers(1);
+    identifiers.add("1", TIMESTAMP, RecordChangeOperation.U);
+    identifiers.add(new TimestampIdentifier<>("2", RecordChangeOperation.D,
+        new LocalDateTimeSavePoint(TIMESTAMP.plusNanos(1))));
+    identifiers.add("3", TIMESTAMP, null);
+
+    assertEquals(3, identifiers.size());
+    ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> second = identifiers.get(1);
+    assertEquals("2", second.getId());
+    assertEquals(RecordChangeOperation.D, second.getRecordChangeOperation());
+    assertEquals(TIMESTAMP.plusNanos(1), second.getSavePoint().getTimestamp());
+    assertEquals(TIMESTAMP, identifiers.getTimestamp(0));
+    assertNull(identifiers.getRecordChangeOperation(2));
+  }
+
+  @Test
+  public void testCompare() {
+    LocalDateTimeIdentifiers identifiers = new LocalDateTimeIdentifiers();
+    identifiers.add("b", TIMESTAMP, RecordChangeOperation.I);
+    identifiers.add("a", TIMESTAMP.plusNanos(1), RecordChangeOperation.I);
+    identifiers.add("c", TIMESTAMP, RecordChangeOperation.I);
+
+    assertTrue(identifiers.compare(0, 1) < 0);
+    assertTrue(identifiers.compare(0, 2) < 0);
+    assertTrue(identifiers.get(1).compareTo(identifiers.get(0)) > 0);
+    assertEquals(0, identifiers.get(0).compareTo(identifiers.get(2)));
+  }
+
+  @Test
+  public void testSavePoint() {
+    LocalDateTimeIdentifiers identifiers = new LocalDateTimeIdentifiers();
+    identifiers.add("1", TIMESTAMP, RecordChangeOperation.I);
+
+    TimestampSavePoint<LocalDateTime> savePoint = identifiers.getSavePoint(0);
+    assertEquals(TIMESTAMP, savePoint.getTimestamp());
+    assertEquals("1", savePoint.getIdentifier());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfBounds() {
+    new LocalDateTimeIdentifiers().get(0);
+  }
+
+}
@@ -0,0 +1,123 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.identifier.TimestampIdentifier;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import gov.ca.cwds.jobs.common.savepoint.SavePointService;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KeysetJobBatchIteratorTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2019, 3, 1, 0, 0);
+
+  @Mock
+  private SavePointService<TimestampSavePoint<LocalDateTime>> savePointService;
+
+  @Mock
+  private KeysetChangedEntitiesIdentifiersService<LocalDateTime> identifiersService;
+
+  @InjectMocks
+  private LocalDateTimeKeysetJobBatchIterator iterator;
+
+  private final List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> changes =
+      new ArrayList<>();
+
+  private TimestampSavePoint<LocalDateTime> savePoint =
+      new LocalDateTimeSavePoint(TIMESTAMP.minusDays(1));
+
+  @Before
+  public void setUp() {
+    addChange("E", TIMESTAMP);
+    addChange("A", TIMESTAMP);
+    addChange("D", TIMESTAMP);
+    addChange("B", TIMESTAMP);
+    addChange("C", TIMESTAMP);
+    addChange("F", TIMESTAMP.plusSeconds(1));
+    when(savePointService.loadSavePoint()).thenAnswer(invocation -> savePoint);
+    when(identifiersService.getIdentifiersAfter(any()))
+        .thenAnswer(invocation -> getPage((TimestampSavePoint<LocalDateTime>) invocation
+            .getArguments()[0]));
+  }
+
+  @Test
+  public void testRowsSharingTimestampAreSplitBetweenBatches() {
+    assertEquals(Arrays.asList("A", "B"), toIds(nextPortion()));
+    assertEquals(Arrays.asList("C", "D"), toIds(nextPortion()));
+    assertEquals(Arrays.asList("E", "F"), toIds(nextPortion()));
+    assertTrue(nextPortion().isEmpty());
+  }
+
+  @Test
+  public void testResumeWithinTimestamp() {
+    savePoint = new LocalDateTimeSavePoint(TIMESTAMP, "B");
+    assertEquals(Arrays.asList("C", "D"), toIds(nextPortion()));
+    assertEquals(Arrays.asList("E", "F"), toIds(nextPortion()));
+  }
+
+  /**
+   * Reads the next portion and moves the save point to its last identifier as the job does.
+   */
+  private JobBatch<TimestampSavePoint<LocalDateTime>> nextPortion() {
+    JobBatch<TimestampSavePoint<LocalDateTime>> batch = iterator.getNextPortion();
+    if (!batch.isEmpty()) {
+      List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> identifiers =
+          batch.getChangedEntityIdentifiers();
+      ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> last =
+          identifiers.get(identifiers.size() - 1);
+      savePoint = new LocalDateTimeSavePoint(last.getSavePoint().getTimestamp(), last.getId());
+    }
+    return batch;
+  }
+
+  private void addChange(String id, LocalDateTime timestamp) {
+    changes.add(new TimestampIdentifier<>(id, new LocalDateTimeSavePoint(timestamp)));
+  }
+
+  private List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getPage(
+      TimestampSavePoint<LocalDateTime> position) {
+    return changes.stream()
+        .filter(change -> isAfter(change, position))
+        .sorted(Comparator.comparing(
+            (ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> change) -> change
+                .getSavePoint().getTimestamp())
+            .thenComparing(ChangedEntityIdentifier::getId))
+        .limit(BATCH_SIZE)
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isAfter(ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> change,
+      TimestampSavePoint<LocalDateTime> position) {
+    LocalDateTime timestamp = change.getSavePoint().getTimestamp();
+    return timestamp.isAfter(position.getTimestamp())
+        || timestamp.isEqual(position.getTimestamp()) && position.getIdentifier() != null
+        && change.getId().compareTo(position.getIdentifier()) > 0;
+  }
+
+  private static List<String> toIds(JobBatch<TimestampSavePoint<LocalDateTime>> batch) {
+    return batch.getChangedEntityIdentifiers().stream().map(ChangedEntityIdentifier::getId)
+        .collect(Collectors.toList());
+  }
+
+}
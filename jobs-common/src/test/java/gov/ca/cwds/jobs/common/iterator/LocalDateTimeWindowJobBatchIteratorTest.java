@@ -0,0 +1,127 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.identifier.TimestampIdentifier;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LocalDateTimeWindowJobBatchIteratorTest {
+
+  private static final int PAGE_SIZE = 3;
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2019, 3, 1, 0, 0);
+
+  @Mock
+  private ReindexTarget reindexTarget;
+
+  @Mock
+  private KeysetChangedEntitiesIdentifiersService<LocalDateTime> identifiersService;
+
+  @InjectMocks
+  private LocalDateTimeWindowJobBatchIterator iterator;
+
+  private final List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> changes =
+      new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    addChange("Z", FROM.minusSeconds(1));
+    addChange("A", FROM);
+    addChange("B", FROM);
+    addChange("C", FROM.plusSeconds(1));
+    addChange("D", FROM.plusSeconds(1));
+    addChange("E", FROM.plusSeconds(2));
+    addChange("F", FROM.plusSeconds(2));
+    when(reindexTarget.getFrom()).thenReturn(FROM);
+    when(identifiersService.getIdentifiersAfter(any()))
+        .thenAnswer(invocation -> getPage((TimestampSavePoint<LocalDateTime>) invocation
+            .getArguments()[0]));
+  }
+
+  @Test
+  public void testWindowStartIsInclusive() {
+    iterator.init();
+    assertEquals(Arrays.asList("A", "B", "C"), toIds(iterator.getNextPortion()));
+
+    ArgumentCaptor<TimestampSavePoint> position = ArgumentCaptor
+        .forClass(TimestampSavePoint.class);
+    verify(identifiersService).getIdentifiersAfter(position.capture());
+    assertEquals(FROM, position.getValue().getTimestamp());
+    assertEquals("", position.getValue().getIdentifier());
+  }
+
+  @Test
+  public void testWindowEndIsExclusiveWithinPage() {
+    when(reindexTarget.getTo()).thenReturn(FROM.plusSeconds(2));
+    iterator.init();
+    assertEquals(Arrays.asList("A", "B", "C"), toIds(iterator.getNextPortion()));
+    assertEquals(Arrays.asList("D"), toIds(iterator.getNextPortion()));
+    assertTrue(iterator.getNextPortion().isEmpty());
+    assertTrue(iterator.getNextPortion().isEmpty());
+    verify(identifiersService, times(2)).getIdentifiersAfter(any());
+  }
+
+  @Test
+  public void testUnboundedWindowIsExhausted() {
+    iterator.init();
+    assertEquals(Arrays.asList("A", "B", "C"), toIds(iterator.getNextPortion()));
+    assertEquals(Arrays.asList("D", "E", "F"), toIds(iterator.getNextPortion()));
+    assertTrue(iterator.getNextPortion().isEmpty());
+    assertTrue(iterator.getNextPortion().isEmpty());
+    verify(identifiersService, times(3)).getIdentifiersAfter(any());
+  }
+
+  private void addChange(String id, LocalDateTime timestamp) {
+    changes.add(new TimestampIdentifier<>(id, new LocalDateTimeSavePoint(timestamp)));
+  }
+
+  private List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getPage(
+      TimestampSavePoint<LocalDateTime> position) {
+    return changes.stream()
+        .filter(change -> isAfter(change, position))
+        .sorted(Comparator.comparing(
+            (ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> change) -> change
+                .getSavePoint().getTimestamp())
+            .thenComparing(ChangedEntityIdentifier::getId))
+        .limit(PAGE_SIZE)
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isAfter(ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>> change,
+      TimestampSavePoint<LocalDateTime> position) {
+    LocalDateTime timestamp = change.getSavePoint().getTimestamp();
+    return timestamp.isAfter(position.getTimestamp())
+        || timestamp.isEqual(position.getTimestamp())
+        && change.getId().compareTo(position.getIdentifier()) > 0;
+  }
+
+  private static List<String> toIds(JobBatch<TimestampSavePoint<LocalDateTime>> batch) {
+    return batch.getChangedEntityIdentifiers().stream().map(ChangedEntityIdentifier::getId)
+        .collect(Collectors.toList());
+  }
+
+}
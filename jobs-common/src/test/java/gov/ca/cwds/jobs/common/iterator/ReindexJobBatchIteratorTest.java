@@ -0,0 +1,75 @@
+package gov.ca.cwds.jobs.common.iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
+import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReindexJobBatchIteratorTest {
+
+  @Mock
+  private ReindexTarget reindexTarget;
+
+  @Mock
+  private JobBatchIterator<LocalDateTimeSavePoint> timeWindowIterator;
+
+  @InjectMocks
+  private ReindexJobBatchIterator<LocalDateTimeSavePoint> iterator;
+
+  @Before
+  public void setUp() throws IllegalAccessException {
+    FieldUtils.writeField(iterator, "batchSize", 2, true);
+  }
+
+  @Test
+  public void testIdsAreSplitIntoBatches() {
+    when(reindexTarget.getIds()).thenReturn(Arrays.asList("1", "2", "3", "4", "5").iterator());
+    iterator.init();
+    assertEquals(Arrays.asList("1", "2"), toIds(iterator.getNextPortion()));
+    assertEquals(Arrays.asList("3", "4"), toIds(iterator.getNextPortion()));
+    assertEquals(Collections.singletonList("5"), toIds(iterator.getNextPortion()));
+    assertTrue(iterator.getNextPortion().isEmpty());
+  }
+
+  @Test
+  public void testTimeWindowIsDelegated() {
+    JobBatch<LocalDateTimeSavePoint> batch = new JobBatch<>(Collections.emptyList());
+    when(reindexTarget.isTimeWindow()).thenReturn(true);
+    when(timeWindowIterator.getNextPortion()).thenReturn(batch);
+    iterator.init();
+    assertSame(batch, iterator.getNextPortion());
+    verify(timeWindowIterator).init();
+  }
+
+  @Test(expected = JobsException.class)
+  public void testTimeWindowIsNotSupported() throws IllegalAccessException {
+    FieldUtils.writeField(iterator, "timeWindowIterator", null, true);
+    when(reindexTarget.isTimeWindow()).thenReturn(true);
+    iterator.init();
+  }
+
+  private static List<String> toIds(JobBatch<LocalDateTimeSavePoint> batch) {
+    return batch.getChangedEntityIdentifiers().stream().map(ChangedEntityIdentifier::getId)
+        .collect(Collectors.toList());
+  }
+
+}
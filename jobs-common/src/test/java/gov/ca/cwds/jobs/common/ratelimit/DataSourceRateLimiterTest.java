@@ -0,0 +1,79 @@
+package gov.ca.cwds.jobs.common.ratelimit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import gov.ca.cwds.jobs.common.configuration.RateLimitConfiguration;
+import gov.ca.cwds.jobs.common.configuration.RateLimitWindow;
+import java.time.LocalTime;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class DataSourceRateLimiterTest {
+
+  @Test
+  public void testSchedule() {
+    RateLimitConfiguration configuration = configuration(100);
+    assertEquals(30, configuration.getPercent(LocalTime.of(12, 0)));
+    assertEquals(30, configuration.getPercent(LocalTime.of(7, 0)));
+    assertEquals(100, configuration.getPercent(LocalTime.of(19, 0)));
+    assertEquals(50, configuration.getPercent(LocalTime.of(23, 30)));
+    assertEquals(50, configuration.getPercent(LocalTime.of(0, 30)));
+    assertEquals(100, configuration.getPercent(LocalTime.of(3, 0)));
+  }
+
+  @Test
+  public void testWaitTimeIsAccumulated() {
+    DataSourceRateLimiter limiter =
+        new DataSourceRateLimiter("TEST", configuration(10), LocalTime.of(3, 0));
+    for (int i = 0; i < 3; i++) {
+      limiter.acquire(1, LocalTime.of(12, 0));
+    }
+    assertEquals(3, limiter.getStatementsCount());
+    assertTrue(limiter.getWaitMillis() > 0);
+  }
+
+  @Test
+  public void testChargedStatementsArePaidLater() {
+    DataSourceRateLimiter limiter =
+        new DataSourceRateLimiter("TEST", configuration(10), LocalTime.of(3, 0));
+    for (int i = 0; i < 5; i++) {
+      limiter.charge();
+    }
+    assertEquals(0, limiter.getStatementsCount());
+    limiter.awaitPermits(LocalTime.of(3, 0));
+    assertEquals(5, limiter.getStatementsCount());
+    assertEquals(0, limiter.getWaitMillis());
+    limiter.charge();
+    limiter.awaitPermits(LocalTime.of(3, 0));
+    assertEquals(6, limiter.getStatementsCount());
+    // the burst of 5 statements at 10 per second is paid by the next unit of work
+    assertTrue(limiter.getWaitMillis() > 300);
+  }
+
+  @Test
+  public void testLimiterIsSharedByDataSourceName() {
+    DataSourceRateLimiter limiter =
+        DataSourceRateLimiter.register("SHARED_TEST", configuration(10));
+    assertSame(limiter, DataSourceRateLimiter.register("SHARED_TEST", configuration(20)));
+    assertNotSame(limiter, DataSourceRateLimiter.register("OTHER_TEST", configuration(10)));
+  }
+
+  private static RateLimitConfiguration configuration(double statementsPerSecond) {
+    RateLimitConfiguration configuration = new RateLimitConfiguration();
+    configuration.setStatementsPerSecond(statementsPerSecond);
+    configuration.setSchedule(Arrays.asList(window(7, 19, 30), window(23, 1, 50)));
+    return configuration;
+  }
+
+  private static RateLimitWindow window(int fromHour, int toHour, int percent) {
+    RateLimitWindow window = new RateLimitWindow();
+    window.setFrom(LocalTime.of(fromHour, 0));
+    window.setTo(LocalTime.of(toHour, 0));
+    window.setPercent(percent);
+    return window;
+  }
+
+}
@@ -0,0 +1,93 @@
+package gov.ca.cwds.jobs.common.reindex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ReindexTargetTest {
+
+  @Test
+  public void testNothingTargeted() {
+    ReindexTarget target = ReindexTarget.of(mock(JobOptions.class), JobMode.INITIAL_LOAD);
+    assertFalse(target.isEnabled());
+    assertFalse(target.getIds().hasNext());
+  }
+
+  @Test
+  public void testIdsFile() throws IOException {
+    Path idsFile = Files.createTempFile("reindex", ".txt");
+    try {
+      Files.write(idsFile, Arrays.asList("# broken facilities", "AAA", "", " BBB ", "AAA"),
+          StandardCharsets.UTF_8);
+      JobOptions jobOptions = mockTargetedReindex();
+      when(jobOptions.getIdsFile()).thenReturn(idsFile.toString());
+      ReindexTarget target = ReindexTarget.of(jobOptions, JobMode.INCREMENTAL_LOAD);
+      assertTrue(target.isEnabled());
+      assertFalse(target.isTimeWindow());
+      assertEquals(Arrays.asList("AAA", "BBB"), toList(target));
+    } finally {
+      Files.delete(idsFile);
+    }
+  }
+
+  @Test
+  public void testIdRange() {
+    JobOptions jobOptions = mockTargetedReindex();
+    when(jobOptions.getIdRange()).thenReturn(new Long[]{98L, 101L});
+    ReindexTarget target = ReindexTarget.of(jobOptions, JobMode.INCREMENTAL_LOAD);
+    assertEquals(Arrays.asList("98", "99", "100", "101"), toList(target));
+  }
+
+  @Test
+  public void testTimeWindow() {
+    JobOptions jobOptions = mockTargetedReindex();
+    when(jobOptions.getFrom()).thenReturn("2019-03-01 00:00:00");
+    ReindexTarget target = ReindexTarget.of(jobOptions, JobMode.INCREMENTAL_LOAD);
+    assertTrue(target.isTimeWindow());
+    assertEquals(LocalDateTime.of(2019, 3, 1, 0, 0), target.getFrom());
+    assertNull(target.getTo());
+  }
+
+  @Test(expected = JobsException.class)
+  public void testMalformedTime() {
+    JobOptions jobOptions = mockTargetedReindex();
+    when(jobOptions.getFrom()).thenReturn("2019-03-01");
+    ReindexTarget.of(jobOptions, JobMode.INCREMENTAL_LOAD);
+  }
+
+  @Test(expected = JobsException.class)
+  public void testInitialLoadNotCompleted() {
+    JobOptions jobOptions = mockTargetedReindex();
+    when(jobOptions.getIdRange()).thenReturn(new Long[]{1L, 2L});
+    ReindexTarget.of(jobOptions, JobMode.INITIAL_RESUME);
+  }
+
+  private static JobOptions mockTargetedReindex() {
+    JobOptions jobOptions = mock(JobOptions.class);
+    when(jobOptions.isTargetedReindex()).thenReturn(true);
+    return jobOptions;
+  }
+
+  private static List<String> toList(ReindexTarget target) {
+    List<String> ids = new ArrayList<>();
+    target.getIds().forEachRemaining(ids::add);
+    return ids;
+  }
+
+}
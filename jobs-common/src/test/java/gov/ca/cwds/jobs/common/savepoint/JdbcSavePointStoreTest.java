@@ -0,0 +1,60 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.io.IOException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JdbcSavePointStoreTest {
+
+  private static final String TABLE = "JOB_SAVE_POINT";
+
+  private JdbcDataSource dataSource;
+
+  @Before
+  public void init() {
+    dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:savepoints_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+  }
+
+  @Test
+  public void testWriteAndReadFromAnotherWorker() throws IOException {
+    JdbcSavePointStore store = new JdbcSavePointStore(dataSource, TABLE, "cws");
+    assertFalse(store.exists());
+    store.write("{\"jobMode\":\"INITIAL_LOAD\"}");
+    store.write("{\"jobMode\":\"INCREMENTAL_LOAD\"}");
+
+    JdbcSavePointStore anotherStore = new JdbcSavePointStore(dataSource, TABLE, "cws");
+    assertTrue(anotherStore.exists());
+    assertEquals("INCREMENTAL_LOAD", anotherStore.getProperty("jobMode"));
+    assertFalse(new JdbcSavePointStore(dataSource, TABLE, "lis").exists());
+  }
+
+  @Test(expected = JobsException.class)
+  public void testConcurrentUpdateIsRejected() throws IOException {
+    JdbcSavePointStore store = new JdbcSavePointStore(dataSource, TABLE, "cws");
+    store.write("{\"jobMode\":\"INITIAL_LOAD\"}");
+    JdbcSavePointStore anotherStore = new JdbcSavePointStore(dataSource, TABLE, "cws");
+    anotherStore.read();
+
+    store.write("{\"jobMode\":\"INITIAL_RESUME\"}");
+    anotherStore.write("{\"jobMode\":\"INCREMENTAL_LOAD\"}");
+  }
+
+  @Test(expected = JobsException.class)
+  public void testConcurrentCreateIsRejected() throws IOException {
+    JdbcSavePointStore store = new JdbcSavePointStore(dataSource, TABLE, "cws");
+    JdbcSavePointStore anotherStore = new JdbcSavePointStore(dataSource, TABLE, "cws");
+    store.read();
+    anotherStore.read();
+
+    store.write("{\"jobMode\":\"INITIAL_LOAD\"}");
+    anotherStore.write("{\"jobMode\":\"INITIAL_LOAD\"}");
+  }
+
+}
@@ -0,0 +1,105 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SavePointCommitterTest {
+
+  @Mock
+  private SavePointJournal savePointJournal;
+
+  @InjectMocks
+  private SavePointCommitter savePointCommitter;
+
+  @After
+  public void afterMethod() {
+    savePointCommitter.close();
+  }
+
+  @Test
+  public void testLatestSavePointIsStored() throws Exception {
+    BlockingStore store = new BlockingStore();
+    savePointCommitter.commit(() -> write(store, "first"), 10);
+    store.started.await(10, TimeUnit.SECONDS);
+    savePointCommitter.commit(() -> write(store, "second"), 20);
+    savePointCommitter.commit(() -> write(store, "third"), 30);
+    assertEquals("third", store.read());
+
+    store.release.countDown();
+    savePointCommitter.flush();
+    assertEquals(2, store.stored.size());
+    assertEquals("first", store.stored.get(0));
+    assertEquals("third", store.stored.get(1));
+    verify(savePointJournal).record(10, "first");
+    verify(savePointJournal).record(50, "third");
+  }
+
+  @Test(expected = JobsException.class)
+  public void testFailureIsRethrownOnFlush() {
+    BlockingStore store = new BlockingStore();
+    store.failure = true;
+    store.release.countDown();
+    savePointCommitter.commit(() -> write(store, "first"), 10);
+    savePointCommitter.flush();
+  }
+
+  private static void write(SavePointStore store, String content) {
+    try {
+      store.write(content);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class BlockingStore extends SavePointStore {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final List<String> stored = new CopyOnWriteArrayList<>();
+
+    private boolean failure;
+
+    @Override
+    protected String load() {
+      return null;
+    }
+
+    @Override
+    protected void store(String newContent) throws IOException {
+      started.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (failure) {
+        throw new IOException("Storage is not available");
+      }
+      stored.add(newContent);
+    }
+
+    @Override
+    protected String getLocation() {
+      return "memory";
+    }
+
+  }
+
+}
@@ -0,0 +1,63 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import gov.ca.cwds.jobs.common.util.LastRunDirHelper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SavePointFileStoreTest {
+
+  private LastRunDirHelper lastRunDirHelper = new LastRunDirHelper("store_temp");
+
+  private Path file;
+
+  @Before
+  public void beforeMethod() throws IOException {
+    lastRunDirHelper.createSavePointContainerFolder();
+    file = lastRunDirHelper.getSavepointContainerFolder().resolve("LastJobRun.time")
+        .toAbsolutePath();
+  }
+
+  @After
+  public void afterMethod() throws IOException {
+    lastRunDirHelper.deleteSavePointContainerFolder();
+  }
+
+  @Test
+  public void testWriteAndRead() throws IOException {
+    SavePointStore store = SavePointStore.of(file);
+    assertFalse(store.exists());
+    store.write("{\"jobMode\":\"INITIAL_LOAD\"}");
+
+    assertTrue(store.exists());
+    assertFalse(Files.exists(file.resolveSibling("LastJobRun.time.tmp")));
+    assertEquals("{\"jobMode\":\"INITIAL_LOAD\"}",
+        new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    assertEquals("INITIAL_LOAD", SavePointStore.of(file).getProperty("jobMode"));
+    String container = store.read(String.class, String::toUpperCase);
+    assertSame(container, store.read(String.class, content -> content));
+  }
+
+  @Test
+  public void testFileReplacedOutside() throws IOException {
+    SavePointStore store = SavePointStore.of(file);
+    store.write("{\"jobMode\":\"INITIAL_LOAD\"}");
+    Files.write(file, "{\"jobMode\":\"INCREMENTAL_LOAD\"}".getBytes(StandardCharsets.UTF_8));
+    assertEquals("INCREMENTAL_LOAD", store.getProperty("jobMode"));
+
+    Files.delete(file);
+    assertFalse(store.exists());
+    assertNull(store.read());
+  }
+
+}
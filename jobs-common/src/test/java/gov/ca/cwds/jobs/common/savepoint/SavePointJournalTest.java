@@ -0,0 +1,103 @@
+package gov.ca.cwds.jobs.common.savepoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.common.configuration.JobOptions;
+import gov.ca.cwds.jobs.common.exception.JobsException;
+import gov.ca.cwds.jobs.common.util.LastRunDirHelper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SavePointJournalTest {
+
+  private static final String FIRST_CONTAINER =
+      "{\"jobMode\":\"INITIAL_LOAD\",\"savePoint\":\"a\"}";
+
+  private static final String SECOND_CONTAINER =
+      "{\"jobMode\":\"INITIAL_LOAD\",\"savePoint\":\"b\"}";
+
+  private LastRunDirHelper lastRunDirHelper = new LastRunDirHelper("journal_temp");
+
+  private String outputDir;
+
+  private SavePointStore store;
+
+  @Before
+  public void beforeMethod() throws IOException {
+    lastRunDirHelper.createSavePointContainerFolder();
+    Path folder = lastRunDirHelper.getSavepointContainerFolder().toAbsolutePath();
+    outputDir = folder.toString();
+    store = SavePointStore.of(folder.resolve("LastJobRun.time"));
+  }
+
+  @After
+  public void afterMethod() throws IOException {
+    lastRunDirHelper.deleteSavePointContainerFolder();
+  }
+
+  @Test
+  public void testRecordAndRewindToEntry() throws IOException {
+    SavePointJournal journal = new SavePointJournal(outputDir);
+    store.write(FIRST_CONTAINER);
+    journal.record(100, FIRST_CONTAINER);
+    store.write(SECOND_CONTAINER);
+    journal.record(50, SECOND_CONTAINER);
+
+    SavePointJournal anotherJournal = new SavePointJournal(outputDir);
+    assertEquals(2, anotherJournal.getEntries().size());
+    assertEquals(100, anotherJournal.getEntries().get(0).getDocuments());
+    assertFalse(anotherJournal.findEntry(LocalDateTime.now().minusDays(1)).isPresent());
+
+    JobOptions jobOptions = mock(JobOptions.class);
+    when(jobOptions.getRewindEntry()).thenReturn(1L);
+    assertTrue(anotherJournal.rewind(jobOptions));
+    assertEquals("a", store.getProperty("savePoint"));
+  }
+
+  @Test
+  public void testCompactionToLowWatermark() throws IOException {
+    LocalDateTime time = LocalDateTime.now().minusHours(1);
+    List<String> lines = new ArrayList<>();
+    for (int i = 1; i <= SavePointJournal.MAX_ENTRIES; i++) {
+      lines.add("{\"sequence\":" + i + ",\"time\":\"" + time + "\",\"documents\":1,"
+          + "\"seconds\":1.0,\"container\":{}}");
+    }
+    Files.write(Paths.get(outputDir, SavePointJournal.JOURNAL_FILENAME), lines,
+        StandardCharsets.UTF_8);
+
+    SavePointJournal journal = new SavePointJournal(outputDir);
+    journal.record(10, FIRST_CONTAINER);
+    assertEquals(SavePointJournal.LOW_WATERMARK, journal.getEntries().size());
+    assertEquals(SavePointJournal.MAX_ENTRIES + 1,
+        journal.getEntries().get(SavePointJournal.LOW_WATERMARK - 1).getSequence());
+    journal.record(10, SECOND_CONTAINER);
+    assertEquals(SavePointJournal.LOW_WATERMARK + 1,
+        new SavePointJournal(outputDir).getEntries().size());
+  }
+
+  @Test
+  public void testNoRewind() {
+    assertFalse(new SavePointJournal(outputDir).rewind(mock(JobOptions.class)));
+  }
+
+  @Test(expected = JobsException.class)
+  public void testRewindToMissingEntry() {
+    JobOptions jobOptions = mock(JobOptions.class);
+    when(jobOptions.getRewindTo()).thenReturn("2018-01-01 00:00:00");
+    new SavePointJournal(outputDir).rewind(jobOptions);
+  }
+
+}
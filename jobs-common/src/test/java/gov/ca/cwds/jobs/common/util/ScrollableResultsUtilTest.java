@@ -0,0 +1,77 @@
+package gov.ca.cwds.jobs.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScrollableResultsUtilTest {
+
+  private Query<String> query;
+
+  private ScrollableResults results;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void init() {
+    query = mock(Query.class);
+    results = mock(ScrollableResults.class);
+    when(query.setReadOnly(true)).thenReturn(query);
+    when(query.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+    when(results.next()).thenReturn(true, true, true, false);
+    when(results.get(0)).thenReturn("1", "2", "3");
+  }
+
+  @Test
+  public void testRowsAreStreamedToConsumer() {
+    List<String> rows = new ArrayList<>();
+    ScrollableResultsUtil.forEach(query, 2, row -> {
+      // the cursor is still open when a row is consumed
+      verify(results, never()).close();
+      rows.add(row);
+    });
+    assertEquals(Arrays.asList("1", "2", "3"), rows);
+    verify(query).setFetchSize(2);
+    verify(results).close();
+  }
+
+  @Test
+  public void testDriverFetchSizeIsKept() {
+    ScrollableResultsUtil.forEach(query, 0, row -> {
+    });
+    verify(query, never()).setFetchSize(anyInt());
+  }
+
+  @Test
+  public void testCursorIsClosedIfConsumerFails() {
+    try {
+      ScrollableResultsUtil.forEach(query, 2, row -> {
+        throw new IllegalStateException(row);
+      });
+      fail();
+    } catch (IllegalStateException e) {
+      assertEquals("1", e.getMessage());
+    }
+    verify(results).close();
+  }
+
+  @Test
+  public void testRowsAreCollected() {
+    List<String> rows = ScrollableResultsUtil.collect(query, 2, new ArrayList<>());
+    assertEquals(Arrays.asList("1", "2", "3"), rows);
+    verify(results).close();
+  }
+
+}
@@ -0,0 +1,116 @@
+package gov.ca.cwds.jobs.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
+import gov.ca.cwds.jobs.common.connection.RoutingConnectionProvider;
+import io.dropwizard.db.DataSourceFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.Test;
+
+public class SessionFactoryUtilTest {
+
+  private static final String HIKARI_MAXIMUM_POOL_SIZE = "hibernate.hikari.maximumPoolSize";
+
+  private static final String HIKARI_MINIMUM_IDLE = "hibernate.hikari.minimumIdle";
+
+  @Test
+  public void testBulkReadProfileDefaults() {
+    Map<String, String> properties = SessionFactoryUtil.bulkReadProfile(new HashMap<>());
+    assertEquals("1000", properties.get(AvailableSettings.STATEMENT_FETCH_SIZE));
+    assertEquals("50", properties.get(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE));
+    assertFalse(properties.containsKey("hibernate.hikari.dataSource.maxStatements"));
+  }
+
+  @Test
+  public void testDataSourcePropertiesOverrideBulkReadProfile() {
+    Map<String, String> dataSourceProperties = new HashMap<>();
+    dataSourceProperties.put(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "5");
+    dataSourceProperties.put(AvailableSettings.DRIVER, "com.ibm.db2.jcc.DB2Driver");
+    dataSourceProperties.put(AvailableSettings.CONNECTION_PROVIDER,
+        "org.hibernate.hikaricp.internal.HikariCPConnectionProvider");
+    Map<String, String> properties = SessionFactoryUtil.bulkReadProfile(dataSourceProperties);
+    assertEquals("5", properties.get(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE));
+    assertEquals("1000", properties.get(AvailableSettings.STATEMENT_FETCH_SIZE));
+    assertEquals("100", properties.get("hibernate.hikari.dataSource.maxStatements"));
+  }
+
+  @Test
+  public void testReplicaRouting() {
+    DataSourceFactory replica = new DataSourceFactory();
+    replica.setProperties(Collections.singletonMap(AvailableSettings.URL, "jdbc:replica"));
+    JobDataSourceFactory dataSourceFactory = new JobDataSourceFactory();
+    dataSourceFactory.setReplicas(Collections.singletonList(replica));
+    Map<String, String> primaryProperties = new HashMap<>();
+    primaryProperties.put(AvailableSettings.URL, "jdbc:primary");
+    primaryProperties.put(AvailableSettings.CONNECTION_PROVIDER, "DriverManagerProvider");
+
+    Map<String, String> properties = SessionFactoryUtil
+        .connectionRouting("TEST", dataSourceFactory, primaryProperties, 4, 0);
+    assertEquals(RoutingConnectionProvider.class.getName(),
+        properties.get(AvailableSettings.CONNECTION_PROVIDER));
+    assertEquals("DriverManagerProvider",
+        properties.get(RoutingConnectionProvider.CONNECTION_PROVIDER));
+    assertEquals("1", properties.get(RoutingConnectionProvider.REPLICAS_COUNT));
+    assertEquals("jdbc:primary", properties.get(AvailableSettings.URL));
+    assertEquals("jdbc:replica", properties.get(
+        RoutingConnectionProvider.replicaProperty(0, AvailableSettings.URL)));
+    assertFalse(properties.containsKey(
+        RoutingConnectionProvider.readersProperty(HIKARI_MAXIMUM_POOL_SIZE)));
+  }
+
+  @Test
+  public void testReadersPool() {
+    DataSourceFactory replica = new DataSourceFactory();
+    replica.setProperties(Collections.singletonMap(HIKARI_MAXIMUM_POOL_SIZE, "3"));
+    JobDataSourceFactory dataSourceFactory = new JobDataSourceFactory();
+    dataSourceFactory.setReplicas(Collections.singletonList(replica));
+    Map<String, String> primaryProperties = new HashMap<>();
+    primaryProperties.put(AvailableSettings.CONNECTION_PROVIDER,
+        "org.hibernate.hikaricp.internal.HikariCPConnectionProvider");
+    primaryProperties.put(HIKARI_MAXIMUM_POOL_SIZE, "10");
+    primaryProperties.put(HIKARI_MINIMUM_IDLE, "4");
+
+    Map<String, String> properties = SessionFactoryUtil
+        .connectionRouting("TEST", dataSourceFactory, primaryProperties, 8, 0);
+    assertEquals(String.valueOf(SessionFactoryUtil.MIN_PRIMARY_POOL_SIZE),
+        properties.get(HIKARI_MAXIMUM_POOL_SIZE));
+    assertEquals("8", properties.get(
+        RoutingConnectionProvider.readersProperty(HIKARI_MAXIMUM_POOL_SIZE)));
+    assertEquals("4", properties.get(
+        RoutingConnectionProvider.readersProperty(HIKARI_MINIMUM_IDLE)));
+    assertEquals("3", properties.get(
+        RoutingConnectionProvider.replicaProperty(0, HIKARI_MAXIMUM_POOL_SIZE)));
+    assertEquals("4", properties.get(
+        RoutingConnectionProvider.replicaProperty(0, HIKARI_MINIMUM_IDLE)));
+  }
+
+  @Test
+  public void testPrimaryPoolSize() {
+    JobDataSourceFactory dataSourceFactory = new JobDataSourceFactory();
+    assertEquals(SessionFactoryUtil.MIN_PRIMARY_POOL_SIZE,
+        SessionFactoryUtil.primaryPoolSize(dataSourceFactory, 1));
+    assertEquals(6, SessionFactoryUtil.primaryPoolSize(dataSourceFactory, 6));
+    dataSourceFactory.setPrimaryPoolSize(3);
+    assertEquals(3, SessionFactoryUtil.primaryPoolSize(dataSourceFactory, 6));
+
+    Map<String, String> primaryProperties = new HashMap<>();
+    primaryProperties.put(AvailableSettings.CONNECTION_PROVIDER,
+        "org.hibernate.hikaricp.internal.HikariCPConnectionProvider");
+    Map<String, String> properties = SessionFactoryUtil
+        .connectionRouting("TEST", new DataSourceFactory(), primaryProperties, 8, 4);
+    assertEquals("4", properties.get(HIKARI_MAXIMUM_POOL_SIZE));
+  }
+
+  @Test
+  public void testNoRouting() {
+    Map<String, String> properties = new HashMap<>();
+    assertEquals(properties, SessionFactoryUtil
+        .connectionRouting("TEST", new JobDataSourceFactory(), properties, 8, 0));
+  }
+
+}
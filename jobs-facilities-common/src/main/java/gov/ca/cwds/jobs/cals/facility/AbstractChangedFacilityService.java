@@ -1,8 +1,10 @@
 package gov.ca.cwds.jobs.cals.facility;
 
 import gov.ca.cwds.cals.service.dto.FacilityDto;
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,11 +18,16 @@ public abstract class AbstractChangedFacilityService implements
 
   @Override
   public ChangedFacilityDto loadEntity(ChangedEntityIdentifier identifier) {
+    return loadEntity(identifier, this::loadEntityById);
+  }
+
+  protected ChangedFacilityDto loadEntity(ChangedEntityIdentifier identifier,
+      Function<ChangedEntityIdentifier, FacilityDto> facilityLoader) {
     String facilityId = null;
     try {
       facilityId = identifier.getId();
       LOG.debug("Loading entity by id {}", facilityId);
-      FacilityDto facilityDto = loadEntityById(identifier);
+      FacilityDto facilityDto = facilityLoader.apply(identifier);
       if (facilityDto == null) {
         LOG.error("Can't get facility by id {}", facilityId);
         throw new IllegalStateException("FacilityDTO must not be null!!!");
@@ -33,6 +40,11 @@ public abstract class AbstractChangedFacilityService implements
     }
   }
 
+  @Override
+  public ChangedFacilityDto createDeletedEntity(ChangedEntityIdentifier identifier) {
+    return new ChangedFacilityDto(identifier.getId(), RecordChangeOperation.D);
+  }
+
   protected abstract FacilityDto loadEntityById(ChangedEntityIdentifier identifier);
 
 }
@@ -2,9 +2,10 @@ package gov.ca.cwds.jobs.cals.facility;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
 import gov.ca.cwds.jobs.common.configuration.MultiThreadConfiguration;
+import gov.ca.cwds.jobs.common.configuration.SavePointStorageConfiguration;
 import gov.ca.cwds.jobs.common.elastic.ElasticsearchConfiguration;
-import io.dropwizard.db.DataSourceFactory;
 import javax.validation.Valid;
 
 /**
@@ -12,19 +13,22 @@ import javax.validation.Valid;
  */
 public class BaseFacilityJobConfiguration implements JobConfiguration {
 
-  private DataSourceFactory calsnsDataSourceFactory;
+  private JobDataSourceFactory calsnsDataSourceFactory;
 
   private MultiThreadConfiguration multiThread;
 
   @Valid
   private ElasticsearchConfiguration elasticsearch;
 
+  @Valid
+  private SavePointStorageConfiguration savePointStorage;
+
   @JsonProperty
-  public DataSourceFactory getCalsnsDataSourceFactory() {
+  public JobDataSourceFactory getCalsnsDataSourceFactory() {
     return calsnsDataSourceFactory;
   }
 
-  public void setCalsnsDataSourceFactory(DataSourceFactory calsnsDataSourceFactory) {
+  public void setCalsnsDataSourceFactory(JobDataSourceFactory calsnsDataSourceFactory) {
     this.calsnsDataSourceFactory = calsnsDataSourceFactory;
   }
 
@@ -44,4 +48,13 @@ public class BaseFacilityJobConfiguration implements JobConfiguration {
   public void setElasticsearch(ElasticsearchConfiguration elasticsearch) {
     this.elasticsearch = elasticsearch;
   }
+
+  @JsonProperty
+  public SavePointStorageConfiguration getSavePointStorage() {
+    return savePointStorage;
+  }
+
+  public void setSavePointStorage(SavePointStorageConfiguration savePointStorage) {
+    this.savePointStorage = savePointStorage;
+  }
 }
@@ -16,6 +16,8 @@ public class ChangedFacilityDto extends BaseDTO implements ChangedDTO<FacilityDt
 
   private FacilityDto facilityDto;
 
+  private String id;
+
   private RecordChangeOperation recordChangeOperation;
 
   public ChangedFacilityDto(FacilityDto facilityDto, RecordChangeOperation recordChangeOperation) {
@@ -23,6 +25,14 @@ public class ChangedFacilityDto extends BaseDTO implements ChangedDTO<FacilityDt
     this.recordChangeOperation = recordChangeOperation;
   }
 
+  /**
+   * Deleted facility, only identifier is known.
+   */
+  public ChangedFacilityDto(String id, RecordChangeOperation recordChangeOperation) {
+    this.id = id;
+    this.recordChangeOperation = recordChangeOperation;
+  }
+
   public ChangedFacilityDto() {
     //default constructor
   }
@@ -39,7 +49,7 @@ public class ChangedFacilityDto extends BaseDTO implements ChangedDTO<FacilityDt
 
   @Override
   public String getId() {
-    return facilityDto.getId();
+    return facilityDto != null ? facilityDto.getId() : id;
   }
 
   @Override
@@ -52,11 +62,11 @@ public class ChangedFacilityDto extends BaseDTO implements ChangedDTO<FacilityDt
     }
     ChangedFacilityDto that = (ChangedFacilityDto) o;
     return recordChangeOperation == that.recordChangeOperation && Objects
-        .equals(facilityDto, that.facilityDto);
+        .equals(facilityDto, that.facilityDto) && Objects.equals(id, that.id);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(facilityDto, recordChangeOperation);
+    return Objects.hash(facilityDto, id, recordChangeOperation);
   }
 }
@@ -5,6 +5,7 @@ import gov.ca.cwds.DataSourceName;
 import gov.ca.cwds.cals.inject.CalsnsSessionFactory;
 import gov.ca.cwds.cals.persistence.model.calsns.dictionaries.LicenseStatusType;
 import gov.ca.cwds.jobs.common.inject.DataAccessModule;
+import gov.ca.cwds.jobs.common.util.SessionFactoryParameters;
 import io.dropwizard.db.DataSourceFactory;
 import org.hibernate.SessionFactory;
 
@@ -20,7 +21,8 @@ public class NsDataAccessModule extends DataAccessModule {
       ).build();
 
   public NsDataAccessModule(DataSourceFactory dataSourceFactory) {
-    super(dataSourceFactory, DataSourceName.NS.name(), nsEntityClasses);
+    super(new SessionFactoryParameters(dataSourceFactory, DataSourceName.NS.name(),
+        nsEntityClasses).withDictionaryClasses(nsEntityClasses));
   }
 
   @Override
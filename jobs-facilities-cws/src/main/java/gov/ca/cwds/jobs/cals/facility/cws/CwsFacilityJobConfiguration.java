@@ -2,21 +2,21 @@ package gov.ca.cwds.jobs.cals.facility.cws;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.ca.cwds.jobs.cals.facility.BaseFacilityJobConfiguration;
-import io.dropwizard.db.DataSourceFactory;
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
 
 /**
  * Created by Alexander Serbin on 1/18/2018.
  */
 public class CwsFacilityJobConfiguration extends BaseFacilityJobConfiguration {
 
-  private DataSourceFactory cmsDataSourceFactory;
+  private JobDataSourceFactory cmsDataSourceFactory;
 
   @JsonProperty
-  public DataSourceFactory getCmsDataSourceFactory() {
+  public JobDataSourceFactory getCmsDataSourceFactory() {
     return cmsDataSourceFactory;
   }
 
-  public void setCmsDataSourceFactory(DataSourceFactory cmsDataSourceFactory) {
+  public void setCmsDataSourceFactory(JobDataSourceFactory cmsDataSourceFactory) {
     this.cmsDataSourceFactory = cmsDataSourceFactory;
   }
 
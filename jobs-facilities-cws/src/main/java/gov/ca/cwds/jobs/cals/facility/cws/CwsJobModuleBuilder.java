@@ -10,7 +10,10 @@ import gov.ca.cwds.jobs.common.inject.JobModule;
 import gov.ca.cwds.jobs.common.inject.MultiThreadModule;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.mode.LocalDateTimeJobModeService;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
 import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePointContainerService;
+import gov.ca.cwds.jobs.common.savepoint.SavePointJournal;
+import gov.ca.cwds.jobs.common.savepoint.SavePointStore;
 
 /**
  * Created by Alexander Serbin on 11/20/2018
@@ -18,8 +21,7 @@ import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePointContainerService;
 public class CwsJobModuleBuilder implements JobModuleBuilder {
 
   @Override
-  public JobModule buildJobModule(String[] args, boolean elasticSearchModule) {
-    JobOptions jobOptions = JobOptions.parseCommandLine(args);
+  public JobModule buildJobModule(JobOptions jobOptions, boolean elasticSearchModule) {
     CwsFacilityJobConfiguration jobConfiguration = JobConfiguration
         .getJobsConfiguration(CwsFacilityJobConfiguration.class,
             jobOptions.getConfigFileLocation());
@@ -27,7 +29,12 @@ public class CwsJobModuleBuilder implements JobModuleBuilder {
     ElasticsearchConfiguration elasticsearchConfiguration = jobConfiguration.getElasticsearch();
     elasticsearchConfiguration.setDocumentMapping("facility.mapping.json");
     elasticsearchConfiguration.setIndexSettings("facility.settings.json");
+    SavePointStore
+        .configure(jobConfiguration.getSavePointStorage(), elasticsearchConfiguration);
+    new SavePointJournal(jobOptions.getLastRunLoc()).rewind(jobOptions);
     JobMode jobMode = getCurrentJobMode(jobOptions.getLastRunLoc());
+    jobModule.setJobMode(jobMode);
+    jobModule.setReindexTarget(ReindexTarget.of(jobOptions, jobMode));
     if (elasticSearchModule) {
       jobModule.addModule(new ElasticSearchModule(elasticsearchConfiguration, jobMode,
           new LocalDateTimeSavePointContainerService(jobOptions.getLastRunLoc())));
@@ -9,7 +9,12 @@ public final class QueryConstants {
 
   public static final String DATE_AFTER = "dateAfter";
 
-  public static final String DATE_BEFORE = "dateBefore";
+  public static final String IDENTIFIER_AFTER = "identifierAfter";
+
+  public static final String IDENTIFIERS = "identifiers";
+
+  public static final String GET_PLACEMENT_HOMES_BY_IDENTIFIERS_QUERY =
+      "select home from PlacementHome home where home.identifier in (:" + IDENTIFIERS + ")";
 
   private static final String HOME_IDENTIFIER_FIELD_NAME = "home.identifier";
 
@@ -30,31 +35,28 @@ public final class QueryConstants {
     // utility class
   }
 
+  /**
+   * Keyset condition on (timestamp, identifier). Redundant leading "timestamp >=" lets DB2 use
+   * the timestamp index as a range start.
+   */
+  private static String keysetCondition(String timestampFieldName) {
+    return AND + timestampFieldName + " >= :" + DATE_AFTER
+        + AND + "(" + timestampFieldName + " > :" + DATE_AFTER
+        + " or " + HOME_IDENTIFIER_FIELD_NAME + " > :" + IDENTIFIER_AFTER + ")";
+  }
+
   public static class InitialMode {
 
     @SuppressWarnings("squid:S3008") // the name TIMESTAMP_FIELD_NAME matches the regular expression '^[A-Z][A-Z0-9]*(_[A-Z0-9]+)*$'
     private static String TIMESTAMP_FIELD_NAME = "home.lastUpdatedTime";
 
-    public static final String GET_IDENTIFIERS_AFTER_TIMESTAMP_QUERY =
-        "select new CwsChangedIdentifier(home.identifier, "
-            + InitialMode.TIMESTAMP_FIELD_NAME + ") " +
-            SHARED_PART + AND + InitialMode.TIMESTAMP_FIELD_NAME + " > :" + DATE_AFTER +
-            " and home.recordChangeOperation != '" + RecordChangeOperation.D.name() + "'" +
-            ORDER_BY + InitialMode.TIMESTAMP_FIELD_NAME + ", " + HOME_IDENTIFIER_FIELD_NAME;
-
-    public static final String GET_IDENTIFIERS_BETWEEN_TIMESTAMPS_QUERY =
+    public static final String GET_IDENTIFIERS_AFTER_KEY_QUERY =
         "select new CwsChangedIdentifier(home.identifier, "
             + InitialMode.TIMESTAMP_FIELD_NAME + ") " +
-            SHARED_PART + AND + InitialMode.TIMESTAMP_FIELD_NAME + " > :" + DATE_AFTER +
-            AND + InitialMode.TIMESTAMP_FIELD_NAME + " < :" + DATE_BEFORE +
+            SHARED_PART + keysetCondition(InitialMode.TIMESTAMP_FIELD_NAME) +
             " and home.recordChangeOperation != '" + RecordChangeOperation.D.name() + "'" +
             ORDER_BY + InitialMode.TIMESTAMP_FIELD_NAME + ", " + HOME_IDENTIFIER_FIELD_NAME;
 
-    public static final String GET_NEXT_SAVEPOINT_QUERY =
-        "select " + InitialMode.TIMESTAMP_FIELD_NAME + SHARED_PART
-            + AND + InitialMode.TIMESTAMP_FIELD_NAME + " > :" + DATE_AFTER +
-            ORDER_BY + InitialMode.TIMESTAMP_FIELD_NAME + ", " + HOME_IDENTIFIER_FIELD_NAME;
-
     private InitialMode() {
       // utility class
     }
@@ -65,23 +67,10 @@ public final class QueryConstants {
     @SuppressWarnings("squid:S3008") // the name TIMESTAMP_FIELD_NAME matches the regular expression '^[A-Z][A-Z0-9]*(_[A-Z0-9]+)*$'
     private static String TIMESTAMP_FIELD_NAME = "home.replicationLastUpdated";
 
-    public static final String GET_IDENTIFIERS_AFTER_TIMESTAMP_QUERY =
-        "select new CwsChangedIdentifier(home.identifier, home.recordChangeOperation,"
-            + IncrementalMode.TIMESTAMP_FIELD_NAME + ")" + SHARED_PART +
-            AND + IncrementalMode.TIMESTAMP_FIELD_NAME + " > :" + DATE_AFTER +
-            ORDER_BY
-            + IncrementalMode.TIMESTAMP_FIELD_NAME + ", " + HOME_IDENTIFIER_FIELD_NAME;
-
-    public static final String GET_IDENTIFIERS_BETWEEN_TIMESTAMPS_QUERY =
+    public static final String GET_IDENTIFIERS_AFTER_KEY_QUERY =
         "select new CwsChangedIdentifier(home.identifier, home.recordChangeOperation,"
             + IncrementalMode.TIMESTAMP_FIELD_NAME + ")" + SHARED_PART +
-            AND + IncrementalMode.TIMESTAMP_FIELD_NAME + " > :" + DATE_AFTER +
-            AND + IncrementalMode.TIMESTAMP_FIELD_NAME + " < :" + DATE_BEFORE +
-            ORDER_BY + IncrementalMode.TIMESTAMP_FIELD_NAME + ", " + HOME_IDENTIFIER_FIELD_NAME;
-
-    public static final String GET_NEXT_SAVEPOINT_QUERY =
-        "select " + IncrementalMode.TIMESTAMP_FIELD_NAME + SHARED_PART
-            + AND + IncrementalMode.TIMESTAMP_FIELD_NAME + " > :" + DATE_AFTER +
+            keysetCondition(IncrementalMode.TIMESTAMP_FIELD_NAME) +
             ORDER_BY + IncrementalMode.TIMESTAMP_FIELD_NAME + ", " + HOME_IDENTIFIER_FIELD_NAME;
 
     private IncrementalMode() {
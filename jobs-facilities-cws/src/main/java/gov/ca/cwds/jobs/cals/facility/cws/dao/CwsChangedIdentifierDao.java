@@ -5,16 +5,18 @@ import gov.ca.cwds.data.BaseDaoImpl;
 import gov.ca.cwds.inject.CmsSessionFactory;
 import gov.ca.cwds.jobs.cals.facility.cws.QueryConstants;
 import gov.ca.cwds.jobs.cals.facility.cws.identifier.CwsChangedIdentifier;
-import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsGetIdentifiersAfterTimestampQuery;
-import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsGetIdentifiersBetweenTimestampsQuery;
-import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsGetNextSavePointQuery;
+import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsGetIdentifiersAfterKeyQuery;
 import gov.ca.cwds.jobs.common.batch.JobBatchSize;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.LocalDateTimeIdentifiers;
+import gov.ca.cwds.jobs.common.inject.FetchSize;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import gov.ca.cwds.jobs.common.util.ScrollableResultsUtil;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
 import org.hibernate.SessionFactory;
+import org.hibernate.type.StringType;
 
 /**
  * @author CWDS TPT-2
@@ -26,52 +28,42 @@ public class CwsChangedIdentifierDao extends BaseDaoImpl<CwsChangedIdentifier> {
   private int batchSize;
 
   @Inject
-  @CwsGetNextSavePointQuery
-  private String getNextSavePointQuery;
+  @FetchSize
+  private int fetchSize;
 
   @Inject
-  @CwsGetIdentifiersBetweenTimestampsQuery
-  private String cwsGetIdentifiersBetweenTimestampsQuery;
-
-  @Inject
-  @CwsGetIdentifiersAfterTimestampQuery
-  private String cwsGetIdentifierAfterTimestampQuery;
+  @CwsGetIdentifiersAfterKeyQuery
+  private String cwsGetIdentifiersAfterKeyQuery;
 
   @Inject
   public CwsChangedIdentifierDao(@CmsSessionFactory SessionFactory sessionFactory) {
     super(sessionFactory);
   }
 
-  public Optional<LocalDateTime> getNextSavePoint(LocalDateTime timestamp) {
-    return currentSession().createQuery(getNextSavePointQuery, LocalDateTime.class)
-        .setParameter(QueryConstants.DATE_AFTER, timestamp)
-        .setMaxResults(1)
-        .setFirstResult(batchSize - 1)
-        .setReadOnly(true).uniqueResultOptional();
-  }
-
-  public Optional<LocalDateTime> getFirstChangedTimestampAfterSavepoint(
-      LocalDateTime timestamp) {
-    return currentSession().createQuery(getNextSavePointQuery, LocalDateTime.class)
-        .setParameter(QueryConstants.DATE_AFTER, timestamp)
-        .setMaxResults(1)
-        .setFirstResult(0)
-        .setReadOnly(true).uniqueResultOptional();
-  }
-
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiers(
-      LocalDateTime afterTimestamp, LocalDateTime beforeTimestamp) {
-    return currentSession().createQuery(cwsGetIdentifiersBetweenTimestampsQuery)
-        .setParameter(QueryConstants.DATE_AFTER, afterTimestamp)
-        .setParameter(QueryConstants.DATE_BEFORE, beforeTimestamp)
-        .setReadOnly(true).list();
+  /**
+   * Returns next batch of identifiers after (timestamp, identifier) key. Empty identifier means
+   * that all the records with given timestamp are already processed.
+   */
+  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiersAfter(
+      LocalDateTime afterTimestamp, String afterIdentifier) {
+    return ScrollableResultsUtil.collect(
+        currentSession().createQuery(cwsGetIdentifiersAfterKeyQuery)
+            .setParameter(QueryConstants.DATE_AFTER, afterTimestamp)
+            .setParameter(QueryConstants.IDENTIFIER_AFTER, afterIdentifier, StringType.INSTANCE)
+            .setMaxResults(batchSize), fetchSize, new LocalDateTimeIdentifiers(batchSize));
   }
 
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiers(
-      LocalDateTime afterTimestamp) {
-    return currentSession().createQuery(cwsGetIdentifierAfterTimestampQuery)
-        .setParameter(QueryConstants.DATE_AFTER, afterTimestamp)
-        .setReadOnly(true).list();
+  /**
+   * Streams all the identifiers after (timestamp, identifier) key through one cursor.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEachIdentifierAfter(LocalDateTime afterTimestamp, String afterIdentifier,
+      Consumer<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> consumer) {
+    ScrollableResultsUtil.forEach(
+        currentSession().createQuery(cwsGetIdentifiersAfterKeyQuery)
+            .setParameter(QueryConstants.DATE_AFTER, afterTimestamp)
+            .setParameter(QueryConstants.IDENTIFIER_AFTER, afterIdentifier, StringType.INSTANCE),
+        fetchSize, consumer);
   }
 
 }
@@ -0,0 +1,34 @@
+package gov.ca.cwds.jobs.cals.facility.cws.dao;
+
+import com.google.inject.Inject;
+import gov.ca.cwds.data.BaseDaoImpl;
+import gov.ca.cwds.data.legacy.cms.entity.PlacementHome;
+import gov.ca.cwds.inject.CmsSessionFactory;
+import gov.ca.cwds.jobs.cals.facility.cws.QueryConstants;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.SessionFactory;
+
+/**
+ * @author CWDS TPT-2
+ */
+public class CwsPlacementHomeDao extends BaseDaoImpl<PlacementHome> {
+
+  @Inject
+  public CwsPlacementHomeDao(@CmsSessionFactory SessionFactory sessionFactory) {
+    super(sessionFactory);
+  }
+
+  /**
+   * Reads placement homes of the chunk with one IN query. Loaded homes stay in the current
+   * session, so their lazy associations are initialized by Hibernate batch fetching for the
+   * whole chunk instead of one home at a time.
+   */
+  public List<PlacementHome> findByIdentifiers(Collection<String> identifiers) {
+    return currentSession()
+        .createQuery(QueryConstants.GET_PLACEMENT_HOMES_BY_IDENTIFIERS_QUERY, PlacementHome.class)
+        .setParameterList(QueryConstants.IDENTIFIERS, identifiers)
+        .list();
+  }
+
+}
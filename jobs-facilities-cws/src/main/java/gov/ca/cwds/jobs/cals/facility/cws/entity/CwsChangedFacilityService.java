@@ -1,12 +1,19 @@
 package gov.ca.cwds.jobs.cals.facility.cws.entity;
 
+import static gov.ca.cwds.cals.Constants.UnitOfWork.CMS;
+
 import com.google.inject.Inject;
 import gov.ca.cwds.cals.service.CwsFacilityService;
 import gov.ca.cwds.cals.service.dto.FacilityDto;
 import gov.ca.cwds.jobs.cals.facility.AbstractChangedFacilityService;
 import gov.ca.cwds.jobs.cals.facility.ChangedFacilityDto;
+import gov.ca.cwds.jobs.cals.facility.cws.dao.CwsPlacementHomeDao;
+import gov.ca.cwds.jobs.cals.facility.cws.inject.ChunkCwsFacilityService;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import io.dropwizard.hibernate.UnitOfWork;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * @author CWDS TPT-2
@@ -18,8 +25,32 @@ public class CwsChangedFacilityService extends AbstractChangedFacilityService im
   @Inject
   private CwsFacilityService cwsFacilityService;
 
+  @Inject
+  @ChunkCwsFacilityService
+  private CwsFacilityService chunkCwsFacilityService;
+
+  @Inject
+  private CwsPlacementHomeDao placementHomeDao;
+
   @Override
   protected FacilityDto loadEntityById(ChangedEntityIdentifier identifier) {
     return cwsFacilityService.loadFacilityFromCwsCms(identifier.getId());
   }
+
+  /**
+   * Loads the chunk in one session. Placement homes are read with one IN query first, then
+   * child collections of all homes in the session are initialized by batch fetching while the
+   * DTOs are assembled. The session is read-only, so no snapshots are kept for dirty checking.
+   */
+  @Override
+  @UnitOfWork(value = CMS, readOnly = true)
+  public List<ChangedFacilityDto> loadEntities(List<ChangedEntityIdentifier> identifiers) {
+    placementHomeDao.findByIdentifiers(
+        identifiers.stream().map(ChangedEntityIdentifier::getId).collect(Collectors.toSet()));
+    return identifiers.stream()
+        .map(identifier -> loadEntity(identifier,
+            id -> chunkCwsFacilityService.loadFacilityFromCwsCms(id.getId())))
+        .collect(Collectors.toList());
+  }
+
 }
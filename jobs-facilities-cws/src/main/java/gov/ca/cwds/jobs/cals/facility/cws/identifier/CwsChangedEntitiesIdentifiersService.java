@@ -4,56 +4,34 @@ import static gov.ca.cwds.cals.Constants.UnitOfWork.CMS;
 
 import com.google.inject.Inject;
 import gov.ca.cwds.jobs.cals.facility.cws.dao.CwsChangedIdentifierDao;
-import gov.ca.cwds.jobs.common.identifier.ChangedEntitiesIdentifiersService;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
-import gov.ca.cwds.jobs.common.savepoint.LocalDateTimeSavePoint;
+import gov.ca.cwds.jobs.common.identifier.SnapshotChangedEntitiesIdentifiersService;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
 import io.dropwizard.hibernate.UnitOfWork;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Created by Alexander Serbin on 3/6/2018.
  */
 public class CwsChangedEntitiesIdentifiersService
-    implements ChangedEntitiesIdentifiersService<LocalDateTime> {
+    implements SnapshotChangedEntitiesIdentifiersService<LocalDateTime> {
 
   @Inject private CwsChangedIdentifierDao dao;
 
   @Override
-  @UnitOfWork(CMS)
-  public Optional<TimestampSavePoint<LocalDateTime>> getNextSavePoint(
-      TimestampSavePoint<LocalDateTime> previousSavePoint) {
-    return dao.getNextSavePoint(previousSavePoint.getTimestamp()).map(
-        LocalDateTimeSavePoint::new);
-  }
-
-
-  @Override
-  @UnitOfWork(CMS)
-  public Optional<TimestampSavePoint<LocalDateTime>> getFirstChangedTimestampAfterSavepoint(
+  @UnitOfWork(value = CMS, readOnly = true)
+  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiersAfter(
       TimestampSavePoint<LocalDateTime> savePoint) {
-    return dao.getFirstChangedTimestampAfterSavepoint(savePoint.getTimestamp())
-        .map(LocalDateTimeSavePoint::new);
+    return dao.getIdentifiersAfter(savePoint.getTimestamp(), savePoint.getIdentifier());
   }
 
   @Override
-  @UnitOfWork(CMS)
-  public List<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> getIdentifiers(
-      Optional<TimestampSavePoint<LocalDateTime>> previousTimestamp,
-      Optional<TimestampSavePoint<LocalDateTime>> nextTimestamp) {
-    if (previousTimestamp.isPresent()) {
-      if (nextTimestamp.isPresent()) {
-        return dao.getIdentifiers(previousTimestamp.get().getTimestamp(),
-            nextTimestamp.get().getTimestamp());
-      } else {
-        return dao.getIdentifiers(previousTimestamp.get().getTimestamp());
-      }
-    } else {
-      return Collections.emptyList();
-    }
+  @UnitOfWork(value = CMS, readOnly = true)
+  public void forEachIdentifierAfter(TimestampSavePoint<LocalDateTime> savePoint,
+      Consumer<ChangedEntityIdentifier<TimestampSavePoint<LocalDateTime>>> consumer) {
+    dao.forEachIdentifierAfter(savePoint.getTimestamp(), savePoint.getIdentifier(), consumer);
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package gov.ca.cwds.jobs.cals.facility.cws.inject;
+
+import com.google.inject.BindingAnnotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * CwsFacilityService without UnitOfWork proxy, it works in the session opened by the caller
+ * for the whole chunk of facilities.
+ *
+ * @author CWDS TPT-2
+ */
+@BindingAnnotation
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ChunkCwsFacilityService {
+
+}
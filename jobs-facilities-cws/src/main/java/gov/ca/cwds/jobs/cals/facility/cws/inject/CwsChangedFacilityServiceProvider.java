@@ -0,0 +1,27 @@
+package gov.ca.cwds.jobs.cals.facility.cws.inject;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import gov.ca.cwds.cals.inject.AbstractInjectProvider;
+import gov.ca.cwds.jobs.cals.facility.cws.entity.CwsChangedFacilityService;
+import io.dropwizard.hibernate.UnitOfWorkAwareProxyFactory;
+
+/**
+ * @author CWDS TPT-2
+ */
+
+public class CwsChangedFacilityServiceProvider extends
+    AbstractInjectProvider<CwsChangedFacilityService> {
+
+  @Inject
+  public CwsChangedFacilityServiceProvider(Injector injector,
+      UnitOfWorkAwareProxyFactory unitOfWorkAwareProxyFactory) {
+    super(injector, unitOfWorkAwareProxyFactory);
+  }
+
+  @Override
+  public Class<CwsChangedFacilityService> getServiceClass() {
+    return CwsChangedFacilityService.class;
+  }
+
+}
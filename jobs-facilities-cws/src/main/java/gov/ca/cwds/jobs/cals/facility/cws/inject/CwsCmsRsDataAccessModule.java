@@ -53,8 +53,10 @@ import gov.ca.cwds.data.legacy.cms.entity.syscodes.VisitType;
 import gov.ca.cwds.inject.CmsSessionFactory;
 import gov.ca.cwds.jobs.cals.facility.ReplicationPlacementHome;
 import gov.ca.cwds.jobs.cals.facility.cws.dao.CwsChangedIdentifierDao;
+import gov.ca.cwds.jobs.cals.facility.cws.dao.CwsPlacementHomeDao;
 import gov.ca.cwds.jobs.cals.facility.cws.identifier.CwsChangedIdentifier;
 import gov.ca.cwds.jobs.common.inject.DataAccessModule;
+import gov.ca.cwds.jobs.common.util.SessionFactoryParameters;
 import io.dropwizard.db.DataSourceFactory;
 import org.hibernate.SessionFactory;
 
@@ -111,13 +113,35 @@ public class CwsCmsRsDataAccessModule extends DataAccessModule {
           , SecondarySubstituteCareProviderInfo.class
       ).build();
 
-  public CwsCmsRsDataAccessModule(DataSourceFactory dataSourceFactory) {
-    super(dataSourceFactory, DataSourceName.CWSRS.name(), cwsrsEntityClasses);
+  public static final ImmutableList<Class<?>> cwsrsDictionaryClasses = ImmutableList.<Class<?>>builder()
+      .add(
+          SystemCode.class
+          , FacilityType.class
+          , County.class
+          , VisitType.class
+          , State.class
+          , LicenseStatus.class
+          , NameType.class
+      ).build();
+
+  public static final ImmutableList<Class<?>> cwsrsSharedEntityClasses = ImmutableList.<Class<?>>builder()
+      .add(
+          StaffPerson.class
+          , CountyLicenseCase.class
+      ).build();
+
+  public CwsCmsRsDataAccessModule(DataSourceFactory dataSourceFactory, int readerThreadsCount) {
+    super(new SessionFactoryParameters(dataSourceFactory, DataSourceName.CWSRS.name(),
+        cwsrsEntityClasses)
+        .withDictionaryClasses(cwsrsDictionaryClasses)
+        .withSharedEntityClasses(cwsrsSharedEntityClasses)
+        .withReaderThreadsCount(readerThreadsCount));
   }
 
   @Override
   protected void configure() {
     bind(CwsChangedIdentifierDao.class);
+    bind(CwsPlacementHomeDao.class);
     bind(CountiesDao.class);
     bind(ClientDao.class);
   }
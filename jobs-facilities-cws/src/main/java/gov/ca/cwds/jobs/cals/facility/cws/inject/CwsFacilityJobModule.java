@@ -2,7 +2,9 @@ package gov.ca.cwds.jobs.cals.facility.cws.inject;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
+import com.google.inject.Injector;
 import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import gov.ca.cwds.cals.Constants;
 import gov.ca.cwds.cals.Constants.UnitOfWork;
@@ -27,21 +29,23 @@ import gov.ca.cwds.jobs.cals.facility.BaseFacilityJobModule;
 import gov.ca.cwds.jobs.cals.facility.ChangedFacilityDto;
 import gov.ca.cwds.jobs.cals.facility.cws.CwsFacilityJob;
 import gov.ca.cwds.jobs.cals.facility.cws.CwsFacilityJobConfiguration;
-import gov.ca.cwds.jobs.cals.facility.cws.QueryConstants;
 import gov.ca.cwds.jobs.cals.facility.cws.QueryConstants.IncrementalMode;
 import gov.ca.cwds.jobs.cals.facility.cws.QueryConstants.InitialMode;
-import gov.ca.cwds.jobs.cals.facility.cws.entity.CwsChangedFacilityService;
 import gov.ca.cwds.jobs.cals.facility.cws.savepoint.CwsTimestampSavePointService;
 import gov.ca.cwds.jobs.common.core.Job;
 import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
 import gov.ca.cwds.jobs.common.exception.JobsException;
-import gov.ca.cwds.jobs.common.identifier.ChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.identifier.KeysetChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.common.identifier.SnapshotChangedEntitiesIdentifiersService;
 import gov.ca.cwds.jobs.common.inject.BaseContainerService;
 import gov.ca.cwds.jobs.common.inject.PrimaryContainerService;
 import gov.ca.cwds.jobs.common.inject.PrimaryFinalizer;
 import gov.ca.cwds.jobs.common.inject.SecondaryFinalizer;
+import gov.ca.cwds.jobs.common.inject.TimeWindowReindex;
 import gov.ca.cwds.jobs.common.iterator.JobBatchIterator;
-import gov.ca.cwds.jobs.common.iterator.LocalDateTimeJobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.LocalDateTimeKeysetJobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.LocalDateTimeSnapshotJobBatchIterator;
+import gov.ca.cwds.jobs.common.iterator.LocalDateTimeWindowJobBatchIterator;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.mode.JobModeFinalizer;
 import gov.ca.cwds.jobs.common.mode.JobModeService;
@@ -88,17 +92,19 @@ public class CwsFacilityJobModule extends BaseFacilityJobModule<CwsFacilityJobCo
     }).toProvider(CwsTimestampSavePointServiceProvider.class);
     bind(CwsTimestampSavePointService.class).toProvider(CwsTimestampSavePointServiceProvider.class);
     bind(
-        new TypeLiteral<ChangedEntitiesIdentifiersService<LocalDateTime>>() {
+        new TypeLiteral<KeysetChangedEntitiesIdentifiersService<LocalDateTime>>() {
+        }).toProvider(CwsChangedIdentifiersServiceProvider.class);
+    bind(
+        new TypeLiteral<SnapshotChangedEntitiesIdentifiersService<LocalDateTime>>() {
         }).toProvider(CwsChangedIdentifiersServiceProvider.class);
     bind(CwsFacilityService.class).toProvider(CwsFacilityServiceProvider.class);
     bind(new TypeLiteral<ChangedEntityService<ChangedFacilityDto>>() {
-    }).to(CwsChangedFacilityService.class);
+    }).toProvider(CwsChangedFacilityServiceProvider.class);
     bind(CountyOwnershipMapper.class).to(CountyOwnershipMapperImpl.class);
     bind(ExternalInterfaceMapper.class).to(ExternalInterfaceMapperImpl.class);
-    bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
-    }).to(LocalDateTimeJobBatchIterator.class);
 
-    install(new CwsCmsRsDataAccessModule(getJobConfiguration().getCmsDataSourceFactory()));
+    install(new CwsCmsRsDataAccessModule(getJobConfiguration().getCmsDataSourceFactory(),
+        getJobConfiguration().getMultiThread().getReaderThreadsCount()));
   }
 
   private void bindJobModeImplementor() {
@@ -109,22 +115,24 @@ public class CwsFacilityJobModule extends BaseFacilityJobModule<CwsFacilityJobCo
             .toProvider(CwsInitialModeFinalizerProvider.class);
         bind(JobModeFinalizer.class).annotatedWith(PrimaryFinalizer.class).toProvider(
             getPrimaryJobFinalizerProviderClass());
-        bindConstant().annotatedWith(CwsGetIdentifiersAfterTimestampQuery.class)
-            .to(QueryConstants.InitialMode.GET_IDENTIFIERS_AFTER_TIMESTAMP_QUERY);
-        bindConstant().annotatedWith(CwsGetIdentifiersBetweenTimestampsQuery.class)
-            .to(QueryConstants.InitialMode.GET_IDENTIFIERS_BETWEEN_TIMESTAMPS_QUERY);
-        bindConstant().annotatedWith(CwsGetNextSavePointQuery.class)
-            .to(InitialMode.GET_NEXT_SAVEPOINT_QUERY);
+        bindConstant().annotatedWith(CwsGetIdentifiersAfterKeyQuery.class)
+            .to(InitialMode.GET_IDENTIFIERS_AFTER_KEY_QUERY);
+        bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
+        }).to(LocalDateTimeSnapshotJobBatchIterator.class);
         break;
       case INCREMENTAL_LOAD:
         bind(JobModeFinalizer.class).annotatedWith(PrimaryFinalizer.class).toInstance(() -> {
         });
-        bindConstant().annotatedWith(CwsGetIdentifiersAfterTimestampQuery.class)
-            .to(IncrementalMode.GET_IDENTIFIERS_AFTER_TIMESTAMP_QUERY);
-        bindConstant().annotatedWith(CwsGetIdentifiersBetweenTimestampsQuery.class)
-            .to(IncrementalMode.GET_IDENTIFIERS_BETWEEN_TIMESTAMPS_QUERY);
-        bindConstant().annotatedWith(CwsGetNextSavePointQuery.class)
-            .to(IncrementalMode.GET_NEXT_SAVEPOINT_QUERY);
+        bindConstant().annotatedWith(CwsGetIdentifiersAfterKeyQuery.class)
+            .to(IncrementalMode.GET_IDENTIFIERS_AFTER_KEY_QUERY);
+        bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
+        }).to(LocalDateTimeKeysetJobBatchIterator.class);
+        bind(new TypeLiteral<JobBatchIterator<TimestampSavePoint<LocalDateTime>>>() {
+        }).annotatedWith(TimeWindowReindex.class).to(LocalDateTimeWindowJobBatchIterator.class);
+        bind(
+            new TypeLiteral<KeysetChangedEntitiesIdentifiersService<LocalDateTime>>() {
+            }).annotatedWith(TimeWindowReindex.class)
+            .toProvider(CwsChangedIdentifiersServiceProvider.class);
         break;
       default:
         throw new IllegalStateException(String.format("Unknown job mode %s", getJobMode()));
@@ -163,6 +171,7 @@ public class CwsFacilityJobModule extends BaseFacilityJobModule<CwsFacilityJobCo
   }
 
   @Provides
+  @Singleton
   public LegacyDictionariesCache provideLegacyDictionariesCache(
       CountiesDao countiesDao,
       StateDao stateDao,
@@ -176,6 +185,14 @@ public class CwsFacilityJobModule extends BaseFacilityJobModule<CwsFacilityJobCo
         .build();
   }
 
+  @Provides
+  @ChunkCwsFacilityService
+  public CwsFacilityService provideChunkCwsFacilityService(Injector injector) {
+    CwsFacilityService cwsFacilityService = new CwsFacilityService();
+    injector.injectMembers(cwsFacilityService);
+    return cwsFacilityService;
+  }
+
   static class SavePointContainerServiceDecorator extends
       IndexAwareSavePointContainerService<TimestampSavePoint<LocalDateTime>> {
 
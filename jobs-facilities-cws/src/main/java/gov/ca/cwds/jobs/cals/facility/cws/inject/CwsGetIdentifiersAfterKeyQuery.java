@@ -7,12 +7,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Created by Alexander Serbin on 3/12/2018.
+ * @author CWDS TPT-2
  */
 
 @BindingAnnotation
 @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
-public @interface CwsGetNextSavePointQuery {
+public @interface CwsGetIdentifiersAfterKeyQuery {
 
 }
@@ -16,7 +16,7 @@ public class CwsTimestampSavePointService extends LocalDateTimeSavePointService
   @Inject
   private FirstIncrementalSavePointDao dao;
 
-  @UnitOfWork(CMS)
+  @UnitOfWork(value = CMS, readOnly = true)
   public LocalDateTimeSavePoint findFirstIncrementalSavePoint() {
     return new LocalDateTimeSavePoint(dao.findMaxTimestamp());
   }
@@ -5,6 +5,7 @@ import static gov.ca.cwds.jobs.common.mode.JobMode.INCREMENTAL_LOAD;
 import static gov.ca.cwds.jobs.common.mode.JobMode.INITIAL_LOAD;
 import static gov.ca.cwds.test.support.DatabaseHelper.setUpDatabase;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -13,6 +14,7 @@ import gov.ca.cwds.jobs.cals.facility.ChangedFacilityDto;
 import gov.ca.cwds.jobs.cals.facility.FacilityTestWriter;
 import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsFacilityJobModule;
 import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsInitialModeFinalizerProvider;
+import gov.ca.cwds.jobs.common.RecordChangeOperation;
 import gov.ca.cwds.jobs.common.TestWriter;
 import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
 import gov.ca.cwds.jobs.common.configuration.JobOptions;
@@ -104,6 +106,14 @@ public class CwsFacilityJobTest {
         .filter(o -> facilityId.equals(((ChangedFacilityDto) o).getId())).count());
   }
 
+  private void assertFacilityDeleted(String facilityId) {
+    ChangedFacilityDto deletedFacility = (ChangedFacilityDto) TestWriter.getItems().stream()
+        .filter(o -> facilityId.equals(((ChangedFacilityDto) o).getId())).findAny()
+        .orElseThrow(AssertionError::new);
+    assertEquals(RecordChangeOperation.D, deletedFacility.getRecordChangeOperation());
+    assertNull(deletedFacility.getDTO());
+  }
+
   private void testIncrementalLoad()
       throws LiquibaseException, JSONException, JsonProcessingException {
     runJob(INCREMENTAL_LOAD);
@@ -115,8 +125,7 @@ public class CwsFacilityJobTest {
         CWSCMS_INCREMENTAL_LOAD_NEW_FACILITY_ID);
     assertFacility("fixtures/cwsrs_updated_facility.json",
         CWSCMS_INCREMENTAL_LOAD_UPDATED_FACILITY_ID);
-    assertFacility("fixtures/cwsrs_deleted_facility.json",
-        CWSCMS_INCREMENTAL_LOAD_DELETED_FACILITY_ID);
+    assertFacilityDeleted(CWSCMS_INCREMENTAL_LOAD_DELETED_FACILITY_ID);
   }
 
   private void testInitialLoad() throws IOException, JSONException {
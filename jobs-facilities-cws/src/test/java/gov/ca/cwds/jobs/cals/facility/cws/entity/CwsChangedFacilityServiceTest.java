@@ -0,0 +1,149 @@
+package gov.ca.cwds.jobs.cals.facility.cws.entity;
+
+import static gov.ca.cwds.test.support.DatabaseHelper.setUpDatabase;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import gov.ca.cwds.DataSourceName;
+import gov.ca.cwds.cals.inject.CalsnsSessionFactory;
+import gov.ca.cwds.inject.CmsSessionFactory;
+import gov.ca.cwds.jobs.cals.facility.ChangedFacilityDto;
+import gov.ca.cwds.jobs.cals.facility.FacilityTestWriter;
+import gov.ca.cwds.jobs.cals.facility.cws.CwsFacilityJobConfiguration;
+import gov.ca.cwds.jobs.cals.facility.cws.inject.CwsFacilityJobModule;
+import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
+import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.identifier.ReindexIdentifier;
+import gov.ca.cwds.jobs.common.inject.IndexName;
+import gov.ca.cwds.jobs.common.inject.JobModule;
+import gov.ca.cwds.jobs.common.inject.MultiThreadModule;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.utils.DataSourceFactoryUtils;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import liquibase.exception.LiquibaseException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares statements issued for the chunk loaded in one session with the per entity path.
+ */
+public class CwsChangedFacilityServiceTest {
+
+  private static final List<String> FACILITY_IDS =
+      Arrays.asList("3w6sOO50Ki", "2qiZOcd04Y", "3UGSdyX0Ki");
+
+  private Injector injector;
+
+  private SessionFactory cmsSessionFactory;
+
+  private ChangedEntityService<ChangedFacilityDto> changedFacilityService;
+
+  @Before
+  public void setUp() throws LiquibaseException {
+    CwsFacilityJobConfiguration configuration = getFacilityJobConfiguration();
+    DataSourceFactoryUtils.fixDatasourceFactory(configuration.getCmsDataSourceFactory());
+    DataSourceFactoryUtils.fixDatasourceFactory(configuration.getCalsnsDataSourceFactory());
+    setUpDatabase(configuration.getCalsnsDataSourceFactory(), DataSourceName.NS);
+    setUpDatabase(configuration.getCmsDataSourceFactory(), DataSourceName.CWSRS);
+
+    JobModule jobModule = new JobModule(Paths.get("build").toAbsolutePath().toString());
+    jobModule.addModules(new MultiThreadModule(configuration.getMultiThread()));
+    CwsFacilityJobModule cwsFacilityJobModule =
+        new TestCwsFacilityJobModule(getFacilityJobConfiguration());
+    cwsFacilityJobModule.setFacilityElasticWriterClass(FacilityTestWriter.class);
+    jobModule.addModule(cwsFacilityJobModule);
+    injector = Guice.createInjector(jobModule);
+    cmsSessionFactory = injector
+        .getInstance(Key.get(SessionFactory.class, CmsSessionFactory.class));
+    changedFacilityService = injector
+        .getInstance(Key.get(new TypeLiteral<ChangedEntityService<ChangedFacilityDto>>() {
+        }));
+    cmsSessionFactory.getStatistics().setStatisticsEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+    if (injector != null) {
+      cmsSessionFactory.close();
+      injector.getInstance(Key.get(SessionFactory.class, CalsnsSessionFactory.class)).close();
+    }
+  }
+
+  @Test
+  public void chunkIsLoadedWithFewerStatements() {
+    List<ChangedEntityIdentifier> identifiers = FACILITY_IDS.stream()
+        .map(ReindexIdentifier::new).collect(Collectors.toList());
+    // dictionaries are loaded once per job, not per chunk
+    changedFacilityService.loadEntity(identifiers.get(0));
+
+    List<ChangedFacilityDto> perEntity = new ArrayList<>();
+    long perEntityStatements = 0;
+    long maxEntityStatements = 0;
+    for (ChangedEntityIdentifier identifier : identifiers) {
+      resetStatistics();
+      perEntity.add(changedFacilityService.loadEntity(identifier));
+      long entityStatements = getStatistics().getPrepareStatementCount();
+      perEntityStatements += entityStatements;
+      maxEntityStatements = Math.max(maxEntityStatements, entityStatements);
+    }
+
+    resetStatistics();
+    List<ChangedFacilityDto> chunk = changedFacilityService.loadEntities(identifiers);
+    long chunkStatements = getStatistics().getPrepareStatementCount();
+
+    assertEquals(toIds(perEntity), toIds(chunk));
+    assertEquals(FACILITY_IDS, toIds(chunk));
+    assertEquals(1, getStatistics().getSessionOpenCount());
+    // set-based: the chunk costs as much as its most expensive facility plus the homes IN query,
+    // however many facilities it has
+    assertTrue(String.format("chunk issued %d statements, per entity path %d, at most %d per "
+            + "facility", chunkStatements, perEntityStatements, maxEntityStatements),
+        chunkStatements <= maxEntityStatements + 1);
+    assertTrue(chunkStatements < perEntityStatements);
+  }
+
+  private void resetStatistics() {
+    cmsSessionFactory.getCache().evictAllRegions();
+    getStatistics().clear();
+  }
+
+  private Statistics getStatistics() {
+    return cmsSessionFactory.getStatistics();
+  }
+
+  private static List<String> toIds(List<ChangedFacilityDto> facilities) {
+    return facilities.stream().map(ChangedFacilityDto::getId).collect(Collectors.toList());
+  }
+
+  private static CwsFacilityJobConfiguration getFacilityJobConfiguration() {
+    return JobConfiguration.getJobsConfiguration(CwsFacilityJobConfiguration.class,
+        Paths.get("src", "test", "resources", "cws-test-facility-job.yaml")
+            .normalize().toAbsolutePath().toString());
+  }
+
+  private static class TestCwsFacilityJobModule extends CwsFacilityJobModule {
+
+    TestCwsFacilityJobModule(CwsFacilityJobConfiguration jobConfiguration) {
+      super(jobConfiguration, JobMode.INCREMENTAL_LOAD);
+    }
+
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(IndexName.class).to("index_name");
+      super.configure();
+    }
+  }
+
+}
@@ -2,33 +2,44 @@ package gov.ca.cwds.jobs.cals.facility.lisfas;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gov.ca.cwds.jobs.cals.facility.BaseFacilityJobConfiguration;
-import io.dropwizard.db.DataSourceFactory;
+import gov.ca.cwds.jobs.common.configuration.JobDataSourceFactory;
 
 /**
  * Created by Alexander Serbin on 1/18/2018.
  */
 public class LisFacilityJobConfiguration extends BaseFacilityJobConfiguration {
 
-  private DataSourceFactory fasDataSourceFactory;
+  private JobDataSourceFactory fasDataSourceFactory;
 
-  private DataSourceFactory lisDataSourceFactory;
+  private JobDataSourceFactory lisDataSourceFactory;
+
+  private int initialLoadRangesCount = 1;
 
   @JsonProperty
-  public DataSourceFactory getFasDataSourceFactory() {
+  public JobDataSourceFactory getFasDataSourceFactory() {
     return fasDataSourceFactory;
   }
 
   @JsonProperty
-  public DataSourceFactory getLisDataSourceFactory() {
+  public JobDataSourceFactory getLisDataSourceFactory() {
     return lisDataSourceFactory;
   }
 
-  public void setFasDataSourceFactory(DataSourceFactory fasDataSourceFactory) {
+  public void setFasDataSourceFactory(JobDataSourceFactory fasDataSourceFactory) {
     this.fasDataSourceFactory = fasDataSourceFactory;
   }
 
-  public void setLisDataSourceFactory(DataSourceFactory lisDataSourceFactory) {
+  public void setLisDataSourceFactory(JobDataSourceFactory lisDataSourceFactory) {
     this.lisDataSourceFactory = lisDataSourceFactory;
   }
 
+  @JsonProperty
+  public int getInitialLoadRangesCount() {
+    return initialLoadRangesCount;
+  }
+
+  public void setInitialLoadRangesCount(int initialLoadRangesCount) {
+    this.initialLoadRangesCount = initialLoadRangesCount;
+  }
+
 }
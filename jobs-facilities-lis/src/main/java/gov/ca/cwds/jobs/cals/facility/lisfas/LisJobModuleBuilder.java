@@ -11,6 +11,9 @@ import gov.ca.cwds.jobs.common.inject.ElasticSearchModule;
 import gov.ca.cwds.jobs.common.inject.JobModule;
 import gov.ca.cwds.jobs.common.inject.MultiThreadModule;
 import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.common.reindex.ReindexTarget;
+import gov.ca.cwds.jobs.common.savepoint.SavePointJournal;
+import gov.ca.cwds.jobs.common.savepoint.SavePointStore;
 
 /**
  * Created by Alexander Serbin on 11/20/2018
@@ -18,8 +21,7 @@ import gov.ca.cwds.jobs.common.mode.JobMode;
 public class LisJobModuleBuilder implements JobModuleBuilder {
 
   @Override
-  public JobModule buildJobModule(String[] args, boolean elasticSearchModule) {
-    JobOptions jobOptions = JobOptions.parseCommandLine(args);
+  public JobModule buildJobModule(JobOptions jobOptions, boolean elasticSearchModule) {
     LisFacilityJobConfiguration jobConfiguration = JobConfiguration
         .getJobsConfiguration(LisFacilityJobConfiguration.class,
             jobOptions.getConfigFileLocation());
@@ -27,7 +29,12 @@ public class LisJobModuleBuilder implements JobModuleBuilder {
     ElasticsearchConfiguration elasticsearchConfiguration = jobConfiguration.getElasticsearch();
     elasticsearchConfiguration.setDocumentMapping("facility.mapping.json");
     elasticsearchConfiguration.setIndexSettings("facility.settings.json");
+    SavePointStore
+        .configure(jobConfiguration.getSavePointStorage(), elasticsearchConfiguration);
+    new SavePointJournal(jobOptions.getLastRunLoc()).rewind(jobOptions);
     JobMode jobMode = getCurrentJobMode(jobOptions.getLastRunLoc());
+    jobModule.setJobMode(jobMode);
+    jobModule.setReindexTarget(ReindexTarget.of(jobOptions, jobMode));
     if (elasticSearchModule) {
       jobModule.addModule(new ElasticSearchModule(elasticsearchConfiguration, jobMode,
           new LicenseNumberSavePointContainerService(jobOptions.getLastRunLoc())));
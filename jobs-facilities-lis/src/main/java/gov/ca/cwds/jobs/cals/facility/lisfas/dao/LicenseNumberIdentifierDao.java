@@ -4,10 +4,10 @@ import com.google.inject.Inject;
 import gov.ca.cwds.cals.inject.LisSessionFactory;
 import gov.ca.cwds.data.BaseDaoImpl;
 import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LicenseNumberIdentifier;
-import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LicenseNumberSavePoint;
-import gov.ca.cwds.jobs.common.batch.JobBatchSize;
-import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
-import java.util.List;
+import gov.ca.cwds.jobs.common.inject.FetchSize;
+import gov.ca.cwds.jobs.common.util.ScrollableResultsUtil;
+import java.util.Arrays;
+import java.util.Optional;
 import org.hibernate.SessionFactory;
 
 /**
@@ -16,21 +16,34 @@ import org.hibernate.SessionFactory;
 public class LicenseNumberIdentifierDao extends BaseDaoImpl<LicenseNumberIdentifier> {
 
   @Inject
-  @JobBatchSize
-  private int batchSize;
+  @FetchSize
+  private int fetchSize;
 
   @Inject
   public LicenseNumberIdentifierDao(@LisSessionFactory SessionFactory sessionFactory) {
     super(sessionFactory);
   }
 
-  @SuppressWarnings("unchecked")
-  public List<ChangedEntityIdentifier<LicenseNumberSavePoint>> getInitialLoadStream(
-      int licenseNumber) {
-    return currentSession()
-        .createNamedQuery(LicenseNumberIdentifier.LIS_INITIAL_LOAD_QUERY_NAME)
-        .setMaxResults(batchSize)
-        .setReadOnly(true).setParameter("facNbr", licenseNumber).list();
+  /**
+   * @return ordered license numbers in the (licenseNumberAfter, licenseNumberTo] range
+   */
+  public int[] getInitialLoadStream(int licenseNumberAfter, int licenseNumberTo,
+      int maxResults) {
+    int[] licenseNumbers = new int[maxResults];
+    int[] count = new int[1];
+    ScrollableResultsUtil.forEach(currentSession()
+            .createNamedQuery(LicenseNumberIdentifier.LIS_INITIAL_LOAD_QUERY_NAME)
+            .setParameter("facNbr", licenseNumberAfter)
+            .setParameter("facNbrTo", licenseNumberTo)
+            .setMaxResults(maxResults), fetchSize,
+        licenseNumber -> licenseNumbers[count[0]++] = ((Number) licenseNumber).intValue());
+    return count[0] == maxResults ? licenseNumbers : Arrays.copyOf(licenseNumbers, count[0]);
+  }
+
+  public int findMaxLicenseNumber() {
+    return Optional.ofNullable((Number) currentSession()
+        .createNamedQuery(LicenseNumberIdentifier.LIS_GET_MAX_LICENSE_NUMBER_QUERY_NAME)
+        .uniqueResult()).map(Number::intValue).orElse(0);
   }
 
 }
@@ -4,17 +4,30 @@ import com.google.inject.Inject;
 import gov.ca.cwds.cals.inject.LisSessionFactory;
 import gov.ca.cwds.data.BaseDaoImpl;
 import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LisTimestampIdentifier;
+import gov.ca.cwds.jobs.common.batch.JobBatchSize;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.inject.FetchSize;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
+import gov.ca.cwds.jobs.common.util.ScrollableResultsUtil;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import org.hibernate.SessionFactory;
+import org.hibernate.type.IntegerType;
 
 /**
  * @author CWDS CALS API Team
  */
 public class LisTimestampIdentifierDao extends BaseDaoImpl<LisTimestampIdentifier> {
 
+  @Inject
+  @JobBatchSize
+  private int batchSize;
+
+  @Inject
+  @FetchSize
+  private int fetchSize;
+
   @Inject
   public LisTimestampIdentifierDao(@LisSessionFactory SessionFactory sessionFactory) {
     super(sessionFactory);
@@ -22,10 +35,12 @@ public class LisTimestampIdentifierDao extends BaseDaoImpl<LisTimestampIdentifie
 
   @SuppressWarnings("unchecked")
   public List<ChangedEntityIdentifier<TimestampSavePoint<BigInteger>>> getIncrementalLoadStream(
-      final BigInteger dateAfter) {
-    return currentSession()
+      final BigInteger dateAfter, final Integer facNbrAfter) {
+    return ScrollableResultsUtil.collect(currentSession()
         .createNamedQuery(LisTimestampIdentifier.LIS_INCREMENTAL_LOAD_QUERY_NAME)
-        .setReadOnly(true).setParameter("dateAfter", dateAfter).list();
+        .setParameter("dateAfter", dateAfter)
+        .setParameter("facNbrAfter", facNbrAfter, IntegerType.INSTANCE)
+        .setMaxResults(batchSize), fetchSize, new ArrayList<>(batchSize));
   }
 
 }
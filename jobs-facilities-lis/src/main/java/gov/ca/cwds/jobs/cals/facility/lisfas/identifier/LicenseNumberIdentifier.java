@@ -18,6 +18,10 @@ import org.hibernate.annotations.NamedQuery;
     name = LicenseNumberIdentifier.LIS_GET_MAX_TIMESTAMP_QUERY_NAME,
     query = LicenseNumberIdentifier.LIS_GET_MAX_TIMESTAMP_SQL
 )
+@NamedQuery(
+    name = LicenseNumberIdentifier.LIS_GET_MAX_LICENSE_NUMBER_QUERY_NAME,
+    query = LicenseNumberIdentifier.LIS_GET_MAX_LICENSE_NUMBER_SQL
+)
 @Entity
 public class LicenseNumberIdentifier extends ChangedEntityIdentifier<LicenseNumberSavePoint> {
 
@@ -29,16 +33,24 @@ public class LicenseNumberIdentifier extends ChangedEntityIdentifier<LicenseNumb
       "select max(timestamp) as m "
           + SHARED_PART;
 
+  public static final String LIS_GET_MAX_LICENSE_NUMBER_SQL =
+      "select max(facNbr) as m "
+          + SHARED_PART;
+
   public static final String INITIAL_LOAD_SQL =
-      "select new LicenseNumberIdentifier(facNbr) "
-          + SHARED_PART + " and facNbr > :facNbr order by facNbr";
+      "select facNbr "
+          + SHARED_PART + " and facNbr > :facNbr and facNbr <= :facNbrTo order by facNbr";
 
   public static final String LIS_GET_MAX_TIMESTAMP_QUERY_NAME = "LicenseNumberIdentifier.lisGetMaxTimestamp";
+  public static final String LIS_GET_MAX_LICENSE_NUMBER_QUERY_NAME = "LicenseNumberIdentifier.lisGetMaxLicenseNumber";
   public static final String LIS_INITIAL_LOAD_QUERY_NAME = "LicenseNumberIdentifier.lisInitialLoadQuery";
 
   public LicenseNumberIdentifier(int id) {
-    super(String.valueOf(id), RecordChangeOperation.U,
-        new LicenseNumberSavePoint(id));
+    this(id, new LicenseNumberSavePoint(id));
+  }
+
+  public LicenseNumberIdentifier(int id, LicenseNumberSavePoint savePoint) {
+    super(String.valueOf(id), RecordChangeOperation.U, savePoint);
   }
 
   @Override
@@ -0,0 +1,39 @@
+package gov.ca.cwds.jobs.cals.facility.lisfas.identifier;
+
+import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LicenseNumberSavePoint;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read only list of identifiers backed by primitive license numbers. Identifiers are created on
+ * demand. The last identifier carries the save point of the whole batch.
+ *
+ * @author CWDS TPT-2
+ */
+public class LicenseNumberIdentifiers extends
+    AbstractList<ChangedEntityIdentifier<LicenseNumberSavePoint>> implements RandomAccess {
+
+  private final int[] licenseNumbers;
+
+  private final LicenseNumberSavePoint batchSavePoint;
+
+  public LicenseNumberIdentifiers(int[] licenseNumbers, LicenseNumberSavePoint batchSavePoint) {
+    this.licenseNumbers = licenseNumbers;
+    this.batchSavePoint = batchSavePoint;
+  }
+
+  @Override
+  public ChangedEntityIdentifier<LicenseNumberSavePoint> get(int index) {
+    if (index == licenseNumbers.length - 1) {
+      return new LicenseNumberIdentifier(licenseNumbers[index], batchSavePoint);
+    }
+    return new LicenseNumberIdentifier(licenseNumbers[index]);
+  }
+
+  @Override
+  public int size() {
+    return licenseNumbers.length;
+  }
+
+}
@@ -6,7 +6,6 @@ import com.google.inject.Inject;
 import gov.ca.cwds.jobs.cals.facility.lisfas.dao.FirstIncrementalSavePointDao;
 import gov.ca.cwds.jobs.cals.facility.lisfas.dao.LicenseNumberIdentifierDao;
 import gov.ca.cwds.jobs.cals.facility.lisfas.dao.LisTimestampIdentifierDao;
-import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LicenseNumberSavePoint;
 import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
 import io.dropwizard.hibernate.UnitOfWork;
@@ -28,19 +27,28 @@ public class LisChangedEntitiesIdentifiersService {
   @Inject
   private FirstIncrementalSavePointDao firstIncrementalSavePointDao;
 
-  @UnitOfWork(LIS)
-  public List<ChangedEntityIdentifier<LicenseNumberSavePoint>> getIdentifiersForInitialLoad(
-      int lastId) {
-    return licenseNumberIdentifierDao.getInitialLoadStream(lastId);
+  @UnitOfWork(value = LIS, readOnly = true)
+  public int[] getLicenseNumbersForInitialLoad(int licenseNumberAfter, int licenseNumberTo,
+      int maxResults) {
+    return licenseNumberIdentifierDao
+        .getInitialLoadStream(licenseNumberAfter, licenseNumberTo, maxResults);
   }
 
-  @UnitOfWork(LIS)
+  @UnitOfWork(value = LIS, readOnly = true)
+  public int findMaxLicenseNumber() {
+    return licenseNumberIdentifierDao.findMaxLicenseNumber();
+  }
+
+  @UnitOfWork(value = LIS, readOnly = true)
   public List<ChangedEntityIdentifier<TimestampSavePoint<BigInteger>>> getIdentifiersForIncrementalLoad(
-      BigInteger savePoint) {
-    return lisTimestampIdentifierDao.getIncrementalLoadStream(savePoint);
+      TimestampSavePoint<BigInteger> savePoint) {
+    Integer facNbrAfter =
+        savePoint.getIdentifier() == null ? null : Integer.valueOf(savePoint.getIdentifier());
+    return lisTimestampIdentifierDao
+        .getIncrementalLoadStream(savePoint.getTimestamp(), facNbrAfter);
   }
 
-  @UnitOfWork(LIS)
+  @UnitOfWork(value = LIS, readOnly = true)
   public BigInteger findMaxTimestamp() {
     return firstIncrementalSavePointDao.findMaxTimestamp();
   }
@@ -19,10 +19,15 @@ import org.hibernate.annotations.NamedQuery;
 @Entity
 public class LisTimestampIdentifier extends TimestampIdentifier<BigInteger> {
 
+  /**
+   * Keyset continuation on (timestamp, facNbr). Null facNbrAfter means that all the facilities
+   * with dateAfter timestamp are already processed.
+   */
   public static final String INCREMENTAL_LOAD_SQL =
       "select new LisTimestampIdentifier(facNbr, timestamp) "
-          + SHARED_PART + " and timestamp > :dateAfter " +
-          "order by timestamp, facNbr";
+          + SHARED_PART + " and timestamp >= :dateAfter "
+          + " and (timestamp > :dateAfter or facNbr > :facNbrAfter) "
+          + "order by timestamp, facNbr";
 
   public static final String LIS_INCREMENTAL_LOAD_QUERY_NAME = "RecordChange.lisIncrementalLoadQuery";
 
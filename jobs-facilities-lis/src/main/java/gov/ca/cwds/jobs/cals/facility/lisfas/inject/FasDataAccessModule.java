@@ -6,6 +6,7 @@ import gov.ca.cwds.cals.inject.FasFfaSessionFactory;
 import gov.ca.cwds.cals.inject.FasSessionFactory;
 import gov.ca.cwds.cals.persistence.model.fas.LpaInformation;
 import gov.ca.cwds.jobs.common.inject.DataAccessModule;
+import gov.ca.cwds.jobs.common.util.SessionFactoryParameters;
 import io.dropwizard.db.DataSourceFactory;
 import org.hibernate.SessionFactory;
 
@@ -20,8 +21,19 @@ public class FasDataAccessModule extends DataAccessModule {
           LpaInformation.class
       ).build();
 
-  public FasDataAccessModule(DataSourceFactory dataSourceFactory) {
-    super(dataSourceFactory, DataSourceName.FAS.name(), fasEntityClasses);
+  /**
+   * LPA information is read for every facility, it is cached read-only and loaded at once.
+   */
+  public static final ImmutableList<Class<?>> fasDictionaryClasses =
+      ImmutableList.<Class<?>>builder().add(
+          LpaInformation.class
+      ).build();
+
+  public FasDataAccessModule(DataSourceFactory dataSourceFactory, int readerThreadsCount) {
+    super(new SessionFactoryParameters(dataSourceFactory, DataSourceName.FAS.name(),
+        fasEntityClasses)
+        .withDictionaryClasses(fasDictionaryClasses)
+        .withReaderThreadsCount(readerThreadsCount));
   }
 
   @Override
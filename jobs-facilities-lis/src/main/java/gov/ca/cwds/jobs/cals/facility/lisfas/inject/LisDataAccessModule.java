@@ -12,6 +12,7 @@ import gov.ca.cwds.jobs.cals.facility.lisfas.dao.LicenseNumberIdentifierDao;
 import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LicenseNumberIdentifier;
 import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LisTimestampIdentifier;
 import gov.ca.cwds.jobs.common.inject.DataAccessModule;
+import gov.ca.cwds.jobs.common.util.SessionFactoryParameters;
 import io.dropwizard.db.DataSourceFactory;
 import org.hibernate.SessionFactory;
 
@@ -29,8 +30,15 @@ public class LisDataAccessModule extends DataAccessModule {
           LisDoFile.class
       ).build();
 
-  public LisDataAccessModule(DataSourceFactory dataSourceFactory) {
-    super(dataSourceFactory, DataSourceName.LIS.name(), lisEntityClasses);
+  /**
+   * @param rangesCount license number ranges read in parallel during initial load
+   */
+  public LisDataAccessModule(DataSourceFactory dataSourceFactory, int readerThreadsCount,
+      int rangesCount) {
+    super(new SessionFactoryParameters(dataSourceFactory, DataSourceName.LIS.name(),
+        lisEntityClasses)
+        .withReaderThreadsCount(readerThreadsCount)
+        .withPrimaryThreadsCount(rangesCount));
   }
 
   @Override
@@ -94,8 +94,11 @@ public class LisFacilityJobModule extends BaseFacilityJobModule<LisFacilityJobCo
         new TypeLiteral<SavePointContainerService<LicenseNumberSavePoint>>() {
         }).annotatedWith(PrimaryContainerService.class)
         .to(LicenseNumberSavePointContainerServiceDecorator.class);
-    install(new LisDataAccessModule(getJobConfiguration().getLisDataSourceFactory()));
-    install(new FasDataAccessModule(getJobConfiguration().getFasDataSourceFactory()));
+    int readerThreadsCount = getJobConfiguration().getMultiThread().getReaderThreadsCount();
+    install(new LisDataAccessModule(getJobConfiguration().getLisDataSourceFactory(),
+        readerThreadsCount, getJobConfiguration().getInitialLoadRangesCount()));
+    install(new FasDataAccessModule(getJobConfiguration().getFasDataSourceFactory(),
+        readerThreadsCount));
   }
 
   private void configureJobModes() {
@@ -109,6 +112,8 @@ public class LisFacilityJobModule extends BaseFacilityJobModule<LisFacilityJobCo
             getPrimaryJobFinalizerProviderClass());
         bind(new TypeLiteral<JobBatchIterator<LicenseNumberSavePoint>>() {
         }).to(LisInitialModeIterator.class);
+        bindConstant().annotatedWith(LisInitialLoadRangesCount.class)
+            .to(getJobConfiguration().getInitialLoadRangesCount());
         break;
       case INCREMENTAL_LOAD:
         bind(Job.class).to(LisIncrementalFacilityJob.class);
@@ -2,12 +2,13 @@ package gov.ca.cwds.jobs.cals.facility.lisfas.mode;
 
 import com.google.inject.Inject;
 import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LisChangedEntitiesIdentifiersService;
-import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LisTimestampSavePoint;
 import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LisTimestampSavePointService;
 import gov.ca.cwds.jobs.common.batch.JobBatch;
 import gov.ca.cwds.jobs.common.iterator.JobBatchIterator;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
 import java.math.BigInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Created by Alexander Serbin on 10/16/2018
@@ -15,6 +16,9 @@ import java.math.BigInteger;
 public class LisIncrementalModeIterator implements
     JobBatchIterator<TimestampSavePoint<BigInteger>> {
 
+  private static final Logger LOGGER = LoggerFactory
+      .getLogger(LisIncrementalModeIterator.class);
+
   @Inject
   private LisTimestampSavePointService lisTimestampSavePointService;
 
@@ -23,11 +27,10 @@ public class LisIncrementalModeIterator implements
 
   @Override
   public JobBatch<TimestampSavePoint<BigInteger>> getNextPortion() {
-    LisTimestampSavePoint savePoint = (LisTimestampSavePoint) lisTimestampSavePointService
-        .loadSavePoint();
+    TimestampSavePoint<BigInteger> savePoint = lisTimestampSavePointService.loadSavePoint();
+    LOGGER.info("Getting next portion after {}", savePoint);
     return new JobBatch<>(
-        changedEntitiesIdentifiersService
-            .getIdentifiersForIncrementalLoad(savePoint.getTimestamp()));
+        changedEntitiesIdentifiersService.getIdentifiersForIncrementalLoad(savePoint));
   }
 
 }
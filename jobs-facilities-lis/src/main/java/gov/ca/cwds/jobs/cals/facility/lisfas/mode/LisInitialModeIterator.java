@@ -1,19 +1,31 @@
 package gov.ca.cwds.jobs.cals.facility.lisfas.mode;
 
 import com.google.inject.Inject;
+import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LicenseNumberIdentifiers;
 import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LisChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.cals.facility.lisfas.inject.LisInitialLoadRangesCount;
 import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LicenseNumberSavePoint;
 import gov.ca.cwds.jobs.common.batch.JobBatch;
 import gov.ca.cwds.jobs.common.batch.JobBatchSize;
-import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.exception.JobsException;
 import gov.ca.cwds.jobs.common.iterator.JobBatchIterator;
+import gov.ca.cwds.jobs.common.savepoint.SavePointService;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Splits license numbers into ranges which are read in parallel. Every batch contains the next
+ * page of every unfinished range, the batch save point keeps the position within every range.
+ * The last range has no upper bound, so facilities created during the load are read as well.
+ *
  * Created by Alexander Serbin on 10/16/2018
  */
 public class LisInitialModeIterator implements JobBatchIterator<LicenseNumberSavePoint> {
@@ -21,41 +33,121 @@ public class LisInitialModeIterator implements JobBatchIterator<LicenseNumberSav
   private static final Logger LOGGER = LoggerFactory
       .getLogger(LisInitialModeIterator.class);
 
-  protected int lastId;
+  static final int OPEN_UPPER_BOUND = Integer.MAX_VALUE;
 
   @Inject
   @JobBatchSize
   private int batchSize;
 
+  @Inject
+  @LisInitialLoadRangesCount
+  private int rangesCount;
+
   @Inject
   private LisChangedEntitiesIdentifiersService changedEntitiesIdentifiersService;
 
-  private List<ChangedEntityIdentifier<LicenseNumberSavePoint>> getNextPage() {
-    return changedEntitiesIdentifiersService
-        .getIdentifiersForInitialLoad(lastId);
-  }
+  @Inject
+  private SavePointService<LicenseNumberSavePoint> savePointService;
+
+  private int[] rangeUpperBounds;
+
+  private int[] rangeLicenseNumbers;
+
+  private ExecutorService executorService;
 
   @Override
   public JobBatch<LicenseNumberSavePoint> getNextPortion() {
-    List<ChangedEntityIdentifier<LicenseNumberSavePoint>> identifiers = getNextPage();
-    if (identifiers.isEmpty()) {
+    if (rangeLicenseNumbers == null) {
+      initRanges(savePointService.loadSavePoint());
+    }
+    int[] activeRanges = IntStream.range(0, rangeLicenseNumbers.length)
+        .filter(i -> rangeLicenseNumbers[i] < rangeUpperBounds[i]).toArray();
+    if (activeRanges.length == 0) {
+      shutdownExecutor();
       return new JobBatch<>(Collections.emptyList());
     }
-    lastId = getLastId(identifiers);
-    LOGGER.info("Next page prepared. List size: {}. Last Id: {}", identifiers.size(), lastId);
-    if (identifiers.size() > batchSize) {
-      identifiers = identifiers.subList(0, batchSize);
-      lastId = getLastId(identifiers);
-      LOGGER.info("Next page cut to the batch size. Adjusted list size: {}. Last Id: {}",
-          identifiers.size(), lastId);
+    int pageSize = Math.max(1, batchSize / activeRanges.length);
+    int[][] pages = loadPages(activeRanges, pageSize);
+    int total = 0;
+    for (int i = 0; i < activeRanges.length; i++) {
+      int[] page = pages[i];
+      rangeLicenseNumbers[activeRanges[i]] =
+          page.length < pageSize ? rangeUpperBounds[activeRanges[i]] : page[page.length - 1];
+      total += page.length;
     }
-    return new JobBatch<>(identifiers);
+    int[] licenseNumbers = new int[total];
+    int offset = 0;
+    for (int[] page : pages) {
+      System.arraycopy(page, 0, licenseNumbers, offset, page.length);
+      offset += page.length;
+    }
+    LicenseNumberSavePoint savePoint =
+        new LicenseNumberSavePoint(rangeUpperBounds, rangeLicenseNumbers);
+    LOGGER.info("Next page prepared. List size: {}. Active ranges: {}. Last Id: {}",
+        licenseNumbers.length, activeRanges.length, savePoint.getLicenseNumber());
+    return new JobBatch<>(new LicenseNumberIdentifiers(licenseNumbers, savePoint));
   }
 
-  protected static int getLastId(
-      List<ChangedEntityIdentifier<LicenseNumberSavePoint>> identifiers) {
-    identifiers.sort(Comparator.comparing(ChangedEntityIdentifier::getIntId));
-    return identifiers.get(identifiers.size() - 1).getIntId();
+  private void initRanges(LicenseNumberSavePoint savePoint) {
+    if (savePoint.getRangeUpperBounds() != null) {
+      rangeUpperBounds = savePoint.getRangeUpperBounds().clone();
+      rangeLicenseNumbers = savePoint.getRangeLicenseNumbers().clone();
+      // save points written before the last range was open still have it bounded
+      rangeUpperBounds[rangeUpperBounds.length - 1] = OPEN_UPPER_BOUND;
+      LOGGER.info("Resuming {} license number ranges", rangeUpperBounds.length);
+    } else {
+      int count = Math.max(1, rangesCount);
+      long first = savePoint.getLicenseNumber();
+      long last = Math.max(first, changedEntitiesIdentifiersService.findMaxLicenseNumber());
+      rangeUpperBounds = new int[count];
+      rangeLicenseNumbers = new int[count];
+      for (int i = 0; i < count; i++) {
+        rangeUpperBounds[i] = i == count - 1 ? OPEN_UPPER_BOUND
+            : (int) (first + (last - first) * (i + 1) / count);
+        rangeLicenseNumbers[i] = i == 0 ? (int) first : rangeUpperBounds[i - 1];
+      }
+      LOGGER.info("License numbers after {} are split into {} ranges, current max is {}",
+          first, count, last);
+    }
   }
 
+  private int[][] loadPages(int[] activeRanges, int pageSize) {
+    if (executorService == null) {
+      executorService = Executors.newFixedThreadPool(rangeUpperBounds.length, runnable -> {
+        Thread thread = new Thread(runnable, "lis-initial-ranges");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    List<Future<int[]>> futures = new ArrayList<>(activeRanges.length);
+    for (int range : activeRanges) {
+      int licenseNumberAfter = rangeLicenseNumbers[range];
+      int licenseNumberTo = rangeUpperBounds[range];
+      futures.add(executorService.submit(() -> changedEntitiesIdentifiersService
+          .getLicenseNumbersForInitialLoad(licenseNumberAfter, licenseNumberTo, pageSize)));
+    }
+    int[][] pages = new int[activeRanges.length][];
+    try {
+      for (int i = 0; i < pages.length; i++) {
+        pages[i] = futures.get(i).get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      shutdownExecutor();
+      throw new JobsException("Can't load license numbers", e);
+    } catch (ExecutionException e) {
+      shutdownExecutor();
+      throw new JobsException("Can't load license numbers", e);
+    }
+    return pages;
+  }
+
+  private void shutdownExecutor() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+      executorService = null;
+    }
+  }
+
+
 }
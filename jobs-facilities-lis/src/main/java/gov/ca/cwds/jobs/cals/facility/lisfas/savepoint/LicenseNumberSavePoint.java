@@ -1,5 +1,7 @@
 package gov.ca.cwds.jobs.cals.facility.lisfas.savepoint;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import gov.ca.cwds.jobs.common.savepoint.SavePoint;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -9,12 +11,39 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  */
 public class LicenseNumberSavePoint implements SavePoint, Comparable<LicenseNumberSavePoint> {
 
+  /**
+   * All the license numbers up to this one are processed.
+   */
   private int licenseNumber;
 
+  /**
+   * Upper bounds of license number ranges processed in parallel during initial load.
+   */
+  @JsonInclude(Include.NON_NULL)
+  private int[] rangeUpperBounds;
+
+  /**
+   * Last processed license number within every range.
+   */
+  @JsonInclude(Include.NON_NULL)
+  private int[] rangeLicenseNumbers;
+
+  public LicenseNumberSavePoint() {
+  }
+
   public LicenseNumberSavePoint(int licenseNumber) {
     this.licenseNumber = licenseNumber;
   }
 
+  public LicenseNumberSavePoint(int[] rangeUpperBounds, int[] rangeLicenseNumbers) {
+    this.rangeUpperBounds = rangeUpperBounds.clone();
+    this.rangeLicenseNumbers = rangeLicenseNumbers.clone();
+    this.licenseNumber = rangeLicenseNumbers.length == 0 ? 0 : rangeLicenseNumbers[0];
+    for (int rangeLicenseNumber : rangeLicenseNumbers) {
+      licenseNumber = Math.min(licenseNumber, rangeLicenseNumber);
+    }
+  }
+
   public int getLicenseNumber() {
     return licenseNumber;
   }
@@ -23,6 +52,22 @@ public class LicenseNumberSavePoint implements SavePoint, Comparable<LicenseNumb
     this.licenseNumber = licenseNumber;
   }
 
+  public int[] getRangeUpperBounds() {
+    return rangeUpperBounds;
+  }
+
+  public void setRangeUpperBounds(int[] rangeUpperBounds) {
+    this.rangeUpperBounds = rangeUpperBounds;
+  }
+
+  public int[] getRangeLicenseNumbers() {
+    return rangeLicenseNumbers;
+  }
+
+  public void setRangeLicenseNumbers(int[] rangeLicenseNumbers) {
+    this.rangeLicenseNumbers = rangeLicenseNumbers;
+  }
+
   @Override
   public boolean equals(Object o) {
     return EqualsBuilder.reflectionEquals(this, o);
@@ -28,7 +28,7 @@ public class LicenseNumberSavePointService extends
 
   @Override
   public void saveSavePoint(LicenseNumberSavePoint savePoint) {
-    if (savePoint.getLicenseNumber() != 0) {
+    if (savePoint.getLicenseNumber() != 0 || savePoint.getRangeLicenseNumbers() != null) {
       JobMode jobMode = jobModeService.getCurrentJobMode();
       LicenseNumberSavePointContainer savePointContainer = new LicenseNumberSavePointContainer();
       savePointContainer.setJobMode(jobMode);
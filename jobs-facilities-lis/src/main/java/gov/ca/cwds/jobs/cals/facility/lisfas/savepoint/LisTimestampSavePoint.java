@@ -15,6 +15,10 @@ public class LisTimestampSavePoint extends TimestampSavePoint<BigInteger> {
     super(timestamp);
   }
 
+  public LisTimestampSavePoint(BigInteger timestamp, String identifier) {
+    super(timestamp, identifier);
+  }
+
   @Override
   public int compareTo(TimestampSavePoint<BigInteger> o) {
     if (o.getTimestamp() == null) {
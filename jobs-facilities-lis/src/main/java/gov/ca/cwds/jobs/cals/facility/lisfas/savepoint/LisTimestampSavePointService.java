@@ -2,6 +2,8 @@ package gov.ca.cwds.jobs.cals.facility.lisfas.savepoint;
 
 import com.google.inject.Inject;
 import gov.ca.cwds.jobs.cals.facility.lisfas.mode.LisJobModeService;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
 import gov.ca.cwds.jobs.common.inject.PrimaryContainerService;
 import gov.ca.cwds.jobs.common.mode.JobMode;
 import gov.ca.cwds.jobs.common.savepoint.SavePointContainer;
@@ -9,6 +11,7 @@ import gov.ca.cwds.jobs.common.savepoint.SavePointContainerService;
 import gov.ca.cwds.jobs.common.savepoint.SavePointServiceImpl;
 import gov.ca.cwds.jobs.common.savepoint.TimestampSavePoint;
 import java.math.BigInteger;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +31,17 @@ public class LisTimestampSavePointService extends
   @PrimaryContainerService
   private SavePointContainerService<TimestampSavePoint<BigInteger>> savePointContainerService;
 
+  @Override
+  public TimestampSavePoint<BigInteger> defineSavepoint(
+      JobBatch<TimestampSavePoint<BigInteger>> jobBatch) {
+    List<ChangedEntityIdentifier<TimestampSavePoint<BigInteger>>> changedEntityIdentifiers =
+        jobBatch.getChangedEntityIdentifiers();
+    ChangedEntityIdentifier<TimestampSavePoint<BigInteger>> lastIdentifier =
+        changedEntityIdentifiers.get(changedEntityIdentifiers.size() - 1);
+    return new LisTimestampSavePoint(lastIdentifier.getSavePoint().getTimestamp(),
+        lastIdentifier.getId());
+  }
+
   @Override
   public void saveSavePoint(TimestampSavePoint<BigInteger> savePoint) {
     if (savePoint.getTimestamp() != null) {
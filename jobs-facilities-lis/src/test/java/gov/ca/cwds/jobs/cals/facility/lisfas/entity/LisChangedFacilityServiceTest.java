@@ -0,0 +1,135 @@
+package gov.ca.cwds.jobs.cals.facility.lisfas.entity;
+
+import static gov.ca.cwds.test.support.DatabaseHelper.setUpDatabase;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import gov.ca.cwds.DataSourceName;
+import gov.ca.cwds.cals.inject.CalsnsSessionFactory;
+import gov.ca.cwds.cals.inject.FasSessionFactory;
+import gov.ca.cwds.cals.inject.LisSessionFactory;
+import gov.ca.cwds.cals.persistence.model.fas.LpaInformation;
+import gov.ca.cwds.jobs.cals.facility.ChangedFacilityDto;
+import gov.ca.cwds.jobs.cals.facility.FacilityTestWriter;
+import gov.ca.cwds.jobs.cals.facility.lisfas.LisFacilityJobConfiguration;
+import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LicenseNumberIdentifier;
+import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LisChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.cals.facility.lisfas.inject.LisFacilityJobModule;
+import gov.ca.cwds.jobs.common.configuration.JobConfiguration;
+import gov.ca.cwds.jobs.common.entity.ChangedEntityService;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.inject.IndexName;
+import gov.ca.cwds.jobs.common.inject.JobModule;
+import gov.ca.cwds.jobs.common.inject.MultiThreadModule;
+import gov.ca.cwds.jobs.common.mode.JobMode;
+import gov.ca.cwds.jobs.utils.DataSourceFactoryUtils;
+import java.lang.annotation.Annotation;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import liquibase.exception.LiquibaseException;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * LPA information read for every facility is served by the second-level cache warmed up when
+ * the FAS session factory is built, no FAS statement is executed while facilities are loaded.
+ */
+public class LisChangedFacilityServiceTest {
+
+  private static final int FACILITIES_COUNT = 20;
+
+  private Injector injector;
+
+  @Before
+  public void setUp() throws LiquibaseException {
+    LisFacilityJobConfiguration configuration = getFacilityJobConfiguration();
+    setUpDatabase(configuration.getCalsnsDataSourceFactory(), DataSourceName.NS);
+    setUpDatabase(configuration.getLisDataSourceFactory(), DataSourceName.LIS);
+    setUpDatabase(configuration.getFasDataSourceFactory(), DataSourceName.FAS);
+    Map<String, String> fasProperties = configuration.getFasDataSourceFactory().getProperties();
+    fasProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE.toString());
+    fasProperties.put(AvailableSettings.CACHE_REGION_FACTORY,
+        "org.hibernate.cache.ehcache.EhCacheRegionFactory");
+    fasProperties.put("net.sf.ehcache.configurationResourceName", "/fas-ehcache.xml");
+
+    JobModule jobModule = new JobModule(Paths.get("build").toAbsolutePath().toString());
+    jobModule.addModules(new MultiThreadModule(configuration.getMultiThread()));
+    LisFacilityJobModule lisFacilityJobModule = new TestLisFacilityJobModule(configuration);
+    lisFacilityJobModule.setFacilityElasticWriterClass(FacilityTestWriter.class);
+    jobModule.addModule(lisFacilityJobModule);
+    injector = Guice.createInjector(jobModule);
+  }
+
+  @After
+  public void tearDown() {
+    if (injector != null) {
+      getSessionFactory(FasSessionFactory.class).close();
+      getSessionFactory(LisSessionFactory.class).close();
+      getSessionFactory(CalsnsSessionFactory.class).close();
+    }
+  }
+
+  @Test
+  public void lpaInformationIsReadFromCache() {
+    int[] licenseNumbers = injector.getInstance(LisChangedEntitiesIdentifiersService.class)
+        .getLicenseNumbersForInitialLoad(0, Integer.MAX_VALUE, FACILITIES_COUNT);
+    List<ChangedEntityIdentifier> identifiers = IntStream.of(licenseNumbers)
+        .mapToObj(LicenseNumberIdentifier::new).collect(Collectors.toList());
+    SessionFactory fasSessionFactory = getSessionFactory(FasSessionFactory.class);
+    assertTrue(fasSessionFactory.getStatistics().isStatisticsEnabled());
+    fasSessionFactory.getStatistics().clear();
+
+    List<ChangedFacilityDto> facilities = injector
+        .getInstance(Key.get(new TypeLiteral<ChangedEntityService<ChangedFacilityDto>>() {
+        })).loadEntities(identifiers);
+
+    assertEquals(FACILITIES_COUNT, facilities.size());
+    SecondLevelCacheStatistics statistics = fasSessionFactory.getStatistics()
+        .getSecondLevelCacheStatistics(LpaInformation.class.getName());
+    assertTrue(statistics.getElementCountInMemory() > 0);
+    assertTrue(statistics.getHitCount() > 0);
+    assertEquals(0, statistics.getMissCount());
+    // no per facility round trip reaches FAS
+    assertEquals(0, fasSessionFactory.getStatistics().getPrepareStatementCount());
+  }
+
+  private SessionFactory getSessionFactory(Class<? extends Annotation> annotation) {
+    return injector.getInstance(Key.get(SessionFactory.class, annotation));
+  }
+
+  private static LisFacilityJobConfiguration getFacilityJobConfiguration() {
+    LisFacilityJobConfiguration configuration = JobConfiguration.getJobsConfiguration(
+        LisFacilityJobConfiguration.class,
+        Paths.get("src", "test", "resources", "lis-test-facility-job.yaml")
+            .normalize().toAbsolutePath().toString());
+    DataSourceFactoryUtils.fixDatasourceFactory(configuration.getCalsnsDataSourceFactory());
+    DataSourceFactoryUtils.fixDatasourceFactory(configuration.getLisDataSourceFactory());
+    DataSourceFactoryUtils.fixDatasourceFactory(configuration.getFasDataSourceFactory());
+    return configuration;
+  }
+
+  private static class TestLisFacilityJobModule extends LisFacilityJobModule {
+
+    TestLisFacilityJobModule(LisFacilityJobConfiguration jobConfiguration) {
+      super(jobConfiguration, JobMode.INCREMENTAL_LOAD);
+    }
+
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(IndexName.class).to("index_name");
+      super.configure();
+    }
+  }
+
+}
@@ -0,0 +1,135 @@
+package gov.ca.cwds.jobs.cals.facility.lisfas.mode;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import gov.ca.cwds.jobs.cals.facility.lisfas.identifier.LisChangedEntitiesIdentifiersService;
+import gov.ca.cwds.jobs.cals.facility.lisfas.savepoint.LicenseNumberSavePoint;
+import gov.ca.cwds.jobs.common.batch.JobBatch;
+import gov.ca.cwds.jobs.common.identifier.ChangedEntityIdentifier;
+import gov.ca.cwds.jobs.common.savepoint.SavePointService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LisInitialModeIteratorTest {
+
+  @Mock
+  private LisChangedEntitiesIdentifiersService identifiersService;
+
+  @Mock
+  private SavePointService<LicenseNumberSavePoint> savePointService;
+
+  @InjectMocks
+  private LisInitialModeIterator iterator;
+
+  @Test
+  public void testRangesSplitAndLastRangeIsOpen() throws IllegalAccessException {
+    // 150 is created after the max license number has been read
+    int[] licenseNumbers = IntStream.concat(IntStream.rangeClosed(1, 100), IntStream.of(150))
+        .toArray();
+    mockLicenseNumbers(licenseNumbers, 100);
+    when(savePointService.loadSavePoint()).thenReturn(new LicenseNumberSavePoint(0));
+    configure(40, 4);
+
+    JobBatch<LicenseNumberSavePoint> batch = iterator.getNextPortion();
+    assertEquals(40, batch.getSize());
+    assertArrayEquals(new int[]{25, 50, 75, LisInitialModeIterator.OPEN_UPPER_BOUND},
+        getBatchSavePoint(batch).getRangeUpperBounds());
+    assertArrayEquals(new int[]{10, 35, 60, 85}, getBatchSavePoint(batch).getRangeLicenseNumbers());
+
+    List<Integer> loaded = toLicenseNumbers(batch);
+    loaded.addAll(readAll());
+    loaded.sort(Integer::compare);
+    assertEquals(toList(licenseNumbers), loaded);
+  }
+
+  @Test
+  public void testEmptyRanges() throws IllegalAccessException {
+    mockLicenseNumbers(new int[]{1, 2, 3, 99}, 100);
+    when(savePointService.loadSavePoint()).thenReturn(new LicenseNumberSavePoint(0));
+    configure(40, 4);
+
+    JobBatch<LicenseNumberSavePoint> batch = iterator.getNextPortion();
+    assertEquals(toList(new int[]{1, 2, 3, 99}), toLicenseNumbers(batch));
+    assertTrue(iterator.getNextPortion().isEmpty());
+  }
+
+  @Test
+  public void testResumeFromSavePoint() throws IllegalAccessException {
+    mockLicenseNumbers(IntStream.concat(IntStream.rangeClosed(1, 100), IntStream.of(120))
+        .toArray(), 100);
+    // the first range is finished, the second one is bounded as before the last range was open
+    when(savePointService.loadSavePoint())
+        .thenReturn(new LicenseNumberSavePoint(new int[]{50, 100}, new int[]{50, 80}));
+    configure(40, 2);
+
+    List<Integer> loaded = readAll();
+    List<Integer> expected = toList(IntStream.rangeClosed(81, 100).toArray());
+    expected.add(120);
+    assertEquals(expected, loaded);
+    verify(identifiersService)
+        .getLicenseNumbersForInitialLoad(80, LisInitialModeIterator.OPEN_UPPER_BOUND, 40);
+    verify(identifiersService, never()).findMaxLicenseNumber();
+  }
+
+  private void configure(int batchSize, int rangesCount) throws IllegalAccessException {
+    FieldUtils.writeField(iterator, "batchSize", batchSize, true);
+    FieldUtils.writeField(iterator, "rangesCount", rangesCount, true);
+  }
+
+  private void mockLicenseNumbers(int[] licenseNumbers, int maxLicenseNumber) {
+    when(identifiersService.findMaxLicenseNumber()).thenReturn(maxLicenseNumber);
+    when(identifiersService.getLicenseNumbersForInitialLoad(anyInt(), anyInt(), anyInt()))
+        .thenAnswer(invocation -> {
+          Object[] arguments = invocation.getArguments();
+          int after = (Integer) arguments[0];
+          int to = (Integer) arguments[1];
+          int maxResults = (Integer) arguments[2];
+          return IntStream.of(licenseNumbers).filter(number -> number > after && number <= to)
+              .limit(maxResults).toArray();
+        });
+  }
+
+  private List<Integer> readAll() {
+    List<Integer> loaded = new ArrayList<>();
+    JobBatch<LicenseNumberSavePoint> batch = iterator.getNextPortion();
+    while (!batch.isEmpty()) {
+      loaded.addAll(toLicenseNumbers(batch));
+      batch = iterator.getNextPortion();
+    }
+    return loaded;
+  }
+
+  private static LicenseNumberSavePoint getBatchSavePoint(JobBatch<LicenseNumberSavePoint> batch) {
+    List<ChangedEntityIdentifier<LicenseNumberSavePoint>> identifiers =
+        batch.getChangedEntityIdentifiers();
+    return identifiers.get(identifiers.size() - 1).getSavePoint();
+  }
+
+  private static List<Integer> toLicenseNumbers(JobBatch<LicenseNumberSavePoint> batch) {
+    List<Integer> licenseNumbers = new ArrayList<>();
+    batch.getChangedEntityIdentifiers()
+        .forEach(identifier -> licenseNumbers.add(Integer.valueOf(identifier.getId())));
+    return licenseNumbers;
+  }
+
+  private static List<Integer> toList(int[] licenseNumbers) {
+    List<Integer> list = new ArrayList<>();
+    IntStream.of(licenseNumbers).forEach(list::add);
+    return list;
+  }
+
+}